@@ -37,7 +37,7 @@ import {
   Edit,
   Delete
 } from '@mui/icons-material';
-import { getEventById, registerForEvent, deleteEvent } from '../../services/eventService';
+import { getEventById, registerForEvent, cancelRegistration, deleteEvent, getEventRegistrations, getMyRegistrations } from '../../services/eventService';
 import { useAuth } from '../../contexts/AuthContext';
 import { formatDateRange, formatDate } from '../../utils/dateUtils';
 
@@ -51,14 +51,27 @@ const EventDetail = () => {
   const [error, setError] = useState('');
   const [tabValue, setTabValue] = useState(0);
   const [registering, setRegistering] = useState(false);
+  const [cancelling, setCancelling] = useState(false);
   const [registerError, setRegisterError] = useState('');
   const [deleteDialogOpen, setDeleteDialogOpen] = useState(false);
   const [deleting, setDeleting] = useState(false);
+  const [registration, setRegistration] = useState(null);
+  const [attendees, setAttendees] = useState(null);
 
   useEffect(() => {
     fetchEventDetails();
   }, [eventId]);
 
+  useEffect(() => {
+    fetchRegistration();
+  }, [eventId, isAuthenticated]);
+
+  useEffect(() => {
+    if (event && isOrganizer()) {
+      fetchAttendees();
+    }
+  }, [event]);
+
   const fetchEventDetails = async () => {
     try {
       setLoading(true);
@@ -72,6 +85,28 @@ const EventDetail = () => {
     }
   };
 
+  // Registrations are not part of the event; look up the current user's own for this event
+  const fetchRegistration = async () => {
+    if (!isAuthenticated) {
+      setRegistration(null);
+      return;
+    }
+    try {
+      const data = await getMyRegistrations(eventId);
+      setRegistration(data.content.find(reg => reg.status === 'CONFIRMED') || null);
+    } catch (err) {
+      console.error('Error fetching registration:', err);
+    }
+  };
+
+  const fetchAttendees = async () => {
+    try {
+      setAttendees(await getEventRegistrations(eventId));
+    } catch (err) {
+      console.error('Error fetching attendees:', err);
+    }
+  };
+
   const handleTabChange = (event, newValue) => {
     setTabValue(newValue);
   };
@@ -86,8 +121,8 @@ const EventDetail = () => {
       setRegistering(true);
       setRegisterError('');
       await registerForEvent(eventId);
-      // Refresh event details to update registration status
-      await fetchEventDetails();
+      // Refresh event details and registration status
+      await Promise.all([fetchEventDetails(), fetchRegistration()]);
     } catch (err) {
       console.error('Error registering for event:', err);
       setRegisterError(err.response?.data?.message || 'Failed to register for this event. Please try again.');
@@ -96,6 +131,21 @@ const EventDetail = () => {
     }
   };
 
+  const handleCancelRegistration = async () => {
+    try {
+      setCancelling(true);
+      setRegisterError('');
+      await cancelRegistration(registration.id);
+      // Refresh event details and registration status
+      await Promise.all([fetchEventDetails(), fetchRegistration()]);
+    } catch (err) {
+      console.error('Error cancelling registration:', err);
+      setRegisterError(err.response?.data?.message || 'Failed to cancel your registration. Please try again.');
+    } finally {
+      setCancelling(false);
+    }
+  };
+
   const handleEditEvent = () => {
     navigate(`/events/${eventId}/edit`);
   };
@@ -114,10 +164,7 @@ const EventDetail = () => {
     }
   };
 
-  const isUserRegistered = () => {
-    if (!isAuthenticated || !event || !event.registrations) return false;
-    return event.registrations.some(reg => reg.userId === currentUser.id);
-  };
+  const isUserRegistered = () => isAuthenticated && registration !== null;
 
   const isOrganizer = () => {
     if (!isAuthenticated || !event) return false;
@@ -421,9 +468,20 @@ const EventDetail = () => {
               )}
               
               {isUserRegistered() ? (
-                <Alert severity="success" sx={{ mb: 2 }}>
-                  You are registered for this event!
-                </Alert>
+                <>
+                  <Alert severity="success" sx={{ mb: 2 }}>
+                    You are registered for this event!
+                  </Alert>
+                  <Button
+                    variant="outlined"
+                    color="error"
+                    fullWidth
+                    disabled={cancelling}
+                    onClick={handleCancelRegistration}
+                  >
+                    {cancelling ? <CircularProgress size={24} /> : 'Cancel Registration'}
+                  </Button>
+                </>
               ) : (
                 <Button
                   variant="contained"
@@ -497,6 +555,35 @@ const EventDetail = () => {
               </Typography>
             </CardContent>
           </Card>
+
+          {attendees && (
+            <Card sx={{ mt: 3 }}>
+              <CardContent>
+                <Typography variant="h6" gutterBottom>
+                  Attendees ({attendees.totalElements})
+                </Typography>
+                {attendees.content.length === 0 ? (
+                  <Typography variant="body2" color="text.secondary">
+                    No one has registered yet.
+                  </Typography>
+                ) : (
+                  <List dense>
+                    {attendees.content.map((reg) => (
+                      <ListItem key={reg.id}>
+                        <ListItemIcon>
+                          <Person fontSize="small" />
+                        </ListItemIcon>
+                        <ListItemText 
+                          primary={reg.userName} 
+                          secondary={`${reg.ticketTypeName} · ${reg.status.toLowerCase()}`} 
+                        />
+                      </ListItem>
+                    ))}
+                  </List>
+                )}
+              </CardContent>
+            </Card>
+          )}
         </Grid>
       </Grid>
 
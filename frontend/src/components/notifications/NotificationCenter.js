@@ -17,11 +17,15 @@ import {
   Notifications as NotificationsIcon,
   MarkEmailRead as MarkReadIcon
 } from '@mui/icons-material';
-import { getUserNotifications, markNotificationAsRead } from '../../services/userService';
+import { getUserNotifications, getUnreadNotifications, markNotificationAsRead } from '../../services/userService';
 import { formatDate } from '../../utils/dateUtils';
 
+// The popover shows the newest notifications; the profile page pages through the rest
+const PAGE_SIZE = 10;
+
 const NotificationCenter = () => {
   const [notifications, setNotifications] = useState([]);
+  const [unreadCount, setUnreadCount] = useState(0);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState(null);
   const [anchorEl, setAnchorEl] = useState(null);
@@ -38,8 +42,12 @@ const NotificationCenter = () => {
   const fetchNotifications = async () => {
     try {
       setLoading(true);
-      const data = await getUserNotifications();
-      setNotifications(data);
+      const [data, unread] = await Promise.all([
+        getUserNotifications(0, PAGE_SIZE),
+        getUnreadNotifications(0, 1)
+      ]);
+      setNotifications(data.content);
+      setUnreadCount(unread.totalElements);
       setError(null);
     } catch (err) {
       console.error('Error fetching notifications:', err);
@@ -58,6 +66,7 @@ const NotificationCenter = () => {
           ? { ...notification, read: true } 
           : notification
       ));
+      setUnreadCount(count => Math.max(count - 1, 0));
     } catch (err) {
       console.error('Error marking notification as read:', err);
     }
@@ -72,6 +81,7 @@ const NotificationCenter = () => {
         )
       );
       setNotifications(notifications.map(notification => ({ ...notification, read: true })));
+      setUnreadCount(count => Math.max(count - unreadNotifications.length, 0));
     } catch (err) {
       console.error('Error marking all notifications as read:', err);
     }
@@ -97,12 +107,12 @@ const NotificationCenter = () => {
       setNotifications(notifications.map(n => 
         n.id === notification.id ? { ...n, read: true } : n
       ));
+      setUnreadCount(count => Math.max(count - 1, 0));
     }
     
     handleClose();
   };
 
-  const unreadCount = notifications.filter(notification => !notification.read).length;
   const open = Boolean(anchorEl);
   const id = open ? 'notification-popover' : undefined;
 
@@ -23,7 +23,8 @@ import {
   Alert,
   CircularProgress,
   Badge,
-  Chip
+  Chip,
+  Pagination
 } from '@mui/material';
 import {
   Edit as EditIcon,
@@ -34,7 +35,7 @@ import {
   MarkEmailRead as MarkReadIcon
 } from '@mui/icons-material';
 import { useAuth } from '../../contexts/AuthContext';
-import { getCurrentUserProfile, updateUserProfile, getUserNotifications, markNotificationAsRead } from '../../services/userService';
+import { getCurrentUserProfile, updateUserProfile, getUserNotifications, getUnreadNotifications, markNotificationAsRead } from '../../services/userService';
 import { getEventsOrganizedByUser, getEventsRegisteredByUser } from '../../services/eventService';
 import { formatDate } from '../../utils/dateUtils';
 
@@ -47,15 +48,21 @@ const UserProfile = () => {
   const [editMode, setEditMode] = useState(false);
   const [saving, setSaving] = useState(false);
   const [notifications, setNotifications] = useState([]);
+  const [notificationPage, setNotificationPage] = useState(1);
+  const [notificationPages, setNotificationPages] = useState(1);
+  const [unreadNotificationsCount, setUnreadNotificationsCount] = useState(0);
   const [organizedEvents, setOrganizedEvents] = useState([]);
   const [registeredEvents, setRegisteredEvents] = useState([]);
   const [loadingEvents, setLoadingEvents] = useState(false);
 
   useEffect(() => {
     fetchUserProfile();
-    fetchNotifications();
   }, []);
 
+  useEffect(() => {
+    fetchNotifications();
+  }, [notificationPage]);
+
   const fetchUserProfile = async () => {
     try {
       setLoading(true);
@@ -71,8 +78,13 @@ const UserProfile = () => {
 
   const fetchNotifications = async () => {
     try {
-      const data = await getUserNotifications();
-      setNotifications(data);
+      const [data, unread] = await Promise.all([
+        getUserNotifications(notificationPage - 1),
+        getUnreadNotifications(0, 1)
+      ]);
+      setNotifications(data.content);
+      setNotificationPages(data.totalPages);
+      setUnreadNotificationsCount(unread.totalElements);
     } catch (err) {
       console.error('Error fetching notifications:', err);
     }
@@ -112,6 +124,7 @@ const UserProfile = () => {
           ? { ...notification, read: true } 
           : notification
       ));
+      setUnreadNotificationsCount(count => Math.max(count - 1, 0));
     } catch (err) {
       console.error('Error marking notification as read:', err);
     }
@@ -181,7 +194,9 @@ const UserProfile = () => {
     );
   }
 
-  const unreadNotificationsCount = notifications.filter(notification => !notification.read).length;
+  const handleNotificationPageChange = (event, value) => {
+    setNotificationPage(value);
+  };
 
   return (
     <Container maxWidth="lg" sx={{ py: 4 }}>
@@ -412,6 +427,16 @@ const UserProfile = () => {
                       ))}
                     </List>
                   )}
+                  {notificationPages > 1 && (
+                    <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+                      <Pagination 
+                        count={notificationPages} 
+                        page={notificationPage} 
+                        onChange={handleNotificationPageChange} 
+                        color="primary" 
+                      />
+                    </Box>
+                  )}
                 </>
               )}
             </Box>
@@ -69,10 +69,21 @@ export const registerForEvent = async (eventId, registrationData) => {
   }
 };
 
-// Get event registrations (for organizers)
-export const getEventRegistrations = async (eventId) => {
+// Cancel a registration; its ID comes from getMyRegistrations or getEventRegistrations
+export const cancelRegistration = async (registrationId) => {
   try {
-    const response = await axios.get(`${API_URL}/${eventId}/registrations`);
+    const response = await axios.put(`${API_URL}/registrations/${registrationId}/cancel`);
+    return response.data;
+  } catch (error) {
+    console.error(`Error cancelling registration ${registrationId}:`, error);
+    throw error;
+  }
+};
+
+// Get a page of event registrations, newest first (for organizers)
+export const getEventRegistrations = async (eventId, page = 0, size = 20) => {
+  try {
+    const response = await axios.get(`${API_URL}/${eventId}/registrations`, { params: { page, size } });
     return response.data;
   } catch (error) {
     console.error(`Error fetching registrations for event ${eventId}:`, error);
@@ -91,13 +102,14 @@ export const getMyEvents = async () => {
   }
 };
 
-// Get events user is registered for
-export const getMyRegisteredEvents = async () => {
+// Get a page of the current user's registrations, newest first, optionally for one event
+export const getMyRegistrations = async (eventId = null, page = 0, size = 20) => {
   try {
-    const response = await axios.get('/api/users/me/registrations');
+    const params = eventId ? { eventId, page, size } : { page, size };
+    const response = await axios.get('/api/users/me/registrations', { params });
     return response.data;
   } catch (error) {
-    console.error('Error fetching registered events:', error);
+    console.error('Error fetching registrations:', error);
     throw error;
   }
 };
\ No newline at end of file
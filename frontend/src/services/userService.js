@@ -24,10 +24,10 @@ export const updateUserProfile = async (profileData) => {
   }
 };
 
-// Get user notifications
-export const getUserNotifications = async () => {
+// Get a page of user notifications, newest first
+export const getUserNotifications = async (page = 0, size = 20) => {
   try {
-    const response = await axios.get(`${API_URL}/me/notifications`);
+    const response = await axios.get(`${API_URL}/me/notifications`, { params: { page, size } });
     return response.data;
   } catch (error) {
     console.error('Error fetching user notifications:', error);
@@ -35,6 +35,17 @@ export const getUserNotifications = async () => {
   }
 };
 
+// Get a page of unread user notifications, newest first
+export const getUnreadNotifications = async (page = 0, size = 20) => {
+  try {
+    const response = await axios.get(`${API_URL}/me/notifications/unread`, { params: { page, size } });
+    return response.data;
+  } catch (error) {
+    console.error('Error fetching unread notifications:', error);
+    throw error;
+  }
+};
+
 // Mark notification as read
 export const markNotificationAsRead = async (notificationId) => {
   try {
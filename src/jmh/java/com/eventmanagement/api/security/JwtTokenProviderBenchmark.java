@@ -0,0 +1,75 @@
+package com.eventmanagement.api.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of issuing and verifying JWTs.
+ * With verifiedCache=false every verification checks the signature, as on the first request with a token;
+ * with verifiedCache=true repeat verifications are served from the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"false", "true"})
+    private boolean verifiedCache;
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "benchmarkSecretKeyThatIsLongEnoughForHmacSha512SigningOfJsonWebTokens0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", verifiedCache ? 10_000L : 0L);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxTtl", Duration.ofMinutes(5));
+        tokenProvider.init();
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"),
+                new SimpleGrantedAuthority("ROLE_ORGANIZER"));
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID().toString(), "organizer@example.com", authorities);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
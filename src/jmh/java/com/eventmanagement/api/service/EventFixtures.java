@@ -0,0 +1,147 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.dto.event.EventRequest;
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Realistic event payloads shared by the benchmarks.
+ * A typical conference: 12 speakers, 8 agenda items with 4 sessions each and 4 ticket types.
+ */
+public final class EventFixtures {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 10, 9, 0);
+
+    private EventFixtures() {
+    }
+
+    /**
+     * Create the request for a typical conference.
+     *
+     * @return The event request DTO
+     */
+    public static EventRequest eventRequest() {
+        List<EventRequest.SpeakerDto> speakers = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            speakers.add(EventRequest.SpeakerDto.builder()
+                    .name("Speaker " + i)
+                    .bio("Principal engineer with fifteen years of experience in distributed systems and data platforms.")
+                    .photoUrl("https://cdn.example.com/speakers/" + i + ".jpg")
+                    .company("Company " + i)
+                    .jobTitle("Principal Engineer")
+                    .socialLinks(List.of("https://twitter.com/speaker" + i, "https://github.com/speaker" + i))
+                    .build());
+        }
+
+        List<EventRequest.AgendaItemDto> agenda = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            List<EventRequest.SessionDto> sessions = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                sessions.add(EventRequest.SessionDto.builder()
+                        .title("Session " + i + "." + j)
+                        .description("A deep dive into production lessons learned, with live demos and Q&A.")
+                        .location("Room " + (char) ('A' + j))
+                        .startTime(START.plusHours(i))
+                        .endTime(START.plusHours(i).plusMinutes(45))
+                        .speakerIds(List.of("speaker-" + j, "speaker-" + (j + 4)))
+                        .capacity(120)
+                        .sessionType("TALK")
+                        .additionalInfo(Map.of("level", "intermediate", "language", "en"))
+                        .build());
+            }
+            agenda.add(EventRequest.AgendaItemDto.builder()
+                    .title("Track block " + i)
+                    .description("Parallel tracks")
+                    .startTime(START.plusHours(i))
+                    .endTime(START.plusHours(i + 1))
+                    .type("TRACK")
+                    .sessions(sessions)
+                    .build());
+        }
+
+        List<EventRequest.TicketTypeDto> ticketTypes = new ArrayList<>();
+        for (String name : List.of("Early Bird", "Regular", "Student", "VIP")) {
+            ticketTypes.add(EventRequest.TicketTypeDto.builder()
+                    .name(name)
+                    .description(name + " admission to all sessions")
+                    .price(199.0)
+                    .quantity(500)
+                    .saleStartDate(START.minusMonths(3))
+                    .saleEndDate(START.minusDays(1))
+                    .isAvailable(true)
+                    .build());
+        }
+
+        return EventRequest.builder()
+                .title("International Kotlin and Spring Conference")
+                .description("Two days of talks and workshops on building reliable backend systems with Kotlin and Spring.")
+                .location("Berlin, Germany")
+                .startDate(START)
+                .endDate(START.plusDays(1).plusHours(9))
+                .category("Technology")
+                .imageUrl("https://cdn.example.com/events/kotlin-spring.jpg")
+                .additionalInfo(Map.of("venue", "Congress Center", "parking", "available"))
+                .speakers(speakers)
+                .agenda(agenda)
+                .ticketTypes(ticketTypes)
+                .build();
+    }
+
+    /**
+     * Create a stored event entity for a typical conference, as read from the database.
+     *
+     * @return The event entity
+     */
+    public static Event event() {
+        Event event = EventService.mapToEntity(eventRequest());
+        event.setId(UUID.randomUUID().toString());
+        event.setOrganizerId(UUID.randomUUID().toString());
+        event.setOrganizerName("Jordan Example");
+        event.setStatus("PUBLISHED");
+        event.setCreatedAt(START.minusMonths(4));
+        event.setUpdatedAt(START.minusMonths(1));
+        event.getSpeakers().forEach(speaker -> speaker.setId(UUID.randomUUID().toString()));
+        event.getAgenda().forEach(agendaItem -> {
+            agendaItem.setId(UUID.randomUUID().toString());
+            agendaItem.getSessions().forEach(session -> session.setId(UUID.randomUUID().toString()));
+        });
+        event.getTicketTypes().forEach(ticketType -> {
+            ticketType.setId(UUID.randomUUID().toString());
+            ticketType.setSold(250);
+        });
+        return event;
+    }
+
+    /**
+     * Create registration DTOs, as included in an event response.
+     *
+     * @param count The number of registrations
+     * @return The registration DTOs
+     */
+    public static List<EventResponse.RegistrationDto> registrations(int count) {
+        List<EventResponse.RegistrationDto> registrations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            registrations.add(EventResponse.RegistrationDto.builder()
+                    .id(UUID.randomUUID().toString())
+                    .userId(UUID.randomUUID().toString())
+                    .userName("Attendee " + i)
+                    .userEmail("attendee" + i + "@example.com")
+                    .ticketTypeId(UUID.randomUUID().toString())
+                    .ticketTypeName("Regular")
+                    .amountPaid(199.0)
+                    .status("CONFIRMED")
+                    .registrationDate(START.minusDays(i % 90))
+                    .confirmationCode(UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                    .sessionIds(List.of("session-" + (i % 32)))
+                    .attendeeInfo(Map.of("dietary", "none", "tshirt", "M"))
+                    .build());
+        }
+        return registrations;
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.dto.event.EventRequest;
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.model.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mapping between event entities, requests and responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EventMappingBenchmark {
+
+    private Event event;
+    private EventRequest eventRequest;
+
+    @Setup
+    public void setUp() {
+        event = EventFixtures.event();
+        eventRequest = EventFixtures.eventRequest();
+    }
+
+    @Benchmark
+    public EventResponse eventResponseFromEntity() {
+        return EventResponse.fromEntity(event);
+    }
+
+    @Benchmark
+    public Event mapToEntity() {
+        return EventService.mapToEntity(eventRequest);
+    }
+}
@@ -0,0 +1,239 @@
+package com.eventmanagement.api.cache;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts changes to cached collections made on any node to the local caches.
+ * Watches the events and users collections with a MongoDB change stream and publishes an
+ * {@link EntityChangedEvent} per changed document. The resume token is persisted per node, so after
+ * a restart or a dropped connection the stream resumes where it left off. When it cannot resume
+ * (the oplog moved past the token, or the collection was dropped) every cached document of the
+ * watched collections is evicted instead. Change streams require a replica set.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ChangeStreamCacheInvalidator implements SmartLifecycle {
+
+    static final String TOKEN_COLLECTION = "change_stream_resume_tokens";
+    static final List<String> WATCHED_COLLECTIONS = List.of("events", "users");
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String tokenId;
+    private final Duration tokenSaveInterval;
+    private final Duration retryDelay;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ChangeStreamCacheInvalidator(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher,
+                                        @Value("${app.cache.invalidation.node-id:local}") String nodeId,
+                                        @Value("${app.cache.invalidation.token-save-interval:1s}") Duration tokenSaveInterval,
+                                        @Value("${app.cache.invalidation.retry-delay:5s}") Duration retryDelay) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tokenId = "cache-invalidation:" + nodeId;
+        this.tokenSaveInterval = tokenSaveInterval;
+        this.retryDelay = retryDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::watch, "cache-invalidation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Watch the change stream until stopped, reconnecting after errors.
+     */
+    private void watch() {
+        while (running) {
+            try {
+                consume(loadResumeToken());
+            } catch (MongoException ex) {
+                if (!running) {
+                    return;
+                }
+                if (ex instanceof MongoCommandException commandException
+                        && commandException.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("Change stream history lost, evicting all cached documents");
+                    saveResumeToken(null);
+                    invalidateAll();
+                    continue;
+                }
+                // Changes made while disconnected are picked up when the stream resumes
+                log.warn("Cache invalidation change stream failed, retrying in {}: {}", retryDelay, ex.getMessage());
+                sleep(retryDelay);
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                log.error("Cache invalidation change stream failed, retrying in {}", retryDelay, ex);
+                sleep(retryDelay);
+            }
+        }
+    }
+
+    /**
+     * Consume the change stream from a resume token until stopped or the stream is invalidated.
+     *
+     * @param resumeToken The token to resume after, or null to start at the current time
+     */
+    private void consume(BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> stream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.in("ns.coll", WATCHED_COLLECTIONS))))
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            log.info("Watching {} for cache invalidation{}", WATCHED_COLLECTIONS, resumeToken != null ? " (resumed)" : "");
+            long nextSave = 0;
+            BsonDocument savedToken = resumeToken;
+
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null && !publish(change)) {
+                    // The stream was invalidated (collection dropped or renamed); start over from now
+                    saveResumeToken(null);
+                    return;
+                }
+
+                BsonDocument token = cursor.getResumeToken();
+                if (token != null && !token.equals(savedToken) && System.nanoTime() - nextSave >= 0) {
+                    saveResumeToken(token);
+                    savedToken = token;
+                    nextSave = System.nanoTime() + tokenSaveInterval.toNanos();
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish the invalidation for a change.
+     *
+     * @param change The change stream document
+     * @return false if the change ends the stream, true otherwise
+     */
+    private boolean publish(ChangeStreamDocument<Document> change) {
+        OperationType operation = change.getOperationType();
+        switch (operation) {
+            case INSERT, UPDATE, REPLACE, DELETE -> {
+                BsonValue id = change.getDocumentKey() != null ? change.getDocumentKey().get("_id") : null;
+                String collection = change.getNamespace().getCollectionName();
+                eventPublisher.publishEvent(new EntityChangedEvent(collection, id != null ? idOf(id) : null));
+                return true;
+            }
+            case INVALIDATE -> {
+                invalidateAll();
+                return false;
+            }
+            default -> {
+                // Drops and renames are followed by an invalidate event; evict eagerly anyway
+                invalidateAll();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Evict every cached document of the watched collections.
+     */
+    private void invalidateAll() {
+        WATCHED_COLLECTIONS.forEach(collection -> eventPublisher.publishEvent(new EntityChangedEvent(collection, null)));
+    }
+
+    /**
+     * Load the persisted resume token of this node.
+     *
+     * @return The resume token, or null if the stream should start at the current time
+     */
+    private BsonDocument loadResumeToken() {
+        Document stored = mongoTemplate.getCollection(TOKEN_COLLECTION).find(Filters.eq("_id", tokenId)).first();
+        Document token = stored != null ? stored.get("resumeToken", Document.class) : null;
+        return token != null ? token.toBsonDocument() : null;
+    }
+
+    /**
+     * Persist the resume token of this node.
+     *
+     * @param token The resume token, or null to start at the current time on the next connect
+     */
+    private void saveResumeToken(BsonDocument token) {
+        mongoTemplate.getCollection(TOKEN_COLLECTION).updateOne(Filters.eq("_id", tokenId),
+                Updates.combine(Updates.set("resumeToken", token), Updates.set("updatedAt", new Date())),
+                new UpdateOptions().upsert(true));
+    }
+
+    /**
+     * Convert a document key to the string ID used by the entities.
+     *
+     * @param id The _id value of the document key
+     * @return The entity ID
+     */
+    private static String idOf(BsonValue id) {
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        if (id.isString()) {
+            return id.asString().getValue();
+        }
+        return id.toString();
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventmanagement.api.cache;
+
+/**
+ * Application event announcing that a document changed, possibly on another node.
+ * Local caches holding data of the collection listen for it and evict the document.
+ *
+ * @param collection The collection of the changed document
+ * @param id The ID of the changed document, or null if any document of the collection may have changed
+ */
+public record EntityChangedEvent(String collection, String id) {
+
+    /**
+     * Check if the change concerns every document of the collection.
+     *
+     * @return true if all cached documents of the collection must be evicted, false otherwise
+     */
+    public boolean isCollectionWide() {
+        return id == null;
+    }
+}
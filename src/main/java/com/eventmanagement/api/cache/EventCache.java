@@ -0,0 +1,77 @@
+package com.eventmanagement.api.cache;
+
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of event detail responses, keyed by event ID.
+ * Entries are evicted by size and age, and explicitly on every write to the event. Concurrent misses
+ * for the same ID wait for a single load, and an eviction issued while a load is in flight removes
+ * its result, so a load that read the event before a write never outlives that write.
+ * Writes on other nodes are evicted through {@link EntityChangedEvent}s from the change stream.
+ * Cached responses are shared between requests and must not be modified.
+ */
+@Component
+public class EventCache {
+
+    static final String CACHE_NAME = "events";
+
+    private final Cache<String, EventResponse> cache;
+
+    public EventCache(MeterRegistry meterRegistry,
+                      @Value("${app.cache.events.max-size:10000}") long maxSize,
+                      @Value("${app.cache.events.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get an event response, loading it on a miss.
+     *
+     * @param eventId The ID of the event
+     * @param loader Loads the event response; exceptions it throws are propagated and nothing is cached
+     * @return The cached or loaded event response
+     */
+    public EventResponse get(String eventId, Function<String, EventResponse> loader) {
+        return cache.get(eventId, loader);
+    }
+
+    /**
+     * Evict an event after it was changed or deleted.
+     *
+     * @param eventId The ID of the event
+     */
+    public void evict(String eventId) {
+        cache.invalidate(eventId);
+    }
+
+    /**
+     * Evict events changed on any node, as reported by the change stream.
+     *
+     * @param change The changed document
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent change) {
+        if (!CACHE_NAME.equals(change.collection())) {
+            return;
+        }
+        if (change.isCollectionWide()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(change.id());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.eventmanagement.api.config;
+
+import com.eventmanagement.api.metrics.MongoDocumentCountListener;
+import com.eventmanagement.api.metrics.MongoRequestStatsListener;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MongoDB client instrumentation.
+ * Command latency is recorded by Spring Boot's driver command listener; this adds document counts
+ * and per-HTTP-request accounting.
+ */
+@Configuration
+public class MongoMetricsConfig {
+
+    /**
+     * Register the document count and request accounting listeners with the MongoDB client.
+     *
+     * @param documentCountListener The listener recording per-command document counts
+     * @param requestStatsListener The listener adding commands to the stats of the current HTTP request
+     * @return The client settings customizer
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandListenersCustomizer(MongoDocumentCountListener documentCountListener,
+                                                                             MongoRequestStatsListener requestStatsListener) {
+        return settings -> settings
+                .addCommandListener(documentCountListener)
+                .addCommandListener(requestStatsListener);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eventmanagement.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * MongoDB transaction configuration.
+ * Multi-document transactions require MongoDB to run as a replica set (a single-node set is enough).
+ */
+@Configuration
+public class MongoTransactionConfig {
+
+    /**
+     * Transaction manager for multi-document MongoDB transactions.
+     *
+     * @param databaseFactory The MongoDB database factory
+     * @return The transaction manager
+     */
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
@@ -0,0 +1,118 @@
+package com.eventmanagement.api.controller;
+
+import com.eventmanagement.api.dto.common.CursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds 200 responses carrying validators for conditional GET requests.
+ * ETags are derived from the ID and version of the documents in the body, so they are known without
+ * serializing it and change on every write, however close together. When a request's If-None-Match or
+ * If-Modified-Since matches, Spring MVC answers 304 Not Modified and the body is never written.
+ * Responses are marked no-cache: clients may keep them but must revalidate before reuse.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Start a response for a single document, with a strong ETag and Last-Modified.
+     * The ETag is authoritative: Last-Modified only has second precision, and is only compared when
+     * a client sends no If-None-Match.
+     *
+     * @param id The document ID
+     * @param version The version of the document, or null if unknown
+     * @param updatedAt The last modification time of the document, or null if unknown
+     * @param cacheControl The cache control directives
+     * @return The response builder
+     */
+    static ResponseEntity.BodyBuilder forDocument(String id, String version, LocalDateTime updatedAt,
+                                                  CacheControl cacheControl) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl);
+        // Documents written before versioning or auditing was enabled lack the matching validator
+        if (version != null) {
+            builder.eTag(id + "-" + version);
+        }
+        if (updatedAt != null) {
+            builder.lastModified(updatedAt.atZone(ZoneId.systemDefault()));
+        }
+        return builder;
+    }
+
+    /**
+     * Start a response for a page of documents, with a strong ETag over the page.
+     *
+     * @param page The page
+     * @param idOf Gets the ID of an item
+     * @param versionOf Gets the version of an item, or null if unknown
+     * @param cacheControl The cache control directives
+     * @param <T> The item type
+     * @return The response builder
+     */
+    static <T> ResponseEntity.BodyBuilder forPage(Page<T> page, Function<T, String> idOf,
+                                                  Function<T, String> versionOf, CacheControl cacheControl) {
+        return forItems(page.getContent(), idOf, versionOf,
+                page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements(), cacheControl);
+    }
+
+    /**
+     * Start a response for a keyset-paginated page of documents, with a strong ETag over the page.
+     *
+     * @param page The cursor page
+     * @param idOf Gets the ID of an item
+     * @param versionOf Gets the version of an item, or null if unknown
+     * @param cacheControl The cache control directives
+     * @param <T> The item type
+     * @return The response builder
+     */
+    static <T> ResponseEntity.BodyBuilder forPage(CursorPage<T> page, Function<T, String> idOf,
+                                                  Function<T, String> versionOf, CacheControl cacheControl) {
+        return forItems(page.getContent(), idOf, versionOf, page.getSize() + "/" + page.getNextCursor(), cacheControl);
+    }
+
+    /**
+     * Start a response for a list of documents, with a strong ETag over the list.
+     *
+     * @param items The items
+     * @param idOf Gets the ID of an item
+     * @param versionOf Gets the version of an item, or null if unknown
+     * @param cacheControl The cache control directives
+     * @param <T> The item type
+     * @return The response builder
+     */
+    static <T> ResponseEntity.BodyBuilder forList(List<T> items, Function<T, String> idOf,
+                                                  Function<T, String> versionOf, CacheControl cacheControl) {
+        return forItems(items, idOf, versionOf, String.valueOf(items.size()), cacheControl);
+    }
+
+    /**
+     * Start a response for a list of documents with an ETag hashed from every item's ID and version plus
+     * the listing metadata. No Last-Modified is sent: removing an item from a listing does not move its
+     * latest modification time forward.
+     */
+    private static <T> ResponseEntity.BodyBuilder forItems(List<T> items, Function<T, String> idOf,
+                                                           Function<T, String> versionOf, String metadata,
+                                                           CacheControl cacheControl) {
+        StringBuilder versions = new StringBuilder(metadata);
+        for (T item : items) {
+            String version = versionOf.apply(item);
+            if (version == null) {
+                return ResponseEntity.ok().cacheControl(cacheControl);
+            }
+            versions.append('|').append(idOf.apply(item)).append('-').append(version);
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,9 +1,25 @@
 package com.eventmanagement.api.controller;
 
+import com.eventmanagement.api.dto.common.CursorPage;
+import com.eventmanagement.api.dto.event.EventPatchRequest;
 import com.eventmanagement.api.dto.event.EventRequest;
 import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.dto.event.EventSummaryResponse;
+import com.eventmanagement.api.dto.event.GroupRegistrationRequest;
+import com.eventmanagement.api.dto.event.GroupRegistrationResponse;
+import com.eventmanagement.api.dto.event.HoldConfirmationRequest;
+import com.eventmanagement.api.dto.event.InventoryModeRequest;
 import com.eventmanagement.api.dto.event.RegistrationRequest;
+import com.eventmanagement.api.dto.event.SessionSeatsResponse;
+import com.eventmanagement.api.dto.event.TicketHoldRequest;
+import com.eventmanagement.api.dto.event.TicketHoldResponse;
+import com.eventmanagement.api.dto.event.WaitlistEntryResponse;
+import com.eventmanagement.api.dto.event.WaitlistRequest;
 import com.eventmanagement.api.service.EventService;
+import com.eventmanagement.api.service.GroupRegistrationService;
+import com.eventmanagement.api.service.IdempotencyService;
+import com.eventmanagement.api.service.TicketHoldService;
+import com.eventmanagement.api.service.WaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +32,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -34,7 +51,13 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class EventController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final EventService eventService;
+    private final WaitlistService waitlistService;
+    private final TicketHoldService ticketHoldService;
+    private final GroupRegistrationService groupRegistrationService;
 
     /**
      * Create a new event.
@@ -77,7 +100,8 @@ public class EventController {
                     @ApiResponse(responseCode = "400", description = "Invalid input"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized"),
                     @ApiResponse(responseCode = "403", description = "Forbidden"),
-                    @ApiResponse(responseCode = "404", description = "Event not found")
+                    @ApiResponse(responseCode = "404", description = "Event not found"),
+                    @ApiResponse(responseCode = "409", description = "Event was modified concurrently")
             }
     )
     public ResponseEntity<EventResponse> updateEvent(
@@ -86,6 +110,35 @@ public class EventController {
         return ResponseEntity.ok(eventService.updateEvent(eventId, eventRequest));
     }
 
+    /**
+     * Partially update an existing event.
+     *
+     * @param eventId The ID of the event to update
+     * @param patchRequest The event patch request DTO with the changed data
+     * @return The updated event as a response DTO
+     */
+    @PatchMapping("/{eventId}")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Partially update an event",
+            description = "Updates only the provided fields of an event. Speaker, agenda and ticket type lists replace the current "
+                    + "lists, matching items by ID. The version must be the one last read; only the event organizer or admins can update events.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event updated successfully",
+                            content = @Content(schema = @Schema(implementation = EventResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "404", description = "Event not found"),
+                    @ApiResponse(responseCode = "409", description = "Event was modified since the given version")
+            }
+    )
+    public ResponseEntity<EventResponse> patchEvent(
+            @Parameter(description = "ID of the event to update") @PathVariable String eventId,
+            @Valid @RequestBody EventPatchRequest patchRequest) {
+        return ResponseEntity.ok(eventService.patchEvent(eventId, patchRequest));
+    }
+
     /**
      * Get an event by ID.
      *
@@ -104,25 +157,49 @@ public class EventController {
     )
     public ResponseEntity<EventResponse> getEventById(
             @Parameter(description = "ID of the event to retrieve") @PathVariable String eventId) {
-        return ResponseEntity.ok(eventService.getEventById(eventId));
+        // Served from the event cache, so a 304 needs neither a database read nor serialization
+        EventResponse event = eventService.getEventById(eventId);
+        return ConditionalResponses.forDocument(event.getId(), revision(event), event.getUpdatedAt(), CacheControl.noCache()).body(event);
+    }
+
+    /**
+     * Get the remaining seats of every session of an event.
+     *
+     * @param eventId The ID of the event
+     * @return The seats of each session
+     */
+    @GetMapping("/{eventId}/sessions/seats")
+    @Operation(
+            summary = "Get session seats",
+            description = "Retrieves the capacity, booked and remaining seats of every agenda session of an event. "
+                    + "Remaining is null for sessions without a capacity limit.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Session seats retrieved successfully"),
+                    @ApiResponse(responseCode = "404", description = "Event not found")
+            }
+    )
+    public ResponseEntity<List<SessionSeatsResponse>> getSessionSeats(
+            @Parameter(description = "ID of the event") @PathVariable String eventId) {
+        return ResponseEntity.ok(eventService.getSessionSeats(eventId));
     }
 
     /**
      * Get all events with pagination.
      *
      * @param pageable Pagination information
-     * @return Page of events as response DTOs
+     * @return Page of event summaries
      */
     @GetMapping
     @Operation(
             summary = "Get all events",
-            description = "Retrieves all events with pagination.",
+            description = "Retrieves summaries of all events with pagination. Use the event detail endpoint for full details.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
             }
     )
-    public ResponseEntity<Page<EventResponse>> getAllEvents(@PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(eventService.getAllEvents(pageable));
+    public ResponseEntity<Page<EventSummaryResponse>> getAllEvents(@PageableDefault(size = 10, sort = "startDate") Pageable pageable) {
+        Page<EventSummaryResponse> events = eventService.getAllEvents(pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
     }
 
     /**
@@ -130,7 +207,7 @@ public class EventController {
      *
      * @param organizerId The ID of the organizer
      * @param pageable Pagination information
-     * @return Page of events as response DTOs
+     * @return Page of event summaries
      */
     @GetMapping("/organizer/{organizerId}")
     @Operation(
@@ -140,10 +217,11 @@ public class EventController {
                     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
             }
     )
-    public ResponseEntity<Page<EventResponse>> getEventsByOrganizerId(
+    public ResponseEntity<Page<EventSummaryResponse>> getEventsByOrganizerId(
             @Parameter(description = "ID of the organizer") @PathVariable String organizerId,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(eventService.getEventsByOrganizerId(organizerId, pageable));
+        Page<EventSummaryResponse> events = eventService.getEventsByOrganizerId(organizerId, pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
     }
 
     /**
@@ -151,7 +229,7 @@ public class EventController {
      *
      * @param category The event category
      * @param pageable Pagination information
-     * @return Page of events as response DTOs
+     * @return Page of event summaries
      */
     @GetMapping("/category/{category}")
     @Operation(
@@ -161,17 +239,40 @@ public class EventController {
                     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
             }
     )
-    public ResponseEntity<Page<EventResponse>> getEventsByCategory(
+    public ResponseEntity<Page<EventSummaryResponse>> getEventsByCategory(
             @Parameter(description = "Event category") @PathVariable String category,
-            @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(eventService.getEventsByCategory(category, pageable));
+            @PageableDefault(size = 10, sort = "startDate") Pageable pageable) {
+        Page<EventSummaryResponse> events = eventService.getEventsByCategory(category, pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
+    }
+
+    /**
+     * Get events by location with pagination.
+     *
+     * @param location The location to search for
+     * @param pageable Pagination information
+     * @return Page of event summaries
+     */
+    @GetMapping("/location")
+    @Operation(
+            summary = "Get events by location",
+            description = "Retrieves published events whose location starts with the given text, ignoring case and accents.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
+            }
+    )
+    public ResponseEntity<Page<EventSummaryResponse>> getEventsByLocation(
+            @Parameter(description = "Location to search for") @RequestParam String location,
+            @PageableDefault(size = 10, sort = "startDate") Pageable pageable) {
+        Page<EventSummaryResponse> events = eventService.getEventsByLocation(location, pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
     }
 
     /**
      * Get upcoming events with pagination.
      *
      * @param pageable Pagination information
-     * @return Page of upcoming events as response DTOs
+     * @return Page of upcoming event summaries
      */
     @GetMapping("/upcoming")
     @Operation(
@@ -181,29 +282,124 @@ public class EventController {
                     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
             }
     )
-    public ResponseEntity<Page<EventResponse>> getUpcomingEvents(@PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(eventService.getUpcomingEvents(pageable));
+    public ResponseEntity<Page<EventSummaryResponse>> getUpcomingEvents(@PageableDefault(size = 10, sort = "startDate") Pageable pageable) {
+        Page<EventSummaryResponse> events = eventService.getUpcomingEvents(pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
+    }
+
+    /**
+     * Get the next slice of all events using keyset pagination.
+     *
+     * @param after The cursor returned with the previous slice
+     * @param size The slice size
+     * @return Cursor page of event summaries
+     */
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "Scroll all events",
+            description = "Retrieves events ordered by start date. Pass nextCursor from the previous response as after to continue.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    public ResponseEntity<CursorPage<EventSummaryResponse>> scrollEvents(
+            @Parameter(description = "Cursor returned with the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size) {
+        CursorPage<EventSummaryResponse> events = eventService.scrollEvents(after, clampSliceSize(size));
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
     }
 
     /**
-     * Search events by title or description with pagination.
+     * Get the next slice of upcoming events using keyset pagination.
+     *
+     * @param after The cursor returned with the previous slice
+     * @param size The slice size
+     * @return Cursor page of event summaries
+     */
+    @GetMapping("/upcoming/scroll")
+    @Operation(
+            summary = "Scroll upcoming events",
+            description = "Retrieves upcoming published events ordered by start date. Pass nextCursor from the previous response as after to continue.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    public ResponseEntity<CursorPage<EventSummaryResponse>> scrollUpcomingEvents(
+            @Parameter(description = "Cursor returned with the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size) {
+        CursorPage<EventSummaryResponse> events = eventService.scrollUpcomingEvents(after, clampSliceSize(size));
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
+    }
+
+    /**
+     * Get the next slice of events in a category using keyset pagination.
+     *
+     * @param category The event category
+     * @param after The cursor returned with the previous slice
+     * @param size The slice size
+     * @return Cursor page of event summaries
+     */
+    @GetMapping("/category/{category}/scroll")
+    @Operation(
+            summary = "Scroll events in a category",
+            description = "Retrieves published events in a category ordered by start date. Pass nextCursor from the previous response as after to continue.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor")
+            }
+    )
+    public ResponseEntity<CursorPage<EventSummaryResponse>> scrollEventsByCategory(
+            @Parameter(description = "Event category") @PathVariable String category,
+            @Parameter(description = "Cursor returned with the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size) {
+        CursorPage<EventSummaryResponse> events = eventService.scrollEventsByCategory(category, after, clampSliceSize(size));
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
+    }
+
+    /**
+     * Search events by title, description, location and category with pagination.
      *
      * @param searchTerm The search term
      * @param pageable Pagination information
-     * @return Page of matching events as response DTOs
+     * @return Page of matching event summaries, most relevant first
      */
     @GetMapping("/search")
     @Operation(
             summary = "Search events",
-            description = "Searches events by title or description with pagination.",
+            description = "Full-text search over event title, description, location and category, ranked by relevance.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Events retrieved successfully")
             }
     )
-    public ResponseEntity<Page<EventResponse>> searchEvents(
+    public ResponseEntity<Page<EventSummaryResponse>> searchEvents(
             @Parameter(description = "Search term") @RequestParam String searchTerm,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(eventService.searchEvents(searchTerm, pageable));
+        Page<EventSummaryResponse> events = eventService.searchEvents(searchTerm, pageable);
+        return ConditionalResponses.forPage(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
+    }
+
+    /**
+     * Suggest events matching a partially typed query.
+     *
+     * @param prefix The text typed so far
+     * @param limit The maximum number of suggestions
+     * @return List of matching event summaries
+     */
+    @GetMapping("/search/autocomplete")
+    @Operation(
+            summary = "Autocomplete events",
+            description = "Suggests events whose title, location or category words start with the typed text.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+            }
+    )
+    public ResponseEntity<List<EventSummaryResponse>> autocompleteEvents(
+            @Parameter(description = "Text typed so far") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+        List<EventSummaryResponse> events = eventService.autocompleteEvents(prefix, Math.min(Math.max(limit, 1), 50));
+        return ConditionalResponses.forList(events, EventSummaryResponse::getId, EventController::summaryRevision, CacheControl.noCache()).body(events);
     }
 
     /**
@@ -230,6 +426,35 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Choose how an event's tickets are counted.
+     *
+     * @param eventId The ID of the event
+     * @param inventoryModeRequest The inventory mode request DTO
+     * @return The updated event as a response DTO
+     */
+    @PutMapping("/{eventId}/inventory")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Change the inventory mode of an event",
+            description = "Splits each ticket type's quantity across the given number of inventory buckets when the "
+                    + "event is published, so a hot event takes reservations in parallel; 0 counts tickets on the event. "
+                    + "Only draft events can change their inventory mode.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Inventory mode changed successfully",
+                            content = @Content(schema = @Schema(implementation = EventResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input or event already published"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "404", description = "Event not found")
+            }
+    )
+    public ResponseEntity<EventResponse> changeInventoryMode(
+            @Parameter(description = "ID of the event") @PathVariable String eventId,
+            @Valid @RequestBody InventoryModeRequest inventoryModeRequest) {
+        return ResponseEntity.ok(eventService.changeInventoryMode(eventId, inventoryModeRequest));
+    }
+
     /**
      * Publish an event.
      *
@@ -280,25 +505,298 @@ public class EventController {
 
     /**
      * Register for an event.
+     * With an Idempotency-Key header, a retried request is answered with the original response
+     * instead of registering again.
      *
      * @param registrationRequest The registration request DTO
+     * @param idempotencyKey Optional idempotency key identifying retries of the same request
      * @return The updated event as a response DTO
      */
     @PostMapping("/register")
     @PreAuthorize("hasAnyRole('ATTENDEE', 'ORGANIZER', 'ADMIN')")
     @Operation(
             summary = "Register for an event",
-            description = "Registers the current user for an event.",
+            description = "Registers the current user for an event. Requests sent with the same Idempotency-Key "
+                    + "are executed once; retries receive the original response with Idempotent-Replayed: true.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Registration successful",
                             content = @Content(schema = @Schema(implementation = EventResponse.class))),
                     @ApiResponse(responseCode = "400", description = "Invalid input or registration not possible"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Event or ticket type not found"),
+                    @ApiResponse(responseCode = "409", description = "Idempotency key reused for a different request, "
+                            + "or the original request is still in progress")
+            }
+    )
+    public ResponseEntity<EventResponse> registerForEvent(
+            @Valid @RequestBody RegistrationRequest registrationRequest,
+            @Parameter(description = "Client-generated key identifying retries of the same request")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(eventService.registerForEvent(registrationRequest));
+        }
+
+        IdempotencyService.IdempotentResult<EventResponse> result = eventService.registerForEvent(registrationRequest, idempotencyKey);
+        return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
+    }
+
+    /**
+     * Register a group of attendees for an event.
+     * With an Idempotency-Key header, a retried request is answered with the original response
+     * instead of registering the group again.
+     *
+     * @param groupRequest The group registration request DTO
+     * @param idempotencyKey Optional idempotency key identifying retries of the same request
+     * @return The created registrations as a response DTO
+     */
+    @PostMapping("/register/group")
+    @PreAuthorize("hasAnyRole('ATTENDEE', 'ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Register a group for an event",
+            description = "Registers several attendees across one or more ticket types in one request. The tickets "
+                    + "are reserved all or nothing and each attendee gets their own registration. With a holdId, "
+                    + "the group confirms tickets held during checkout instead.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Group registered successfully",
+                            content = @Content(schema = @Schema(implementation = GroupRegistrationResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input or not enough tickets for the whole group"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Event, ticket type or hold not found"),
+                    @ApiResponse(responseCode = "409", description = "Idempotency key reused for a different request, "
+                            + "or the original request is still in progress")
+            }
+    )
+    public ResponseEntity<GroupRegistrationResponse> registerGroup(
+            @Valid @RequestBody GroupRegistrationRequest groupRequest,
+            @Parameter(description = "Client-generated key identifying retries of the same request")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return new ResponseEntity<>(groupRegistrationService.registerGroup(groupRequest), HttpStatus.CREATED);
+        }
+
+        IdempotencyService.IdempotentResult<GroupRegistrationResponse> result =
+                groupRegistrationService.registerGroup(groupRequest, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.response());
+    }
+
+    /**
+     * Cancel a registration.
+     * Registration IDs are returned by GET /api/users/me/registrations and GET /api/events/{eventId}/registrations.
+     *
+     * @param registrationId The ID of the registration to cancel
+     * @return The cancelled registration as a response DTO
+     */
+    @PutMapping("/registrations/{registrationId}/cancel")
+    @Operation(
+            summary = "Cancel a registration",
+            description = "Cancels a registration and releases its ticket and session seats. The registrant, "
+                    + "the event organizer and admins can cancel registrations. If users are waiting for the "
+                    + "ticket type, the ticket goes to the longest waiting user. Registration IDs are listed by "
+                    + "GET /api/users/me/registrations and, for organizers, GET /api/events/{eventId}/registrations.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Registration cancelled successfully",
+                            content = @Content(schema = @Schema(implementation = EventResponse.RegistrationDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Registration is not confirmed"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "404", description = "Registration not found")
+            }
+    )
+    public ResponseEntity<EventResponse.RegistrationDto> cancelRegistration(
+            @Parameter(description = "ID of the registration to cancel") @PathVariable String registrationId) {
+        return ResponseEntity.ok(eventService.cancelRegistration(registrationId));
+    }
+
+    /**
+     * Get the registrations for an event with pagination, most recent first.
+     *
+     * @param eventId The ID of the event
+     * @param pageable Pagination information
+     * @return Page of registration response DTOs
+     */
+    @GetMapping("/{eventId}/registrations")
+    @PreAuthorize("hasAnyRole('ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Get event registrations",
+            description = "Retrieves the registrations for an event with pagination, most recent first. "
+                    + "Only the event organizer and admins can list them.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "404", description = "Event not found")
+            }
+    )
+    public ResponseEntity<Page<EventResponse.RegistrationDto>> getEventRegistrations(
+            @Parameter(description = "ID of the event") @PathVariable String eventId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(eventService.getEventRegistrations(eventId, pageable));
+    }
+
+    /**
+     * Join the waitlist of a sold-out ticket type.
+     *
+     * @param waitlistRequest The waitlist request DTO
+     * @return The waitlist entry as a response DTO
+     */
+    @PostMapping("/waitlist")
+    @PreAuthorize("hasAnyRole('ATTENDEE', 'ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Join a waitlist",
+            description = "Adds the current user to the waitlist of a sold-out ticket type. When a seat frees up, "
+                    + "the longest waiting user is registered automatically and notified.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Joined the waitlist",
+                            content = @Content(schema = @Schema(implementation = WaitlistEntryResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input or tickets still available"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Event or ticket type not found")
+            }
+    )
+    public ResponseEntity<WaitlistEntryResponse> joinWaitlist(@Valid @RequestBody WaitlistRequest waitlistRequest) {
+        return new ResponseEntity<>(waitlistService.joinWaitlist(waitlistRequest), HttpStatus.CREATED);
+    }
+
+    /**
+     * Get the current user's waitlist entry for an event.
+     *
+     * @param eventId The ID of the event
+     * @return The waitlist entry as a response DTO, with the user's position
+     */
+    @GetMapping("/{eventId}/waitlist")
+    @Operation(
+            summary = "Get waitlist position",
+            description = "Retrieves the current user's waitlist entry for an event and their position in the queue.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Waitlist entry retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = WaitlistEntryResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Not on the waitlist")
+            }
+    )
+    public ResponseEntity<WaitlistEntryResponse> getWaitlistEntry(
+            @Parameter(description = "ID of the event") @PathVariable String eventId) {
+        return ResponseEntity.ok(waitlistService.getWaitlistEntry(eventId));
+    }
+
+    /**
+     * Leave the waitlist of an event.
+     *
+     * @param eventId The ID of the event
+     * @return No content response
+     */
+    @DeleteMapping("/{eventId}/waitlist")
+    @Operation(
+            summary = "Leave a waitlist",
+            description = "Removes the current user from the waitlist of an event.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Left the waitlist"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Not on the waitlist")
+            }
+    )
+    public ResponseEntity<Void> leaveWaitlist(
+            @Parameter(description = "ID of the event") @PathVariable String eventId) {
+        waitlistService.leaveWaitlist(eventId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Hold tickets while checking out.
+     *
+     * @param holdRequest The hold request DTO
+     * @return The hold as a response DTO
+     */
+    @PostMapping("/holds")
+    @PreAuthorize("hasAnyRole('ATTENDEE', 'ORGANIZER', 'ADMIN')")
+    @Operation(
+            summary = "Hold tickets",
+            description = "Reserves tickets of a ticket type for the current user for a few minutes, while they check out. "
+                    + "Held tickets count against availability until the hold is confirmed, released or expires.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Tickets held",
+                            content = @Content(schema = @Schema(implementation = TicketHoldResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid input or not enough tickets available"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
                     @ApiResponse(responseCode = "404", description = "Event or ticket type not found")
             }
     )
-    public ResponseEntity<EventResponse> registerForEvent(@Valid @RequestBody RegistrationRequest registrationRequest) {
-        return ResponseEntity.ok(eventService.registerForEvent(registrationRequest));
+    public ResponseEntity<TicketHoldResponse> holdTickets(@Valid @RequestBody TicketHoldRequest holdRequest) {
+        return new ResponseEntity<>(ticketHoldService.holdTickets(holdRequest), HttpStatus.CREATED);
+    }
+
+    /**
+     * Get one of the current user's ticket holds.
+     *
+     * @param holdId The ID of the hold
+     * @return The hold as a response DTO
+     */
+    @GetMapping("/holds/{holdId}")
+    @Operation(
+            summary = "Get a ticket hold",
+            description = "Retrieves one of the current user's ticket holds, with its status and expiry time.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Hold retrieved successfully",
+                            content = @Content(schema = @Schema(implementation = TicketHoldResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Hold not found")
+            }
+    )
+    public ResponseEntity<TicketHoldResponse> getHold(
+            @Parameter(description = "ID of the hold") @PathVariable String holdId) {
+        return ResponseEntity.ok(ticketHoldService.getHold(holdId));
+    }
+
+    /**
+     * Confirm a ticket hold once checkout has completed.
+     *
+     * @param holdId The ID of the hold
+     * @param confirmationRequest The confirmation request DTO
+     * @return The created registration as a response DTO
+     */
+    @PutMapping("/holds/{holdId}/confirm")
+    @Operation(
+            summary = "Confirm a ticket hold",
+            description = "Turns the held ticket into a sold one and registers the current user for the event.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Hold confirmed",
+                            content = @Content(schema = @Schema(implementation = EventResponse.RegistrationDto.class))),
+                    @ApiResponse(responseCode = "400", description = "Hold expired or already settled"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Hold not found")
+            }
+    )
+    public ResponseEntity<EventResponse.RegistrationDto> confirmHold(
+            @Parameter(description = "ID of the hold") @PathVariable String holdId,
+            @Valid @RequestBody HoldConfirmationRequest confirmationRequest) {
+        return ResponseEntity.ok(ticketHoldService.confirmHold(holdId, confirmationRequest));
+    }
+
+    /**
+     * Release a ticket hold before it expires.
+     *
+     * @param holdId The ID of the hold
+     * @return No content response
+     */
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(
+            summary = "Release a ticket hold",
+            description = "Returns the held tickets to inventory, e.g. when checkout is abandoned.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Hold released"),
+                    @ApiResponse(responseCode = "400", description = "Hold expired or already settled"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "404", description = "Hold not found")
+            }
+    )
+    public ResponseEntity<Void> releaseHold(
+            @Parameter(description = "ID of the hold") @PathVariable String holdId) {
+        ticketHoldService.releaseHold(holdId);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -317,6 +815,39 @@ public class EventController {
     )
     public ResponseEntity<List<EventResponse>> getEventsForAttendee(
             @Parameter(description = "ID of the user") @PathVariable String userId) {
-        return ResponseEntity.ok(eventService.getEventsForAttendee(userId));
+        List<EventResponse> events = eventService.getEventsForAttendee(userId);
+        return ConditionalResponses.forList(events, EventResponse::getId, EventController::revision, CacheControl.noCache().cachePrivate())
+                .body(events);
+    }
+
+    /**
+     * The version an event response is validated by: edits increment the event version, and ticket sales
+     * the inventory version.
+     *
+     * @param event The event response DTO
+     * @return The version for the event's ETag
+     */
+    private static String revision(EventResponse event) {
+        return event.getVersion() != null ? event.getVersion() + "." + event.getInventoryVersion() : null;
+    }
+
+    /**
+     * The version an event summary is validated by, as for {@link #revision(EventResponse)}.
+     *
+     * @param event The event summary response DTO
+     * @return The version for the event's ETag
+     */
+    private static String summaryRevision(EventSummaryResponse event) {
+        return event.getVersion() + "." + event.getInventoryVersion();
+    }
+
+    /**
+     * Bound a requested slice size to a sane range.
+     *
+     * @param size The requested size
+     * @return The size between 1 and 100
+     */
+    private static int clampSliceSize(int size) {
+        return Math.min(Math.max(size, 1), 100);
     }
-}
\ No newline at end of file
+}
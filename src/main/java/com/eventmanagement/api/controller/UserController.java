@@ -1,8 +1,12 @@
 package com.eventmanagement.api.controller;
 
+import com.eventmanagement.api.dto.common.CursorPage;
+import com.eventmanagement.api.dto.event.EventResponse;
 import com.eventmanagement.api.dto.user.NotificationResponse;
 import com.eventmanagement.api.dto.user.UserProfileRequest;
 import com.eventmanagement.api.dto.user.UserProfileResponse;
+import com.eventmanagement.api.service.EventService;
+import com.eventmanagement.api.service.NotificationService;
 import com.eventmanagement.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,13 +19,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST controller for user operations.
  * Provides endpoints for managing user profiles and notifications.
@@ -34,6 +38,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final NotificationService notificationService;
+    private final EventService eventService;
 
     /**
      * Get the current user's profile.
@@ -51,7 +57,9 @@ public class UserController {
             }
     )
     public ResponseEntity<UserProfileResponse> getCurrentUserProfile() {
-        return ResponseEntity.ok(userService.getCurrentUserProfile());
+        UserProfileResponse profile = userService.getCurrentUserProfile();
+        return ConditionalResponses.forDocument(profile.getId(), revision(profile), profile.getUpdatedAt(), CacheControl.noCache().cachePrivate())
+                .body(profile);
     }
 
     /**
@@ -96,7 +104,9 @@ public class UserController {
     )
     public ResponseEntity<UserProfileResponse> getUserProfile(
             @Parameter(description = "ID of the user to retrieve") @PathVariable String userId) {
-        return ResponseEntity.ok(userService.getUserProfile(userId));
+        UserProfileResponse profile = userService.getUserProfile(userId);
+        return ConditionalResponses.forDocument(profile.getId(), revision(profile), profile.getUpdatedAt(), CacheControl.noCache().cachePrivate())
+                .body(profile);
     }
 
     /**
@@ -167,8 +177,35 @@ public class UserController {
                     @ApiResponse(responseCode = "403", description = "Forbidden")
             }
     )
-    public ResponseEntity<Page<UserProfileResponse>> getAllUsers(@PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(userService.getAllUsers(pageable));
+    public ResponseEntity<Page<UserProfileResponse>> getAllUsers(@PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<UserProfileResponse> users = userService.getAllUsers(pageable);
+        return ConditionalResponses.forPage(users, UserProfileResponse::getId, UserController::revision, CacheControl.noCache().cachePrivate()).body(users);
+    }
+
+    /**
+     * Get the next slice of users, newest first, using keyset pagination (admin only).
+     *
+     * @param after The cursor returned with the previous slice
+     * @param size The slice size
+     * @return Cursor page of user profile response DTOs
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Scroll all users",
+            description = "Retrieves users newest first. Pass nextCursor from the previous response as after to continue. Only accessible by admins.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden")
+            }
+    )
+    public ResponseEntity<CursorPage<UserProfileResponse>> scrollUsers(
+            @Parameter(description = "Cursor returned with the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size) {
+        CursorPage<UserProfileResponse> users = userService.scrollUsers(after, Math.min(Math.max(size, 1), 100));
+        return ConditionalResponses.forPage(users, UserProfileResponse::getId, UserController::revision, CacheControl.noCache().cachePrivate()).body(users);
     }
 
     /**
@@ -192,7 +229,8 @@ public class UserController {
     public ResponseEntity<Page<UserProfileResponse>> searchUsersByName(
             @Parameter(description = "Name to search for") @RequestParam String name,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(userService.searchUsersByName(name, pageable));
+        Page<UserProfileResponse> users = userService.searchUsersByName(name, pageable);
+        return ConditionalResponses.forPage(users, UserProfileResponse::getId, UserController::revision, CacheControl.noCache().cachePrivate()).body(users);
     }
 
     /**
@@ -216,43 +254,71 @@ public class UserController {
     public ResponseEntity<Page<UserProfileResponse>> getUsersByRole(
             @Parameter(description = "Role to filter by") @PathVariable String role,
             @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(userService.getUsersByRole(role, pageable));
+        Page<UserProfileResponse> users = userService.getUsersByRole(role, pageable);
+        return ConditionalResponses.forPage(users, UserProfileResponse::getId, UserController::revision, CacheControl.noCache().cachePrivate()).body(users);
+    }
+
+    /**
+     * Get the current user's registrations with pagination, most recent first.
+     *
+     * @param eventId The ID of an event to limit the registrations to, or null for all events
+     * @param pageable Pagination information
+     * @return Page of registration response DTOs
+     */
+    @GetMapping("/me/registrations")
+    @Operation(
+            summary = "Get current user registrations",
+            description = "Retrieves the registrations of the currently authenticated user in any status with "
+                    + "pagination, most recent first, optionally for a single event.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    public ResponseEntity<Page<EventResponse.RegistrationDto>> getCurrentUserRegistrations(
+            @Parameter(description = "ID of an event to limit the registrations to") @RequestParam(required = false) String eventId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(eventService.getCurrentUserRegistrations(eventId, pageable));
     }
 
     /**
-     * Get the current user's notifications.
+     * Get the current user's notifications with pagination, newest first.
      *
-     * @return List of notification response DTOs
+     * @param pageable Pagination information
+     * @return Page of notification response DTOs
      */
     @GetMapping("/me/notifications")
     @Operation(
             summary = "Get current user notifications",
-            description = "Retrieves all notifications for the currently authenticated user.",
+            description = "Retrieves notifications for the currently authenticated user with pagination, newest first.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized")
             }
     )
-    public ResponseEntity<List<NotificationResponse>> getCurrentUserNotifications() {
-        return ResponseEntity.ok(userService.getCurrentUserNotifications());
+    public ResponseEntity<Page<NotificationResponse>> getCurrentUserNotifications(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(notificationService.getCurrentUserNotifications(pageable));
     }
 
     /**
-     * Get the current user's unread notifications.
+     * Get the current user's unread notifications with pagination, newest first.
      *
-     * @return List of unread notification response DTOs
+     * @param pageable Pagination information
+     * @return Page of unread notification response DTOs
      */
     @GetMapping("/me/notifications/unread")
     @Operation(
             summary = "Get current user unread notifications",
-            description = "Retrieves unread notifications for the currently authenticated user.",
+            description = "Retrieves unread notifications for the currently authenticated user with pagination, newest first.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized")
             }
     )
-    public ResponseEntity<List<NotificationResponse>> getCurrentUserUnreadNotifications() {
-        return ResponseEntity.ok(userService.getCurrentUserUnreadNotifications());
+    public ResponseEntity<Page<NotificationResponse>> getCurrentUserUnreadNotifications(
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(notificationService.getCurrentUserUnreadNotifications(pageable));
     }
 
     /**
@@ -274,7 +340,7 @@ public class UserController {
     )
     public ResponseEntity<NotificationResponse> markNotificationAsRead(
             @Parameter(description = "ID of the notification to mark as read") @PathVariable String notificationId) {
-        return ResponseEntity.ok(userService.markNotificationAsRead(notificationId));
+        return ResponseEntity.ok(notificationService.markNotificationAsRead(notificationId));
     }
 
     /**
@@ -292,7 +358,7 @@ public class UserController {
             }
     )
     public ResponseEntity<Void> markAllNotificationsAsRead() {
-        userService.markAllNotificationsAsRead();
+        notificationService.markAllNotificationsAsRead();
         return ResponseEntity.noContent().build();
     }
 
@@ -314,7 +380,7 @@ public class UserController {
     )
     public ResponseEntity<Void> deleteNotification(
             @Parameter(description = "ID of the notification to delete") @PathVariable String notificationId) {
-        userService.deleteNotification(notificationId);
+        notificationService.deleteNotification(notificationId);
         return ResponseEntity.noContent().build();
     }
 
@@ -347,6 +413,16 @@ public class UserController {
             @Parameter(description = "Notification message") @RequestParam String message,
             @Parameter(description = "Notification type") @RequestParam String type,
             @Parameter(description = "ID of the related entity (optional)") @RequestParam(required = false) String relatedEntityId) {
-        return ResponseEntity.ok(userService.createNotification(userId, title, message, type, relatedEntityId));
+        return ResponseEntity.ok(notificationService.createNotification(userId, title, message, type, relatedEntityId));
+    }
+
+    /**
+     * The version a user profile is validated by.
+     *
+     * @param profile The user profile response DTO
+     * @return The version for the profile's ETag, or null for users saved before documents were versioned
+     */
+    private static String revision(UserProfileResponse profile) {
+        return profile.getVersion() != null ? profile.getVersion().toString() : null;
     }
 }
\ No newline at end of file
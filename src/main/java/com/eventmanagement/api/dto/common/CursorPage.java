@@ -0,0 +1,51 @@
+package com.eventmanagement.api.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset-paginated listing.
+ * Pass nextCursor as the after parameter to fetch the following page; it is null on the last page.
+ *
+ * @param <T> The item type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Build a page from a query that fetched one document more than the page size.
+     * The extra document only signals that a next page exists and is not returned.
+     *
+     * @param fetched The documents fetched, at most size + 1
+     * @param size The page size
+     * @param cursorOf Encodes the cursor pointing after a document
+     * @param mapper Converts a document to a response item
+     * @param <E> The document type
+     * @param <T> The item type
+     * @return The cursor page
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CursorPage.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for partially updating an event.
+ * Fields left null keep their current value. A speaker, agenda or ticket type list replaces the
+ * current list: items carrying the ID of an existing item update it, other items are added, and
+ * existing items missing from the list are removed. Sessions inside agenda items work the same way.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPatchRequest {
+
+    @NotNull(message = "Version is required")
+    private Long version; // The version the changes were made against, as returned in the event response
+
+    @Pattern(regexp = ".*\\S.*", message = "Title must not be blank")
+    private String title;
+
+    @Pattern(regexp = ".*\\S.*", message = "Description must not be blank")
+    private String description;
+
+    @Pattern(regexp = ".*\\S.*", message = "Location must not be blank")
+    private String location;
+
+    @Future(message = "Start date must be in the future")
+    private LocalDateTime startDate;
+
+    @Future(message = "End date must be in the future")
+    private LocalDateTime endDate;
+
+    private String category;
+
+    private String imageUrl;
+
+    private Map<String, String> additionalInfo;
+
+    @Valid
+    private List<EventRequest.SpeakerDto> speakers;
+
+    @Valid
+    private List<EventRequest.AgendaItemDto> agenda;
+
+    @Valid
+    private List<EventRequest.TicketTypeDto> ticketTypes;
+
+    /**
+     * Create a patch that replaces every field of an event with the values of a full update request.
+     *
+     * @param eventRequest The event request DTO
+     * @param version The version of the event the request was applied to
+     * @return The event patch request DTO
+     */
+    public static EventPatchRequest fromRequest(EventRequest eventRequest, Long version) {
+        return EventPatchRequest.builder()
+                .version(version)
+                .title(eventRequest.getTitle())
+                .description(eventRequest.getDescription())
+                .location(eventRequest.getLocation())
+                .startDate(eventRequest.getStartDate())
+                .endDate(eventRequest.getEndDate())
+                .category(eventRequest.getCategory())
+                .imageUrl(eventRequest.getImageUrl())
+                .additionalInfo(eventRequest.getAdditionalInfo())
+                .speakers(eventRequest.getSpeakers())
+                .agenda(eventRequest.getAgenda())
+                .ticketTypes(eventRequest.getTicketTypes())
+                .build();
+    }
+}
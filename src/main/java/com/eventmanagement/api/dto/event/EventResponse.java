@@ -1,6 +1,7 @@
 package com.eventmanagement.api.dto.event;
 
 import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.Registration;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -36,6 +37,9 @@ public class EventResponse {
     private Map<String, String> additionalInfo;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private long inventoryVersion;
+    private int inventoryBuckets;
     
     @Builder.Default
     private List<SpeakerDto> speakers = new ArrayList<>();
@@ -46,6 +50,11 @@ public class EventResponse {
     @Builder.Default
     private List<TicketTypeDto> ticketTypes = new ArrayList<>();
     
+    /**
+     * Registrations made in the current request (e.g. the caller's new registration).
+     * Event registrations are stored separately and are not included in event reads; they are listed by
+     * GET /api/events/{eventId}/registrations and GET /api/users/me/registrations.
+     */
     @Builder.Default
     private List<RegistrationDto> registrations = new ArrayList<>();
 
@@ -71,6 +80,9 @@ public class EventResponse {
                 .additionalInfo(event.getAdditionalInfo())
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
+                .version(event.getVersion())
+                .inventoryVersion(event.getInventoryVersion())
+                .inventoryBuckets(event.getInventoryBuckets())
                 .build();
 
         // Map speakers
@@ -112,6 +124,7 @@ public class EventResponse {
                                             .endTime(session.getEndTime())
                                             .speakerIds(session.getSpeakerIds())
                                             .capacity(session.getCapacity())
+                                            .booked(session.getBooked())
                                             .sessionType(session.getSessionType())
                                             .additionalInfo(session.getAdditionalInfo())
                                             .build())
@@ -133,6 +146,7 @@ public class EventResponse {
                             .price(ticketType.getPrice())
                             .quantity(ticketType.getQuantity())
                             .sold(ticketType.getSold())
+                            .held(ticketType.getHeld())
                             .saleStartDate(ticketType.getSaleStartDate())
                             .saleEndDate(ticketType.getSaleEndDate())
                             .available(ticketType.isAvailable())
@@ -140,26 +154,6 @@ public class EventResponse {
                     .collect(Collectors.toList()));
         }
 
-        // Map registrations
-        if (event.getRegistrations() != null) {
-            response.setRegistrations(event.getRegistrations().stream()
-                    .map(registration -> RegistrationDto.builder()
-                            .id(registration.getId())
-                            .userId(registration.getUserId())
-                            .userName(registration.getUserName())
-                            .userEmail(registration.getUserEmail())
-                            .ticketTypeId(registration.getTicketTypeId())
-                            .ticketTypeName(registration.getTicketTypeName())
-                            .amountPaid(registration.getAmountPaid())
-                            .status(registration.getStatus())
-                            .registrationDate(registration.getRegistrationDate())
-                            .confirmationCode(registration.getConfirmationCode())
-                            .sessionIds(registration.getSessionIds())
-                            .attendeeInfo(registration.getAttendeeInfo())
-                            .build())
-                    .collect(Collectors.toList()));
-        }
-
         return response;
     }
 
@@ -215,6 +209,7 @@ public class EventResponse {
         private LocalDateTime endTime;
         private List<String> speakerIds;
         private int capacity;
+        private int booked;
         private String sessionType;
         private Map<String, String> additionalInfo;
     }
@@ -233,6 +228,7 @@ public class EventResponse {
         private double price;
         private int quantity;
         private int sold;
+        private int held;
         private LocalDateTime saleStartDate;
         private LocalDateTime saleEndDate;
         private boolean available;
@@ -248,6 +244,8 @@ public class EventResponse {
     public static class RegistrationDto {
         private String id;
         private String userId;
+        private String purchaserId;
+        private String groupId;
         private String userName;
         private String userEmail;
         private String ticketTypeId;
@@ -255,8 +253,35 @@ public class EventResponse {
         private double amountPaid;
         private String status;
         private LocalDateTime registrationDate;
+        private LocalDateTime cancelledAt;
         private String confirmationCode;
         private List<String> sessionIds;
         private Map<String, String> attendeeInfo;
+
+        /**
+         * Convert Registration entity to RegistrationDto.
+         *
+         * @param registration The registration entity
+         * @return RegistrationDto
+         */
+        public static RegistrationDto fromEntity(Registration registration) {
+            return RegistrationDto.builder()
+                    .id(registration.getId())
+                    .userId(registration.getUserId())
+                    .purchaserId(registration.getPurchaserId())
+                    .groupId(registration.getGroupId())
+                    .userName(registration.getUserName())
+                    .userEmail(registration.getUserEmail())
+                    .ticketTypeId(registration.getTicketTypeId())
+                    .ticketTypeName(registration.getTicketTypeName())
+                    .amountPaid(registration.getAmountPaid())
+                    .status(registration.getStatus())
+                    .registrationDate(registration.getRegistrationDate())
+                    .cancelledAt(registration.getCancelledAt())
+                    .confirmationCode(registration.getConfirmationCode())
+                    .sessionIds(registration.getSessionIds())
+                    .attendeeInfo(registration.getAttendeeInfo())
+                    .build();
+        }
     }
 }
\ No newline at end of file
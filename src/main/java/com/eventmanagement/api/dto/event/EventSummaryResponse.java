@@ -0,0 +1,79 @@
+package com.eventmanagement.api.dto.event;
+
+import com.eventmanagement.api.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for event list responses.
+ * Carries only the fields needed by browse pages; full details are served by the event detail endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryResponse {
+
+    private String id;
+    private String title;
+    private String location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String organizerId;
+    private String organizerName;
+    private String status;
+    private String category;
+    private String imageUrl;
+    private int ticketsRemaining;
+    private boolean soldOut;
+    private Double minPrice;
+    private LocalDateTime updatedAt;
+    private long version;
+    private long inventoryVersion;
+
+    /**
+     * Convert an Event entity (typically loaded with the summary projection) to an EventSummaryResponse DTO.
+     *
+     * @param event The event entity
+     * @return EventSummaryResponse DTO
+     */
+    public static EventSummaryResponse fromEntity(Event event) {
+        int ticketsRemaining = 0;
+        Double minPrice = null;
+
+        if (event.getTicketTypes() != null) {
+            for (Event.TicketType ticketType : event.getTicketTypes()) {
+                if (!ticketType.isAvailable()) {
+                    continue;
+                }
+                ticketsRemaining += Math.max(0, ticketType.getQuantity() - ticketType.getSold() - ticketType.getHeld());
+                if (minPrice == null || ticketType.getPrice() < minPrice) {
+                    minPrice = ticketType.getPrice();
+                }
+            }
+        }
+
+        return EventSummaryResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .location(event.getLocation())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .organizerId(event.getOrganizerId())
+                .organizerName(event.getOrganizerName())
+                .status(event.getStatus())
+                .category(event.getCategory())
+                .imageUrl(event.getImageUrl())
+                .ticketsRemaining(ticketsRemaining)
+                .soldOut(ticketsRemaining == 0)
+                .minPrice(minPrice)
+                .updatedAt(event.getUpdatedAt())
+                .version(event.getVersion())
+                .inventoryVersion(event.getInventoryVersion())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for registering a group of attendees in one request.
+ * Each attendee gets their own registration; the tickets are either all reserved or none are.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupRegistrationRequest {
+
+    @NotBlank(message = "Event ID is required")
+    private String eventId;
+
+    private String holdId; // Optional: confirm these tickets held during checkout instead of reserving new ones
+
+    @NotEmpty(message = "At least one attendee is required")
+    @Valid
+    @Builder.Default
+    private List<Attendee> attendees = new ArrayList<>();
+
+    /**
+     * DTO for one attendee of a group registration.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Attendee {
+
+        @NotBlank(message = "Ticket type ID is required")
+        private String ticketTypeId;
+
+        @NotBlank(message = "Attendee name is required")
+        private String name;
+
+        @NotBlank(message = "Attendee email is required")
+        @Email(message = "Attendee email must be valid")
+        private String email;
+
+        private double amountPaid;
+
+        @Builder.Default
+        private Map<String, String> attendeeInfo = Map.of();
+    }
+}
@@ -0,0 +1,23 @@
+package com.eventmanagement.api.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the registrations created by a group registration.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupRegistrationResponse {
+
+    private String groupId;
+    private String eventId;
+    private String eventTitle;
+    private List<EventResponse.RegistrationDto> registrations;
+}
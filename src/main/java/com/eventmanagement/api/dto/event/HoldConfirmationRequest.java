@@ -0,0 +1,25 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for confirming a ticket hold once checkout has completed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldConfirmationRequest {
+
+    @NotNull(message = "Amount paid is required")
+    private double amountPaid;
+
+    @Builder.Default
+    private Map<String, String> attendeeInfo = Map.of();
+}
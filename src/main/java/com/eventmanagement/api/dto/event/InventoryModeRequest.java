@@ -0,0 +1,23 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for choosing how an event's tickets are counted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryModeRequest {
+
+    /**
+     * The number of buckets each ticket type's quantity is split across, or 0 to count tickets on the event.
+     */
+    @Min(value = 0, message = "The number of inventory buckets cannot be negative")
+    private int buckets;
+}
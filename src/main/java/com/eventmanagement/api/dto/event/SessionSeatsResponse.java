@@ -0,0 +1,39 @@
+package com.eventmanagement.api.dto.event;
+
+import com.eventmanagement.api.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the seats of an agenda session.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionSeatsResponse {
+
+    private String sessionId;
+    private String title;
+    private int capacity; // 0 or less means unlimited
+    private int booked;
+    private Integer remaining; // null when the session is unlimited
+
+    /**
+     * Convert a session to its seats DTO.
+     *
+     * @param session The session
+     * @return SessionSeatsResponse DTO
+     */
+    public static SessionSeatsResponse fromEntity(Event.Session session) {
+        return SessionSeatsResponse.builder()
+                .sessionId(session.getId())
+                .title(session.getTitle())
+                .capacity(session.getCapacity())
+                .booked(session.getBooked())
+                .remaining(session.getCapacity() > 0 ? Math.max(0, session.getCapacity() - session.getBooked()) : null)
+                .build();
+    }
+}
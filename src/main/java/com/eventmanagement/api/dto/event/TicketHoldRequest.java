@@ -0,0 +1,28 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for holding tickets during checkout.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketHoldRequest {
+
+    @NotBlank(message = "Event ID is required")
+    private String eventId;
+
+    @NotBlank(message = "Ticket type ID is required")
+    private String ticketTypeId;
+
+    @Min(value = 1, message = "At least one ticket must be held")
+    @Builder.Default
+    private int quantity = 1;
+}
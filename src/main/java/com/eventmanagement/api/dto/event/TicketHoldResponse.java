@@ -0,0 +1,50 @@
+package com.eventmanagement.api.dto.event;
+
+import com.eventmanagement.api.model.TicketHold;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a ticket hold.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketHoldResponse {
+
+    private String id;
+    private String eventId;
+    private String ticketTypeId;
+    private String ticketTypeName;
+    private int quantity;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private List<String> registrationIds;
+
+    /**
+     * Convert a ticket hold to its DTO.
+     *
+     * @param hold The ticket hold
+     * @return TicketHoldResponse DTO
+     */
+    public static TicketHoldResponse fromEntity(TicketHold hold) {
+        return TicketHoldResponse.builder()
+                .id(hold.getId())
+                .eventId(hold.getEventId())
+                .ticketTypeId(hold.getTicketTypeId())
+                .ticketTypeName(hold.getTicketTypeName())
+                .quantity(hold.getQuantity())
+                .status(hold.getStatus())
+                .createdAt(hold.getCreatedAt())
+                .expiresAt(hold.getExpiresAt())
+                .registrationIds(hold.getRegistrationIds())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.eventmanagement.api.dto.event;
+
+import com.eventmanagement.api.model.WaitlistEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a waitlist entry.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryResponse {
+
+    private String id;
+    private String eventId;
+    private String ticketTypeId;
+    private String status;
+    private Long position; // 1 for the next user to be promoted; null unless waiting
+    private LocalDateTime joinedAt;
+    private LocalDateTime promotedAt;
+    private String registrationId;
+
+    /**
+     * Convert a waitlist entry to its DTO.
+     *
+     * @param entry The waitlist entry
+     * @param position The entry's position in the queue, or null if it is no longer waiting
+     * @return WaitlistEntryResponse DTO
+     */
+    public static WaitlistEntryResponse fromEntity(WaitlistEntry entry, Long position) {
+        return WaitlistEntryResponse.builder()
+                .id(entry.getId())
+                .eventId(entry.getEventId())
+                .ticketTypeId(entry.getTicketTypeId())
+                .status(entry.getStatus())
+                .position(position)
+                .joinedAt(entry.getJoinedAt())
+                .promotedAt(entry.getPromotedAt())
+                .registrationId(entry.getRegistrationId())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.eventmanagement.api.dto.event;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for joining the waitlist of a sold-out ticket type.
+ * The amount and attendee information are used for the registration created on promotion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistRequest {
+
+    @NotBlank(message = "Event ID is required")
+    private String eventId;
+
+    @NotBlank(message = "Ticket type ID is required")
+    private String ticketTypeId;
+
+    private double amountPaid;
+
+    @Builder.Default
+    private Map<String, String> attendeeInfo = Map.of();
+}
@@ -0,0 +1,12 @@
+package com.eventmanagement.api.exception;
+
+/**
+ * Exception thrown when a request cannot be matched to the earlier use of its idempotency key:
+ * the key was sent with a different request, or the original request is still running.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.eventmanagement.api.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ * Cursors are opaque to clients, so this usually means a truncated or tampered value.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.eventmanagement.api.exception;
+
+/**
+ * Exception thrown when an idempotency key is blank or longer than the service accepts.
+ * The request itself is malformed, unlike an {@link IdempotencyKeyConflictException}.
+ */
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,110 @@
+package com.eventmanagement.api.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many documents each MongoDB command returned or wrote, per command and collection.
+ * Complements the driver command timers (mongodb.driver.commands), which carry the same tags, so
+ * slow commands can be told apart from commands that simply move a lot of documents.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoDocumentCountListener implements CommandListener {
+
+    static final String METRIC_NAME = "mongodb.driver.commands.documents";
+
+    private static final Set<String> COUNTED_COMMANDS = Set.of(
+            "find", "getMore", "aggregate", "count", "insert", "update", "delete", "findAndModify");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Collection of each in-flight command, by request ID; completion events do not carry the command.
+     */
+    private final Map<Integer, String> collections = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (COUNTED_COMMANDS.contains(event.getCommandName())) {
+            String collection = collectionName(event.getCommandName(), event.getCommand());
+            if (collection != null) {
+                collections.put(event.getRequestId(), collection);
+            }
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = collections.remove(event.getRequestId());
+        if (collection == null) {
+            return;
+        }
+
+        Long documents = documentCount(event.getResponse());
+        if (documents != null) {
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("Documents returned or written by MongoDB commands")
+                    .baseUnit("documents")
+                    .tag("command", event.getCommandName())
+                    .tag("collection", collection)
+                    .register(meterRegistry)
+                    .record(documents);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        collections.remove(event.getRequestId());
+    }
+
+    /**
+     * Get the collection a command targets.
+     *
+     * @param commandName The command name
+     * @param command The command document
+     * @return The collection name, or null if the command does not target a collection
+     */
+    private static String collectionName(String commandName, BsonDocument command) {
+        BsonValue value = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    /**
+     * Get the number of documents a command returned or wrote from its reply.
+     *
+     * @param response The command reply
+     * @return The document count, or null if the reply does not report one
+     */
+    private static Long documentCount(BsonDocument response) {
+        if (response.isDocument("cursor")) {
+            BsonDocument cursor = response.getDocument("cursor");
+            if (cursor.isArray("firstBatch")) {
+                return (long) cursor.getArray("firstBatch").size();
+            }
+            if (cursor.isArray("nextBatch")) {
+                return (long) cursor.getArray("nextBatch").size();
+            }
+            return null;
+        }
+        if (response.containsKey("value")) {
+            return response.get("value").isNull() ? 0L : 1L;
+        }
+        if (response.isNumber("n")) {
+            return response.getNumber("n").longValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventmanagement.api.metrics;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB usage of the current HTTP request: round trips, bytes returned and time spent in commands.
+ * Bound to the request thread by {@link MongoRequestStatsFilter} and filled in by
+ * {@link MongoRequestStatsListener}; the synchronous driver runs listeners on the calling thread.
+ */
+@Getter
+public class MongoRequestStats {
+
+    private static final ThreadLocal<MongoRequestStats> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Cap on the commands kept for logging, so a runaway request cannot grow the list without bound.
+     */
+    private static final int MAX_RECORDED_COMMANDS = 100;
+
+    private int roundTrips;
+    private long bytesReturned;
+    private long elapsedNanos;
+    private final List<String> commands = new ArrayList<>();
+
+    /**
+     * Start accounting for the current thread.
+     *
+     * @return The stats of the current request
+     */
+    static MongoRequestStats start() {
+        MongoRequestStats stats = new MongoRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stop accounting for the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the stats of the request running on the current thread.
+     *
+     * @return The current stats, or null outside of an HTTP request
+     */
+    static MongoRequestStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Record a completed command.
+     *
+     * @param command The command name and target collection
+     * @param bytes The size of the reply in bytes
+     * @param elapsedNanos The time the command took
+     */
+    void record(String command, long bytes, long elapsedNanos) {
+        this.roundTrips++;
+        this.bytesReturned += bytes;
+        this.elapsedNanos += elapsedNanos;
+        if (commands.size() < MAX_RECORDED_COMMANDS) {
+            commands.add(command + " (" + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms)");
+        }
+    }
+
+    public List<String> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+}
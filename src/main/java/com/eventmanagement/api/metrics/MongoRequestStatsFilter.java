@@ -0,0 +1,141 @@
+package com.eventmanagement.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts for the MongoDB round trips, bytes and time of each HTTP request.
+ * Runs ahead of the security filters so lookups made during authentication are included.
+ * Totals are recorded as metrics tagged by route; requests over the round-trip budget of their route are
+ * logged with their command list, and with app.mongo-accounting.headers enabled (for development) the totals are
+ * also returned as X-Mongo-* response headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class MongoRequestStatsFilter extends OncePerRequestFilter {
+
+    static final String ROUND_TRIPS_HEADER = "X-Mongo-Round-Trips";
+    static final String BYTES_HEADER = "X-Mongo-Bytes";
+    static final String TIME_HEADER = "X-Mongo-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final int roundTripBudget;
+    private final Map<String, Integer> routeBudgets;
+    private final boolean headersEnabled;
+
+    public MongoRequestStatsFilter(MeterRegistry meterRegistry,
+                                   @Value("${app.mongo-accounting.round-trip-budget:5}") int roundTripBudget,
+                                   @Value("${app.mongo-accounting.route-budgets:}") List<String> routeBudgets,
+                                   @Value("${app.mongo-accounting.headers:false}") boolean headersEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.roundTripBudget = roundTripBudget;
+        this.routeBudgets = parseRouteBudgets(routeBudgets);
+        this.headersEnabled = headersEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        MongoRequestStats stats = MongoRequestStats.start();
+        // Headers must be set before the body is committed, so buffer the body when they are enabled
+        ContentCachingResponseWrapper bufferedResponse = headersEnabled ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            MongoRequestStats.end();
+            record(request, stats);
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(ROUND_TRIPS_HEADER, String.valueOf(stats.getRoundTrips()));
+                bufferedResponse.setHeader(BYTES_HEADER, String.valueOf(stats.getBytesReturned()));
+                bufferedResponse.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getElapsedNanos())));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    /**
+     * Record the totals of a request as metrics and log requests over the round-trip budget.
+     *
+     * @param request The HTTP request
+     * @param stats The MongoDB usage of the request
+     */
+    private void record(HttpServletRequest request, MongoRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.mongo.round.trips")
+                .description("MongoDB round trips per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRoundTrips());
+        DistributionSummary.builder("http.server.requests.mongo.bytes")
+                .description("Bytes returned by MongoDB per HTTP request")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getBytesReturned());
+        Timer.builder("http.server.requests.mongo.time")
+                .description("Time spent in MongoDB per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = budgetFor(request.getMethod(), uri);
+        if (stats.getRoundTrips() > budget) {
+            log.warn("{} {} made {} MongoDB round trips (budget {}): {}", request.getMethod(), uri,
+                    stats.getRoundTrips(), budget, stats.getCommands());
+        }
+    }
+
+    /**
+     * Get the round-trip budget of a route: its own budget if one is configured, the default budget otherwise.
+     *
+     * @param method The HTTP method
+     * @param uri The route pattern, e.g. /api/events/{eventId}
+     * @return The number of round trips a request to the route may make before it is logged
+     */
+    int budgetFor(String method, String uri) {
+        return routeBudgets.getOrDefault(method + " " + uri, roundTripBudget);
+    }
+
+    /**
+     * Parse route budgets of the form "POST /api/events/register=10".
+     *
+     * @param routeBudgets The configured route budgets
+     * @return The budgets by method and route pattern
+     * @throws IllegalArgumentException if a route budget is malformed
+     */
+    private static Map<String, Integer> parseRouteBudgets(List<String> routeBudgets) {
+        Map<String, Integer> budgets = new HashMap<>();
+        for (String routeBudget : routeBudgets) {
+            int separator = routeBudget.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Route budget must be of the form 'METHOD /route=budget': " + routeBudget);
+            }
+            budgets.put(routeBudget.substring(0, separator).trim(), Integer.parseInt(routeBudget.substring(separator + 1).trim()));
+        }
+        return budgets;
+    }
+}
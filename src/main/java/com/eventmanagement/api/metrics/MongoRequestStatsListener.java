@@ -0,0 +1,88 @@
+package com.eventmanagement.api.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds every MongoDB command to the {@link MongoRequestStats} of the HTTP request that issued it.
+ */
+@Component
+public class MongoRequestStatsListener implements CommandListener {
+
+    /**
+     * Description of each in-flight command of an HTTP request, by request ID.
+     */
+    private final Map<Integer, String> commands = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (MongoRequestStats.current() != null) {
+            commands.put(event.getRequestId(), describe(event.getCommandName(), event.getCommand()));
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String command = commands.remove(event.getRequestId());
+        MongoRequestStats stats = MongoRequestStats.current();
+        if (command != null && stats != null) {
+            stats.record(command, sizeInBytes(event.getResponse()), event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String command = commands.remove(event.getRequestId());
+        MongoRequestStats stats = MongoRequestStats.current();
+        if (command != null && stats != null) {
+            stats.record(command + " FAILED", 0, event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Describe a command by its name and target collection, e.g. "find events".
+     *
+     * @param commandName The command name
+     * @param command The command document
+     * @return The command description
+     */
+    private static String describe(String commandName, BsonDocument command) {
+        BsonValue collection = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return collection != null && collection.isString()
+                ? commandName + " " + collection.asString().getValue()
+                : commandName;
+    }
+
+    /**
+     * Get the encoded size of a command reply.
+     * Replies from the server are backed by their raw bytes, whose first four bytes hold the document length,
+     * so this reads the length instead of re-encoding the reply.
+     *
+     * @param response The command reply
+     * @return The size of the reply in bytes
+     */
+    static long sizeInBytes(BsonDocument response) {
+        if (response instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = response.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binaryReader) {
+                return binaryReader.getBsonInput().readInt32();
+            }
+        }
+        return new RawBsonDocument(response, new BsonDocumentCodec()).getByteBuffer().remaining();
+    }
+}
@@ -0,0 +1,126 @@
+package com.eventmanagement.api.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One-off migration that moves notifications embedded in user documents into
+ * the dedicated notifications collection.
+ * Users are streamed with a cursor and processed in batches; each batch is
+ * upserted by notification ID before the embedded array is removed, so the job
+ * can be re-run safely after an interruption. Inboxes above the per-user limit
+ * are trimmed the next time the user is notified.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migration.notifications.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationMigrationJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.migration.notifications.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> users = mongoTemplate.getCollection("users");
+        MongoCollection<Document> notifications = mongoTemplate.getCollection("notifications");
+
+        List<WriteModel<Document>> pendingWrites = new ArrayList<>();
+        List<Object> pendingUserIds = new ArrayList<>();
+        long migratedUsers = 0;
+        long migratedNotifications = 0;
+
+        try (MongoCursor<Document> cursor = users.find(Filters.exists("notifications.0"))
+                .projection(Projections.include("notifications"))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Document user = cursor.next();
+                String userId = toIdString(user.get("_id"));
+
+                for (Document embedded : user.getList("notifications", Document.class)) {
+                    Document notification = toNotificationDocument(userId, embedded);
+                    pendingWrites.add(new ReplaceOneModel<>(
+                            Filters.eq("_id", notification.get("_id")), notification, new ReplaceOptions().upsert(true)));
+                }
+                pendingUserIds.add(user.get("_id"));
+
+                if (pendingWrites.size() >= batchSize) {
+                    migratedNotifications += flush(users, notifications, pendingWrites, pendingUserIds);
+                    migratedUsers += pendingUserIds.size();
+                    pendingWrites.clear();
+                    pendingUserIds.clear();
+                }
+            }
+        }
+
+        if (!pendingUserIds.isEmpty()) {
+            migratedNotifications += flush(users, notifications, pendingWrites, pendingUserIds);
+            migratedUsers += pendingUserIds.size();
+        }
+
+        log.info("Notification migration complete: moved {} notifications from {} users", migratedNotifications, migratedUsers);
+    }
+
+    /**
+     * Write a batch of notifications and remove the embedded arrays they came from.
+     *
+     * @param users The users collection
+     * @param notifications The notifications collection
+     * @param writes The notification upserts for the batch
+     * @param userIds The IDs of the users in the batch
+     * @return The number of notifications written
+     */
+    private long flush(MongoCollection<Document> users, MongoCollection<Document> notifications,
+                       List<WriteModel<Document>> writes, List<Object> userIds) {
+        if (!writes.isEmpty()) {
+            notifications.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        }
+
+        // Bumping the version makes a concurrent save of a user loaded before the unset fail instead of restoring the array
+        users.updateMany(Filters.in("_id", userIds), Updates.combine(Updates.unset("notifications"), Updates.inc("version", 1L)));
+        return writes.size();
+    }
+
+    /**
+     * Convert an embedded notification into a standalone notification document.
+     *
+     * @param userId The ID of the owning user
+     * @param embedded The embedded notification
+     * @return The notification document
+     */
+    private Document toNotificationDocument(String userId, Document embedded) {
+        Document notification = new Document(embedded);
+        Object id = notification.remove("id");
+        notification.put("_id", id != null ? id : new ObjectId().toHexString());
+        notification.put("userId", userId);
+        notification.put("_class", "com.eventmanagement.api.model.Notification");
+        return notification;
+    }
+
+    private String toIdString(Object id) {
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+}
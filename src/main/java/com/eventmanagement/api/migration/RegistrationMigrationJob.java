@@ -0,0 +1,140 @@
+package com.eventmanagement.api.migration;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One-off migration that moves registrations embedded in event documents into
+ * the dedicated registrations collection.
+ * Events are streamed with a cursor and processed in batches; each batch is
+ * upserted by registration ID before the embedded array is removed, so the job
+ * can be re-run safely after an interruption.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migration.registrations.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationMigrationJob implements ApplicationRunner {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.migration.registrations.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MongoCollection<Document> events = mongoTemplate.getCollection("events");
+        MongoCollection<Document> registrations = mongoTemplate.getCollection("registrations");
+
+        List<WriteModel<Document>> pendingWrites = new ArrayList<>();
+        List<Object> pendingEventIds = new ArrayList<>();
+        long migratedEvents = 0;
+        long migratedRegistrations = 0;
+
+        try (MongoCursor<Document> cursor = events.find(Filters.exists("registrations.0"))
+                .projection(Projections.include("registrations"))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Document event = cursor.next();
+                String eventId = toIdString(event.get("_id"));
+
+                for (Document embedded : event.getList("registrations", Document.class)) {
+                    Document registration = toRegistrationDocument(eventId, embedded);
+                    pendingWrites.add(new ReplaceOneModel<>(
+                            Filters.eq("_id", registration.get("_id")), registration, new ReplaceOptions().upsert(true)));
+                }
+                pendingEventIds.add(event.get("_id"));
+
+                if (pendingWrites.size() >= batchSize) {
+                    migratedRegistrations += flush(events, registrations, pendingWrites, pendingEventIds);
+                    migratedEvents += pendingEventIds.size();
+                    pendingWrites.clear();
+                    pendingEventIds.clear();
+                }
+            }
+        }
+
+        if (!pendingEventIds.isEmpty()) {
+            migratedRegistrations += flush(events, registrations, pendingWrites, pendingEventIds);
+            migratedEvents += pendingEventIds.size();
+        }
+
+        log.info("Registration migration complete: moved {} registrations from {} events", migratedRegistrations, migratedEvents);
+    }
+
+    /**
+     * Write a batch of registrations and remove the embedded arrays they came from.
+     *
+     * @param events The events collection
+     * @param registrations The registrations collection
+     * @param writes The registration upserts for the batch
+     * @param eventIds The IDs of the events in the batch
+     * @return The number of registrations written
+     */
+    private long flush(MongoCollection<Document> events, MongoCollection<Document> registrations,
+                       List<WriteModel<Document>> writes, List<Object> eventIds) {
+        long written = writes.size();
+        if (!writes.isEmpty()) {
+            try {
+                registrations.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+            } catch (MongoBulkWriteException ex) {
+                // Duplicate confirmed registrations for the same user are dropped; anything else aborts the job
+                for (BulkWriteError error : ex.getWriteErrors()) {
+                    if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                        throw ex;
+                    }
+                }
+                log.warn("Skipped {} duplicate registrations while migrating", ex.getWriteErrors().size());
+                written -= ex.getWriteErrors().size();
+            }
+        }
+
+        events.updateMany(Filters.in("_id", eventIds), Updates.unset("registrations"));
+        return written;
+    }
+
+    /**
+     * Convert an embedded registration into a standalone registration document.
+     *
+     * @param eventId The ID of the owning event
+     * @param embedded The embedded registration
+     * @return The registration document
+     */
+    private Document toRegistrationDocument(String eventId, Document embedded) {
+        Document registration = new Document(embedded);
+        Object id = registration.remove("id");
+        registration.put("_id", id != null ? id : new ObjectId().toHexString());
+        registration.put("eventId", eventId);
+        registration.put("_class", "com.eventmanagement.api.model.Registration");
+        return registration;
+    }
+
+    private String toIdString(Object id) {
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+}
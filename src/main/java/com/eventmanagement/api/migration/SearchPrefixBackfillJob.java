@@ -0,0 +1,92 @@
+package com.eventmanagement.api.migration;
+
+import com.eventmanagement.api.search.SearchTokenizer;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One-off backfill of the derived search fields (searchPrefixes and the event locationKey)
+ * on events and users written before they existed. New writes maintain the fields on save,
+ * so only documents missing them are touched and the job can be re-run safely.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migration.search-prefixes.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchPrefixBackfillJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.migration.search-prefixes.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long events = backfill("events", Filters.or(Filters.exists("searchPrefixes", false), Filters.exists("locationKey", false)),
+                document -> Updates.combine(
+                        Updates.set("searchPrefixes", SearchTokenizer.prefixes(
+                                document.getString("title"), document.getString("location"), document.getString("category"))),
+                        Updates.set("locationKey", SearchTokenizer.key(document.getString("location")))),
+                "title", "location", "category");
+        long users = backfill("users", Filters.exists("searchPrefixes", false),
+                document -> Updates.set("searchPrefixes", SearchTokenizer.prefixes(
+                        document.getString("firstName"), document.getString("lastName"))),
+                "firstName", "lastName");
+        log.info("Search prefix backfill complete: updated {} events and {} users", events, users);
+    }
+
+    /**
+     * Compute and store the derived search fields for every matching document of a collection.
+     *
+     * @param collectionName The collection to backfill
+     * @param filter The filter selecting documents missing a derived field
+     * @param update Builds the update for a document
+     * @param fields The source fields the derived values are built from
+     * @return The number of documents updated
+     */
+    private long backfill(String collectionName, Bson filter, Function<Document, Bson> update, String... fields) {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName);
+        List<WriteModel<Document>> pendingWrites = new ArrayList<>();
+        long updated = 0;
+
+        try (MongoCursor<Document> cursor = collection.find(filter)
+                .projection(Projections.include(fields))
+                .batchSize(batchSize)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Document document = cursor.next();
+                pendingWrites.add(new UpdateOneModel<>(Filters.eq("_id", document.get("_id")), update.apply(document)));
+
+                if (pendingWrites.size() >= batchSize) {
+                    updated += collection.bulkWrite(pendingWrites, new BulkWriteOptions().ordered(false)).getModifiedCount();
+                    pendingWrites.clear();
+                }
+            }
+        }
+
+        if (!pendingWrites.isEmpty()) {
+            updated += collection.bulkWrite(pendingWrites, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        }
+        return updated;
+    }
+}
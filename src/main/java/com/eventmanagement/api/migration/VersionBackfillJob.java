@@ -0,0 +1,39 @@
+package com.eventmanagement.api.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfill of the version field on users and events written before documents were versioned.
+ * Spring Data treats a versioned document without a version as new and would insert it on save,
+ * failing with a duplicate key, so existing users must carry a version before they are saved again.
+ * Only documents missing the field are touched and the job can be re-run safely.
+ */
+@Component
+@ConditionalOnProperty(name = "app.migration.versions.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VersionBackfillJob implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long users = backfill("users");
+        long events = backfill("events");
+        log.info("Version backfill complete: updated {} users and {} events", users, events);
+    }
+
+    private long backfill(String collectionName) {
+        return mongoTemplate.getCollection(collectionName)
+                .updateMany(Filters.exists("version", false), Updates.set("version", 0L))
+                .getModifiedCount();
+    }
+}
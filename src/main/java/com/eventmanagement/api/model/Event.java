@@ -8,8 +8,10 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -18,8 +20,10 @@ import java.util.Map;
 
 /**
  * Event document model for MongoDB.
- * Uses embedded documents for agenda, sessions, speakers, and registrations
+ * Uses embedded documents for agenda, sessions, speakers, and ticket types
  * to demonstrate MongoDB's document-oriented capabilities.
+ * Registrations live in their own collection (see {@link Registration}); registrations still embedded
+ * by older versions are moved there on startup.
  */
 @Document(collection = "events")
 @Data
@@ -27,28 +31,41 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 @CompoundIndex(name = "organizer_status_idx", def = "{organizerId: 1, status: 1}")
+@CompoundIndex(name = "start_date_id_idx", def = "{startDate: 1, _id: 1}")
+@CompoundIndex(name = "status_start_date_id_idx", def = "{status: 1, startDate: 1, _id: 1}")
+@CompoundIndex(name = "status_category_start_date_id_idx", def = "{status: 1, category: 1, startDate: 1, _id: 1}")
+@CompoundIndex(name = "status_location_key_idx", def = "{status: 1, locationKey: 1}")
+@CompoundIndex(name = "status_search_prefixes_idx", def = "{status: 1, searchPrefixes: 1}")
+// Only events with sharded inventory are indexed, which keeps the index used by the sold count rollup small
+@CompoundIndex(name = "inventory_buckets_status_end_date_idx", def = "{status: 1, endDate: 1}",
+        partialFilter = "{inventoryBuckets: {$gt: 0}}")
 public class Event {
 
     @Id
     private String id;
     
+    @TextIndexed(weight = 10)
     private String title;
     
+    @TextIndexed
     private String description;
     
+    @TextIndexed(weight = 5)
     private String location;
     
+    private String locationKey; // Normalized location (lower case, no diacritics or punctuation), kept up to date on save
+    
     private LocalDateTime startDate;
     
     private LocalDateTime endDate;
     
-    @Indexed
     private String organizerId;
     
     private String organizerName;
     
     private String status; // DRAFT, PUBLISHED, CANCELLED, COMPLETED
     
+    @TextIndexed(weight = 5)
     private String category;
     
     private String imageUrl;
@@ -64,8 +81,10 @@ public class Event {
     @Builder.Default
     private List<TicketType> ticketTypes = new ArrayList<>();
     
-    @Builder.Default
-    private List<Registration> registrations = new ArrayList<>();
+    @Field("registrations")
+    private List<Map<String, Object>> legacyRegistrations; // Registrations embedded before they had their own collection; kept mapped so saving the event never drops them before RegistrationMigrationJob has moved them
+    
+    private int inventoryBuckets; // 0: tickets are counted on the ticket types; otherwise the buckets per ticket type (see InventoryBucket)
     
     @CreatedDate
     private LocalDateTime createdAt;
@@ -73,6 +92,15 @@ public class Event {
     @LastModifiedDate
     private LocalDateTime updatedAt;
     
+    private long version; // Revision of the event details, incremented on every edit; ticket sales leave it unchanged
+    
+    private long inventoryVersion; // Incremented on every change to sold or held tickets and session seats
+    
+    private List<String> searchPrefixes; // Normalized edge n-grams of title, location and category, kept up to date on save
+    
+    @TextScore
+    private Float score; // Relevance of a full-text search match, never persisted
+    
     /**
      * Embedded speaker document.
      */
@@ -122,7 +150,8 @@ public class Event {
         private LocalDateTime startTime;
         private LocalDateTime endTime;
         private List<String> speakerIds;
-        private int capacity;
+        private int capacity; // Seats available; 0 or less means unlimited
+        private int booked; // Seats taken, only changed atomically together with a ticket reservation or release
         private String sessionType; // e.g., "WORKSHOP", "PRESENTATION", "PANEL"
         private Map<String, String> additionalInfo;
     }
@@ -141,30 +170,9 @@ public class Event {
         private double price;
         private int quantity;
         private int sold;
+        private int held; // Seats reserved by active holds, counted against availability until confirmed or released
         private LocalDateTime saleStartDate;
         private LocalDateTime saleEndDate;
         private boolean isAvailable;
     }
-    
-    /**
-     * Embedded registration document for attendee registrations.
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class Registration {
-        private String id;
-        private String userId;
-        private String userName;
-        private String userEmail;
-        private String ticketTypeId;
-        private String ticketTypeName;
-        private double amountPaid;
-        private String status; // CONFIRMED, CANCELLED, PENDING
-        private LocalDateTime registrationDate;
-        private String confirmationCode;
-        private List<String> sessionIds; // Optional: for tracking session attendance
-        private Map<String, String> attendeeInfo; // Custom fields for registration
-    }
 }
\ No newline at end of file
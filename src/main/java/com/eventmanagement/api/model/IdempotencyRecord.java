@@ -0,0 +1,45 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency key document model for MongoDB.
+ * Records the outcome of a request sent with an Idempotency-Key header, so a retry of the same request
+ * is answered with the stored response instead of being executed again. Records expire after a TTL.
+ */
+@Document(collection = "idempotency_keys")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    public static final String IN_PROGRESS = "IN_PROGRESS";
+    public static final String COMPLETED = "COMPLETED";
+
+    @Id
+    private String id; // Operation, user ID and the client's key, e.g. "event.register:<userId>:<key>"
+
+    private String requestHash; // Fingerprint of the request body; a key may not be reused for a different request
+
+    private String status; // IN_PROGRESS, COMPLETED
+
+    private String owner; // Token of the request executing the operation while it is in progress
+
+    private LocalDateTime lockedUntil; // Another request may take the key over once the owner's lock has expired
+
+    private String response; // The JSON response body, once completed
+
+    private LocalDateTime createdAt;
+
+    @Indexed(name = "expires_at_ttl_idx", expireAfter = "0s")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,53 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Inventory bucket document model for MongoDB.
+ * An event with sharded inventory splits the quantity of each ticket type across several buckets, so
+ * concurrent reservations update different documents instead of all contending for the event document.
+ * The tickets sold of a ticket type are the sum over its buckets.
+ */
+@Document(collection = "inventory_buckets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndex(name = "event_ticket_type_idx", def = "{eventId: 1, ticketTypeId: 1}")
+public class InventoryBucket {
+
+    @Id
+    private String id; // eventId:ticketTypeId:index, so a bucket is updated by ID without a lookup
+
+    private String eventId;
+
+    private String ticketTypeId;
+
+    private int index;
+
+    private int quantity;
+
+    private int sold;
+
+    private int available; // quantity - sold, kept alongside so a reservation is a single-field guard
+
+    private boolean open; // Tickets are only reserved while the event is published and the ticket type available
+
+    /**
+     * Build the ID of a bucket.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @param index The index of the bucket
+     * @return The bucket ID
+     */
+    public static String id(String eventId, String ticketTypeId, int index) {
+        return eventId + ":" + ticketTypeId + ":" + index;
+    }
+}
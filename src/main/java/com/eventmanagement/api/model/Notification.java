@@ -0,0 +1,46 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification document model for MongoDB.
+ * Each notification is its own document in a per-user inbox, so reading and updating
+ * notifications never loads or rewrites the user document.
+ */
+@Document(collection = "notifications")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndexes({
+        @CompoundIndex(name = "user_read_created_idx", def = "{userId: 1, read: 1, createdAt: -1}"),
+        @CompoundIndex(name = "user_created_idx", def = "{userId: 1, createdAt: -1}")
+})
+public class Notification {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String title;
+
+    private String message;
+
+    private boolean read;
+
+    private LocalDateTime createdAt;
+
+    private String type; // e.g., "EVENT_REMINDER", "REGISTRATION_CONFIRMATION"
+
+    private String relatedEntityId; // e.g., eventId or registrationId
+}
@@ -0,0 +1,53 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Outbox document model for MongoDB.
+ * Records a side effect (notification, email, webhook) in the same transaction as the write
+ * that caused it; the outbox dispatcher delivers it asynchronously with retries.
+ */
+@Document(collection = "outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndex(name = "status_next_attempt_idx", def = "{status: 1, nextAttemptAt: 1}")
+public class OutboxMessage {
+
+    public static final String REGISTRATION_CONFIRMED = "REGISTRATION_CONFIRMED";
+    public static final String WAITLIST_PROMOTED = "WAITLIST_PROMOTED";
+
+    @Id
+    private String id;
+
+    private String type; // e.g., "REGISTRATION_CONFIRMED", "WAITLIST_PROMOTED"
+
+    @Indexed(unique = true)
+    private String idempotencyKey; // Identifies the side effect; handlers use it to apply the effect at most once
+
+    private Map<String, String> payload;
+
+    private String status; // PENDING, DONE, FAILED
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt; // Also acts as the claim lease while a dispatcher is processing the message
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    @Indexed(name = "processed_ttl_idx", expireAfter = "7d")
+    private LocalDateTime processedAt;
+}
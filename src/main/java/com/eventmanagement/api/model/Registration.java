@@ -0,0 +1,98 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registration document model for MongoDB.
+ * Stored in its own collection rather than embedded in the event, so attendee
+ * lists can grow without inflating every event read and write.
+ */
+@Document(collection = "registrations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndexes({
+        // Attendees registered by a group purchaser have no user account, so only registrations with a userId are unique
+        @CompoundIndex(name = "event_user_confirmed_idx", def = "{eventId: 1, userId: 1}",
+                unique = true, partialFilter = "{status: 'CONFIRMED', userId: {$exists: true}}"),
+        @CompoundIndex(name = "user_registration_date_idx", def = "{userId: 1, registrationDate: -1}"),
+        // The partial index above only serves lookups of confirmed registrations; an event's registration list and
+        // deleting an event cover them all
+        @CompoundIndex(name = "event_registration_date_idx", def = "{eventId: 1, registrationDate: -1}")
+})
+public class Registration {
+
+    @Id
+    private String id;
+
+    private String eventId;
+
+    private String userId; // Unset for attendees of a group registration
+
+    private String purchaserId; // The user who registered the group; unset for individual registrations
+
+    private String groupId; // Shared by the registrations created by one group registration
+
+    private String userName;
+
+    private String userEmail;
+
+    private String ticketTypeId;
+
+    private String ticketTypeName;
+
+    private double amountPaid;
+
+    private String status; // CONFIRMED, CANCELLED, PENDING
+
+    private LocalDateTime registrationDate;
+
+    private LocalDateTime cancelledAt;
+
+    private String confirmationCode;
+
+    private List<String> sessionIds; // Optional: for tracking session attendance
+
+    private Map<String, String> attendeeInfo; // Custom fields for registration
+
+    /**
+     * Start a confirmed registration with a new confirmation code and no sessions.
+     * Callers add the attendee, and the purchaser and group for group registrations.
+     *
+     * @param eventId The event registered for
+     * @param ticketTypeId The ticket type the seat was taken from
+     * @param ticketTypeName The ticket type name shown to the attendee
+     * @param amountPaid The amount paid for the ticket
+     * @param attendeeInfo Custom registration fields
+     * @param registrationDate When the registration was confirmed
+     * @return A builder for the registration
+     */
+    public static RegistrationBuilder confirmed(String eventId, String ticketTypeId, String ticketTypeName,
+                                                double amountPaid, Map<String, String> attendeeInfo,
+                                                LocalDateTime registrationDate) {
+        return builder()
+                .eventId(eventId)
+                .ticketTypeId(ticketTypeId)
+                .ticketTypeName(ticketTypeName)
+                .amountPaid(amountPaid)
+                .attendeeInfo(attendeeInfo)
+                .status("CONFIRMED")
+                .registrationDate(registrationDate)
+                .confirmationCode(UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .sessionIds(new ArrayList<>());
+    }
+}
@@ -0,0 +1,62 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ticket hold document model for MongoDB.
+ * A hold reserves tickets of one ticket type for a few minutes while the user checks out; its tickets are
+ * counted in the ticket type's held count until the hold is confirmed, released or expires.
+ * Active holds are returned to inventory by the expiry sweeper rather than by the TTL index, which would
+ * delete them without decrementing the held count; the TTL index only removes holds once they are settled.
+ */
+@Document(collection = "ticket_holds")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndexes({
+        @CompoundIndex(name = "status_expires_at_idx", def = "{status: 1, expiresAt: 1}")
+})
+public class TicketHold {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String RELEASED = "RELEASED";
+    public static final String EXPIRED = "EXPIRED";
+
+    @Id
+    private String id;
+
+    @Indexed(name = "event_id_idx")
+    private String eventId;
+
+    private String ticketTypeId;
+
+    private String ticketTypeName;
+
+    private String userId;
+
+    private int quantity;
+
+    private String status; // ACTIVE, CONFIRMED, RELEASED (by the user), EXPIRED (by the sweeper)
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+
+    @Indexed(name = "settled_at_ttl_idx", expireAfter = "1d")
+    private LocalDateTime settledAt; // Set when the hold leaves ACTIVE; settled holds are kept for a day
+
+    private List<String> registrationIds; // The registrations created on confirmation, one per held ticket
+}
@@ -7,8 +7,11 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +33,7 @@ import java.util.stream.Collectors;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@CompoundIndex(name = "created_at_id_idx", def = "{createdAt: -1, _id: -1}")
 public class User implements UserDetails {
 
     @Id
@@ -45,6 +50,7 @@ public class User implements UserDetails {
     
     private String phoneNumber;
     
+    @Indexed
     @Builder.Default
     private List<String> roles = new ArrayList<>();
     
@@ -66,8 +72,14 @@ public class User implements UserDetails {
     @LastModifiedDate
     private LocalDateTime updatedAt;
     
-    @Builder.Default
-    private List<Notification> notifications = new ArrayList<>();
+    @Version
+    private Long version; // Checked and incremented on every save, so concurrent saves cannot overwrite each other
+    
+    @Field("notifications")
+    private List<Map<String, Object>> legacyNotifications; // Notifications embedded before they had their own collection; kept mapped so saving the user never drops them before NotificationMigrationJob has moved them
+    
+    @Indexed
+    private List<String> searchPrefixes; // Normalized edge n-grams of first and last name, kept up to date on save
     
     /**
      * Returns the authorities granted to the user.
@@ -84,22 +96,4 @@ public class User implements UserDetails {
     public String getUsername() {
         return email;
     }
-
-    /**
-     * Embedded notification document for storing user notifications.
-     * Using embedded document pattern for efficient retrieval.
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class Notification {
-        private String id;
-        private String title;
-        private String message;
-        private boolean read;
-        private LocalDateTime createdAt;
-        private String type; // e.g., "EVENT_REMINDER", "REGISTRATION_CONFIRMATION"
-        private String relatedEntityId; // e.g., eventId or registrationId
-    }
-}
\ No newline at end of file
+}
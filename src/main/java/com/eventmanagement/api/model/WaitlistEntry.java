@@ -0,0 +1,61 @@
+package com.eventmanagement.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Waitlist entry document model for MongoDB.
+ * Each sold-out ticket type has a first-in, first-out waitlist: when a seat frees up, the longest
+ * waiting entry is promoted to a confirmed registration.
+ */
+@Document(collection = "waitlist")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@CompoundIndexes({
+        @CompoundIndex(name = "ticket_type_queue_idx", def = "{eventId: 1, ticketTypeId: 1, status: 1, joinedAt: 1, _id: 1}"),
+        @CompoundIndex(name = "event_user_waiting_idx", def = "{eventId: 1, userId: 1}",
+                unique = true, partialFilter = "{status: 'WAITING'}")
+})
+public class WaitlistEntry {
+
+    public static final String WAITING = "WAITING";
+    public static final String PROMOTED = "PROMOTED";
+    public static final String LEFT = "LEFT";
+    public static final String SKIPPED = "SKIPPED";
+
+    @Id
+    private String id;
+
+    private String eventId;
+
+    private String ticketTypeId;
+
+    private String userId;
+
+    private String userName;
+
+    private String userEmail;
+
+    private double amountPaid;
+
+    private Map<String, String> attendeeInfo;
+
+    private String status; // WAITING, PROMOTED, LEFT, SKIPPED (already registered when its turn came)
+
+    private LocalDateTime joinedAt;
+
+    private LocalDateTime promotedAt;
+
+    private String registrationId; // The registration created on promotion
+}
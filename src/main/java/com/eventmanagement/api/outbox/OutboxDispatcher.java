@@ -0,0 +1,108 @@
+package com.eventmanagement.api.outbox;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.repository.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background dispatcher that drains the outbox.
+ * Each poll claims up to a batch of due messages one at a time and hands them to the handler
+ * for their type. Failed deliveries are retried with exponential backoff and jitter until
+ * the attempt limit is reached, after which the message is marked FAILED.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final Map<String, OutboxHandler> handlers;
+
+    @Value("${app.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.lease:30s}")
+    private Duration lease;
+
+    @Value("${app.outbox.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${app.outbox.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository, List<OutboxHandler> handlers) {
+        this.outboxRepository = outboxRepository;
+        this.handlers = handlers.stream().collect(Collectors.toMap(OutboxHandler::getType, Function.identity()));
+    }
+
+    /**
+     * Deliver the due messages, up to one batch per poll.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:1000}")
+    public void dispatch() {
+        for (int i = 0; i < batchSize; i++) {
+            Optional<OutboxMessage> claimed = outboxRepository.claimNext(LocalDateTime.now(), lease);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            deliver(claimed.get());
+        }
+    }
+
+    /**
+     * Deliver one claimed message and record the outcome.
+     *
+     * @param message The claimed outbox message
+     */
+    private void deliver(OutboxMessage message) {
+        OutboxHandler handler = handlers.get(message.getType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No outbox handler for type " + message.getType());
+            }
+            handler.handle(message);
+            outboxRepository.markDone(message.getId(), LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            String error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+            if (message.getAttempts() >= maxAttempts) {
+                log.error("Giving up on outbox message {} ({}) after {} attempts",
+                        message.getId(), message.getIdempotencyKey(), message.getAttempts(), ex);
+                outboxRepository.markFailed(message.getId(), error);
+            } else {
+                Duration backoff = backoff(message.getAttempts());
+                log.warn("Outbox message {} ({}) failed, retrying in {}: {}",
+                        message.getId(), message.getIdempotencyKey(), backoff, error);
+                outboxRepository.scheduleRetry(message.getId(), LocalDateTime.now().plus(backoff), error);
+            }
+        }
+    }
+
+    /**
+     * Compute the delay before the next attempt: exponential in the attempt count, capped,
+     * with jitter so retries of messages that failed together spread out.
+     *
+     * @param attempts The number of attempts made so far
+     * @return The delay before the next attempt
+     */
+    private Duration backoff(int attempts) {
+        long exponential = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, maxBackoff.toMillis());
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(capped / 2, capped + 1));
+    }
+}
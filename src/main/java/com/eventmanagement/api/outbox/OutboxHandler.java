@@ -0,0 +1,25 @@
+package com.eventmanagement.api.outbox;
+
+import com.eventmanagement.api.model.OutboxMessage;
+
+/**
+ * Delivers one type of outbox message.
+ * Messages are delivered at least once, so implementations must be idempotent on the
+ * message's idempotency key.
+ */
+public interface OutboxHandler {
+
+    /**
+     * The message type this handler delivers.
+     *
+     * @return The message type
+     */
+    String getType();
+
+    /**
+     * Deliver a message. Throwing schedules a retry with backoff.
+     *
+     * @param message The outbox message
+     */
+    void handle(OutboxMessage message);
+}
@@ -0,0 +1,42 @@
+package com.eventmanagement.api.outbox;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Records side effects in the outbox.
+ * Call from inside the transaction of the write that causes the side effect, so the
+ * message is stored if and only if that write commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * Record a side effect for asynchronous delivery.
+     *
+     * @param type The message type, which selects the handler
+     * @param idempotencyKey The key identifying the side effect
+     * @param payload The data the handler needs
+     * @return The stored outbox message
+     */
+    public OutboxMessage publish(String type, String idempotencyKey, Map<String, String> payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return outboxRepository.insert(OutboxMessage.builder()
+                .type(type)
+                .idempotencyKey(idempotencyKey)
+                .payload(payload)
+                .status("PENDING")
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+}
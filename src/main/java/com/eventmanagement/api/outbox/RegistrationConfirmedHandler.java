@@ -0,0 +1,33 @@
+package com.eventmanagement.api.outbox;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Sends the registration confirmation notification.
+ * The notification ID is derived from the idempotency key, so redelivery never creates a duplicate.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistrationConfirmedHandler implements OutboxHandler {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String getType() {
+        return OutboxMessage.REGISTRATION_CONFIRMED;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        Map<String, String> payload = message.getPayload();
+        notificationService.notifyOnce(message.getIdempotencyKey(), payload.get("userId"),
+                "Registration Confirmation",
+                "You have successfully registered for " + payload.get("eventTitle"),
+                "REGISTRATION_CONFIRMATION", payload.get("eventId"));
+    }
+}
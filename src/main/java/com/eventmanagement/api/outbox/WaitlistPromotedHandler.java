@@ -0,0 +1,33 @@
+package com.eventmanagement.api.outbox;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Notifies a waitlisted user that a seat freed up and they are now registered.
+ * The notification ID is derived from the idempotency key, so redelivery never creates a duplicate.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromotedHandler implements OutboxHandler {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public String getType() {
+        return OutboxMessage.WAITLIST_PROMOTED;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        Map<String, String> payload = message.getPayload();
+        notificationService.notifyOnce(message.getIdempotencyKey(), payload.get("userId"),
+                "Waitlist Promotion",
+                "A seat became available and you are now registered for " + payload.get("eventTitle"),
+                "WAITLIST_PROMOTION", payload.get("eventId"));
+    }
+}
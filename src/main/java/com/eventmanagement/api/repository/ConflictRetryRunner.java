@@ -0,0 +1,111 @@
+package com.eventmanagement.api.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write against versioned documents, retrying it when another writer changed the
+ * document in between (an optimistic locking failure). Retries wait a random time up to an exponentially
+ * growing cap ("full jitter"), so writers that collided do not collide again in lockstep.
+ * Every run and conflict is counted per operation, giving the conflict rate of each operation.
+ */
+@Component
+@Slf4j
+public class ConflictRetryRunner {
+
+    static final String OPERATIONS_METRIC = "optimistic.lock.operations";
+    static final String CONFLICTS_METRIC = "optimistic.lock.conflicts";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public ConflictRetryRunner(MeterRegistry meterRegistry,
+                               @Value("${app.optimistic-lock.max-attempts:5}") int maxAttempts,
+                               @Value("${app.optimistic-lock.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${app.optimistic-lock.max-backoff:200ms}") Duration maxBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Execute the work, retrying version conflicts up to the configured number of attempts.
+     *
+     * @param operation The operation name used to tag the metrics, e.g. "event.publish"
+     * @param work The work to run; must read the documents it changes, as it may be invoked more than once
+     * @param <T> The result type
+     * @return The result of the work
+     * @throws OptimisticLockingFailureException if every attempt conflicted
+     */
+    public <T> T execute(String operation, Supplier<T> work) {
+        return execute(operation, maxAttempts, work);
+    }
+
+    /**
+     * Execute the work, retrying version conflicts up to the given number of attempts.
+     * With a single attempt, conflicts are only counted; use it when the expected version comes from the client.
+     *
+     * @param operation The operation name used to tag the metrics
+     * @param attempts The maximum number of attempts
+     * @param work The work to run; must read the documents it changes, as it may be invoked more than once
+     * @param <T> The result type
+     * @return The result of the work
+     * @throws OptimisticLockingFailureException if every attempt conflicted
+     */
+    public <T> T execute(String operation, int attempts, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = work.get();
+                operations(operation, "success").increment();
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                conflicts(operation).increment();
+                if (attempt >= attempts) {
+                    operations(operation, "conflict").increment();
+                    throw ex;
+                }
+                log.debug("Retrying {} after version conflict (attempt {})", operation, attempt);
+                backOff(attempt, ex);
+            } catch (RuntimeException ex) {
+                operations(operation, "error").increment();
+                throw ex;
+            }
+        }
+    }
+
+    private void backOff(int attempt, OptimisticLockingFailureException conflict) {
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private Counter operations(String operation, String outcome) {
+        return Counter.builder(OPERATIONS_METRIC)
+                .description("Read-modify-write operations on versioned documents, by final outcome")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter conflicts(String operation) {
+        return Counter.builder(CONFLICTS_METRIC)
+                .description("Version conflicts hit by read-modify-write operations, including retried ones")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
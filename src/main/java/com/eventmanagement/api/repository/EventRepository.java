@@ -9,13 +9,68 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * MongoDB repository for Event document operations.
  * Provides methods for querying and manipulating event data.
  */
 @Repository
-public interface EventRepository extends MongoRepository<Event, String> {
+public interface EventRepository extends MongoRepository<Event, String>, EventRepositoryCustom {
+
+    /**
+     * Field projection used by list queries.
+     * Loads only what event summaries need instead of speakers, agenda and ticket descriptions.
+     */
+    String SUMMARY_FIELDS = "{\"title\": 1, \"location\": 1, \"startDate\": 1, \"endDate\": 1, "
+            + "\"organizerId\": 1, \"organizerName\": 1, \"status\": 1, \"category\": 1, \"imageUrl\": 1, "
+            + "\"ticketTypes.price\": 1, \"ticketTypes.quantity\": 1, \"ticketTypes.sold\": 1, "
+            + "\"ticketTypes.held\": 1, \"ticketTypes.isAvailable\": 1, \"inventoryBuckets\": 1, \"updatedAt\": 1, "
+            + "\"version\": 1, \"inventoryVersion\": 1}";
+
+    /**
+     * Field projection used to report remaining session seats.
+     */
+    String SESSION_SEAT_FIELDS = "{\"agenda._id\": 1, \"agenda.sessions._id\": 1, \"agenda.sessions.title\": 1, "
+            + "\"agenda.sessions.capacity\": 1, \"agenda.sessions.booked\": 1}";
+
+    /**
+     * Find an event by ID, loading only the agenda session IDs, titles, capacities and booked seats.
+     *
+     * @param id The ID of the event
+     * @return Optional containing the event with only session seat fields
+     */
+    @Query(value = "{\"_id\": ?0}", fields = SESSION_SEAT_FIELDS)
+    Optional<Event> findSessionSeatsById(String id);
+
+    /**
+     * Find an event by ID, loading only summary fields.
+     *
+     * @param id The ID of the event
+     * @return Optional containing the event with only summary fields
+     */
+    @Query(value = "{\"_id\": ?0}", fields = SUMMARY_FIELDS)
+    Optional<Event> findSummaryById(String id);
+
+    /**
+     * Find the published events with sharded inventory that have not ended, loading only the IDs and sold counts
+     * of their ticket types. Served by the partial (status, endDate) index over events with inventory buckets.
+     *
+     * @param now The current date and time
+     * @return The published, unfinished events whose tickets are reserved from inventory buckets
+     */
+    @Query(value = "{\"inventoryBuckets\": {$gt: 0}, \"status\": \"PUBLISHED\", \"endDate\": {$gt: ?0}}",
+            fields = "{\"ticketTypes._id\": 1, \"ticketTypes.sold\": 1}")
+    List<Event> findPublishedWithInventoryBuckets(LocalDateTime now);
+
+    /**
+     * Find all events with pagination, loading only summary fields.
+     *
+     * @param pageable Pagination information
+     * @return Page of event summaries
+     */
+    @Query(value = "{}", fields = SUMMARY_FIELDS)
+    Page<Event> findAllSummaries(Pageable pageable);
 
     /**
      * Find events by organizer ID.
@@ -27,63 +82,46 @@ public interface EventRepository extends MongoRepository<Event, String> {
     List<Event> findByOrganizerId(String organizerId);
 
     /**
-     * Find events by organizer ID with pagination.
+     * Find events by organizer ID with pagination, loading only summary fields.
      *
      * @param organizerId The ID of the organizer
      * @param pageable Pagination information
-     * @return Page of events organized by the specified user
+     * @return Page of event summaries organized by the specified user
      */
+    @Query(value = "{\"organizerId\": ?0}", fields = SUMMARY_FIELDS)
     Page<Event> findByOrganizerId(String organizerId, Pageable pageable);
 
     /**
-     * Find published events by category.
+     * Find published events by category, loading only summary fields.
      *
      * @param category The event category
      * @param pageable Pagination information
-     * @return Page of published events in the specified category
+     * @return Page of summaries of published events in the specified category
      */
-    @Query("{\"category\": ?0, \"status\": \"PUBLISHED\"}")
+    @Query(value = "{\"category\": ?0, \"status\": \"PUBLISHED\"}", fields = SUMMARY_FIELDS)
     Page<Event> findPublishedEventsByCategory(String category, Pageable pageable);
 
     /**
-     * Find upcoming events (start date is in the future and status is PUBLISHED).
+     * Find upcoming events (start date is in the future and status is PUBLISHED), loading only summary fields.
      *
      * @param now The current date and time
      * @param pageable Pagination information
-     * @return Page of upcoming events
+     * @return Page of summaries of upcoming events
      */
-    @Query("{\"startDate\": {$gt: ?0}, \"status\": \"PUBLISHED\"}")
+    @Query(value = "{\"startDate\": {$gt: ?0}, \"status\": \"PUBLISHED\"}", fields = SUMMARY_FIELDS)
     Page<Event> findUpcomingEvents(LocalDateTime now, Pageable pageable);
 
     /**
-     * Search events by title or description (case insensitive).
-     *
-     * @param searchTerm The search term
-     * @param pageable Pagination information
-     * @return Page of matching events
-     */
-    @Query("{$or: [{\"title\": {$regex: ?0, $options: 'i'}}, {\"description\": {$regex: ?0, $options: 'i'}}], \"status\": \"PUBLISHED\"}")
-    Page<Event> searchEvents(String searchTerm, Pageable pageable);
-
-    /**
-     * Find events by location (case insensitive).
+     * Find published events whose normalized location starts with the given key, loading only summary fields.
+     * The key must be normalized with {@link com.eventmanagement.api.search.SearchTokenizer#key(String)},
+     * which makes the anchored regex safe and lets it use the (status, locationKey) index.
      *
-     * @param location The location to search for
+     * @param locationKeyPattern The anchored pattern, {@code ^} followed by the normalized location key
      * @param pageable Pagination information
-     * @return Page of events at the specified location
-     */
-    @Query("{\"location\": {$regex: ?0, $options: 'i'}, \"status\": \"PUBLISHED\"}")
-    Page<Event> findByLocationContainingIgnoreCase(String location, Pageable pageable);
-
-    /**
-     * Find events that have a specific user registered.
-     * Demonstrates querying embedded documents in MongoDB.
-     *
-     * @param userId The ID of the registered user
-     * @return List of events the user is registered for
+     * @return Page of summaries of events at the specified location
      */
-    @Query("{\"registrations.userId\": ?0}")
-    List<Event> findEventsByAttendeeId(String userId);
+    @Query(value = "{\"locationKey\": {$regex: ?0}, \"status\": \"PUBLISHED\"}", fields = SUMMARY_FIELDS)
+    Page<Event> findPublishedByLocationKey(String locationKeyPattern, Pageable pageable);
 
     /**
      * Count the number of events by status.
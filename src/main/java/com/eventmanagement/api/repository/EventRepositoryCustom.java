@@ -0,0 +1,179 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Custom event repository operations that need MongoTemplate-level control,
+ * such as conditional atomic updates against embedded documents and text search.
+ */
+public interface EventRepositoryCustom {
+
+    /**
+     * Atomically reserve one ticket of the given type and one seat in each of the given sessions.
+     * The ticket and session counts are incremented in a single conditional update, which only
+     * matches while the event is published, the ticket type is available with seats left and every
+     * session has a seat left, so a full session rejects the whole reservation.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type to reserve
+     * @param sessionIds The IDs of the sessions to book, without duplicates
+     * @return Optional containing the updated event, or empty if the reservation was rejected
+     */
+    Optional<Event> reserveTicket(String eventId, String ticketTypeId, Collection<String> sessionIds);
+
+    /**
+     * Atomically reserve seats across one or more ticket types of an event, all or nothing.
+     * Every sold count is incremented in a single conditional update, which only matches while the event
+     * is published and each ticket type is available with enough seats left, so one sold-out ticket type
+     * rejects the whole reservation.
+     *
+     * @param eventId The ID of the event
+     * @param seatsByTicketType The number of seats to reserve, by ticket type ID
+     * @return Optional containing the updated event, or empty if the reservation was rejected
+     */
+    Optional<Event> reserveTickets(String eventId, Map<String, Integer> seatsByTicketType);
+
+    /**
+     * Atomically book one seat in each of the given sessions of a published event, without reserving a ticket,
+     * for events whose tickets are reserved from inventory buckets. The update only matches while every
+     * session has a seat left.
+     *
+     * @param eventId The ID of the event
+     * @param sessionIds The IDs of the sessions to book, without duplicates
+     * @return Optional containing the updated event, or empty if the booking was rejected
+     */
+    Optional<Event> reserveSessionSeats(String eventId, Collection<String> sessionIds);
+
+    /**
+     * Atomically release one previously reserved ticket of the given type and its session seats.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type to release
+     * @param sessionIds The IDs of the sessions booked with the ticket, without duplicates
+     * @return true if a ticket was released, false otherwise
+     */
+    boolean releaseTicket(String eventId, String ticketTypeId, Collection<String> sessionIds);
+
+    /**
+     * Atomically release session seats while keeping the ticket sold, e.g. when the ticket is handed
+     * to a waitlisted user who has not booked those sessions.
+     *
+     * @param eventId The ID of the event
+     * @param sessionIds The IDs of the sessions to release, without duplicates
+     */
+    void releaseSessionSeats(String eventId, Collection<String> sessionIds);
+
+    /**
+     * Set the sold counts of ticket types, e.g. to the totals of their inventory buckets.
+     * The event version is left unchanged and the inventory version incremented, as for every ticket sale.
+     *
+     * @param eventId The ID of the event
+     * @param soldByTicketType The tickets sold, by ticket type ID
+     */
+    void updateSoldCounts(String eventId, Map<String, Integer> soldByTicketType);
+
+    /**
+     * Atomically hold tickets of the given type for a pending checkout.
+     * Held tickets count against availability like sold ones, so the update only matches while the
+     * event is published and the ticket type is available with enough seats left for all of them.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type to hold
+     * @param quantity The number of tickets to hold
+     * @return Optional containing the updated event, or empty if the hold was rejected
+     */
+    Optional<Event> holdTickets(String eventId, String ticketTypeId, int quantity);
+
+    /**
+     * Atomically turn held tickets of the given type into sold ones.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the held ticket type
+     * @param quantity The number of held tickets to sell
+     * @return true if the tickets were sold, false if fewer tickets were held
+     */
+    boolean sellHeldTickets(String eventId, String ticketTypeId, int quantity);
+
+    /**
+     * Atomically return held tickets of the given type to inventory.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the held ticket type
+     * @param quantity The number of held tickets to release
+     * @return true if the tickets were released, false if fewer tickets were held
+     */
+    boolean releaseHeldTickets(String eventId, String ticketTypeId, int quantity);
+
+    /**
+     * Apply a sequence of updates to an event that is still at the expected version.
+     * The first update is only applied while the event has the expected version and meets every condition,
+     * and must increment the version; the remaining updates then follow it. Callers run this in a
+     * transaction so that the updates are applied together.
+     *
+     * @param eventId The ID of the event
+     * @param expectedVersion The version the updates were computed against
+     * @param conditions Further criteria the event must match when the first update is applied
+     * @param updates The updates to apply in order
+     * @return true if the updates were applied, false if the event has changed or no longer exists
+     */
+    boolean applyUpdates(String eventId, long expectedVersion, List<Criteria> conditions, List<Update> updates);
+
+    /**
+     * Full-text search over published events using the text index, ranked by relevance.
+     * Only summary fields are loaded.
+     *
+     * @param searchTerm The search term
+     * @param pageable Pagination information; any sort is applied after relevance
+     * @return Page of matching event summaries, most relevant first
+     */
+    Page<Event> searchPublished(String searchTerm, Pageable pageable);
+
+    /**
+     * Find published events whose title, location or category words start with every given token.
+     * Only summary fields are loaded.
+     *
+     * @param prefixTokens The normalized query tokens (see {@link com.eventmanagement.api.search.SearchTokenizer})
+     * @param limit The maximum number of events to return
+     * @return Matching event summaries ordered by start date
+     */
+    List<Event> findPublishedByPrefixes(List<String> prefixTokens, int limit);
+
+    /**
+     * Fetch the next slice of all events in (startDate, id) order, loading only summary fields.
+     *
+     * @param after The position to continue after, or null for the first slice
+     * @param limit The maximum number of events to return
+     * @return Event summaries following the cursor
+     */
+    List<Event> scrollAllSummaries(KeysetCursor after, int limit);
+
+    /**
+     * Fetch the next slice of upcoming published events in (startDate, id) order, loading only summary fields.
+     *
+     * @param now The current date and time
+     * @param after The position to continue after, or null for the first slice
+     * @param limit The maximum number of events to return
+     * @return Upcoming event summaries following the cursor
+     */
+    List<Event> scrollUpcomingSummaries(LocalDateTime now, KeysetCursor after, int limit);
+
+    /**
+     * Fetch the next slice of published events in a category in (startDate, id) order, loading only summary fields.
+     *
+     * @param category The event category
+     * @param after The position to continue after, or null for the first slice
+     * @param limit The maximum number of events to return
+     * @return Event summaries following the cursor
+     */
+    List<Event> scrollPublishedSummariesByCategory(String category, KeysetCursor after, int limit);
+}
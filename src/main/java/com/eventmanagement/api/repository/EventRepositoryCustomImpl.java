@@ -0,0 +1,334 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link EventRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    private static final Document SUMMARY_FIELDS = Document.parse(EventRepository.SUMMARY_FIELDS);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Event> reserveTicket(String eventId, String ticketTypeId, Collection<String> sessionIds) {
+        Query query = new Query(Criteria.where("id").is(eventId)
+                .and("status").is("PUBLISHED")
+                .and("ticketTypes").elemMatch(Criteria.where("id").is(ticketTypeId).and("isAvailable").is(true))
+                .andOperator(Criteria.expr(hasSeatsLeft(Map.of(ticketTypeId, 1), sessionIds))));
+
+        // Array filters and aggregation expressions are not mapped, so they use the stored _id of embedded documents
+        Update update = new Update()
+                .inc("ticketTypes.$[ticketType].sold", 1)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("inventoryVersion", 1)
+                .filterArray(Criteria.where("ticketType._id").is(ticketTypeId));
+        bookSeats(update, sessionIds);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Event.class));
+    }
+
+    @Override
+    public Optional<Event> reserveSessionSeats(String eventId, Collection<String> sessionIds) {
+        Query query = new Query(Criteria.where("id").is(eventId)
+                .and("status").is("PUBLISHED")
+                .andOperator(Criteria.expr(hasSeatsLeft(Map.of(), sessionIds))));
+
+        Update update = new Update().set("updatedAt", LocalDateTime.now()).inc("inventoryVersion", 1);
+        bookSeats(update, sessionIds);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Event.class));
+    }
+
+    @Override
+    public Optional<Event> reserveTickets(String eventId, Map<String, Integer> seatsByTicketType) {
+        List<Criteria> guards = new ArrayList<>();
+        seatsByTicketType.keySet().forEach(ticketTypeId -> guards.add(Criteria.where("ticketTypes")
+                .elemMatch(Criteria.where("id").is(ticketTypeId).and("isAvailable").is(true))));
+        guards.add(Criteria.expr(hasSeatsLeft(seatsByTicketType, List.of())));
+        Query query = new Query(Criteria.where("id").is(eventId).and("status").is("PUBLISHED").andOperator(guards));
+
+        Update update = new Update().set("updatedAt", LocalDateTime.now()).inc("inventoryVersion", 1);
+        int index = 0;
+        for (Map.Entry<String, Integer> seats : seatsByTicketType.entrySet()) {
+            String ticketType = "ticketType" + index++;
+            update.inc("ticketTypes.$[" + ticketType + "].sold", seats.getValue())
+                    .filterArray(Criteria.where(ticketType + "._id").is(seats.getKey()));
+        }
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Event.class));
+    }
+
+    @Override
+    public boolean releaseTicket(String eventId, String ticketTypeId, Collection<String> sessionIds) {
+        Query query = new Query(Criteria.where("id").is(eventId)
+                .and("ticketTypes").elemMatch(Criteria.where("id").is(ticketTypeId).and("sold").gt(0)));
+
+        Update update = new Update()
+                .inc("ticketTypes.$[ticketType].sold", -1)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("inventoryVersion", 1)
+                .filterArray(Criteria.where("ticketType._id").is(ticketTypeId));
+        releaseSeats(update, sessionIds);
+
+        return mongoTemplate.updateFirst(query, update, Event.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void releaseSessionSeats(String eventId, Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+
+        Update update = new Update().set("updatedAt", LocalDateTime.now()).inc("inventoryVersion", 1);
+        releaseSeats(update, sessionIds);
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(eventId)), update, Event.class);
+    }
+
+    @Override
+    public Optional<Event> holdTickets(String eventId, String ticketTypeId, int quantity) {
+        Query query = new Query(Criteria.where("id").is(eventId)
+                .and("status").is("PUBLISHED")
+                .and("ticketTypes").elemMatch(Criteria.where("id").is(ticketTypeId).and("isAvailable").is(true))
+                .andOperator(Criteria.expr(hasSeatsLeft(Map.of(ticketTypeId, quantity), List.of()))));
+
+        Update update = new Update()
+                .inc("ticketTypes.$[ticketType].held", quantity)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("inventoryVersion", 1)
+                .filterArray(Criteria.where("ticketType._id").is(ticketTypeId));
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Event.class));
+    }
+
+    @Override
+    public boolean sellHeldTickets(String eventId, String ticketTypeId, int quantity) {
+        Update update = new Update()
+                .inc("ticketTypes.$[ticketType].held", -quantity)
+                .inc("ticketTypes.$[ticketType].sold", quantity);
+        return updateHeldTickets(eventId, ticketTypeId, quantity, update);
+    }
+
+    @Override
+    public boolean releaseHeldTickets(String eventId, String ticketTypeId, int quantity) {
+        return updateHeldTickets(eventId, ticketTypeId, quantity,
+                new Update().inc("ticketTypes.$[ticketType].held", -quantity));
+    }
+
+    /**
+     * Apply an update to a ticket type holding at least the given number of tickets, so held never goes negative.
+     */
+    private boolean updateHeldTickets(String eventId, String ticketTypeId, int quantity, Update update) {
+        Query query = new Query(Criteria.where("id").is(eventId)
+                .and("ticketTypes").elemMatch(Criteria.where("id").is(ticketTypeId).and("held").gte(quantity)));
+
+        update.set("updatedAt", LocalDateTime.now())
+                .inc("inventoryVersion", 1)
+                .filterArray(Criteria.where("ticketType._id").is(ticketTypeId));
+        return mongoTemplate.updateFirst(query, update, Event.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void updateSoldCounts(String eventId, Map<String, Integer> soldByTicketType) {
+        Update update = new Update().set("updatedAt", LocalDateTime.now()).inc("inventoryVersion", 1);
+        int index = 0;
+        for (Map.Entry<String, Integer> sold : soldByTicketType.entrySet()) {
+            String ticketType = "ticketType" + index++;
+            update.set("ticketTypes.$[" + ticketType + "].sold", sold.getValue())
+                    .filterArray(Criteria.where(ticketType + "._id").is(sold.getKey()));
+        }
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(eventId)), update, Event.class);
+    }
+
+    /**
+     * Increment the booked seats of each session.
+     * Only the agenda item holding each session is traversed; others may have no sessions array.
+     */
+    private static void bookSeats(Update update, Collection<String> sessionIds) {
+        int index = 0;
+        for (String sessionId : sessionIds) {
+            String item = "item" + index;
+            String session = "session" + index++;
+            update.inc("agenda.$[" + item + "].sessions.$[" + session + "].booked", 1)
+                    .filterArray(Criteria.where(item + ".sessions._id").is(sessionId))
+                    .filterArray(Criteria.where(session + "._id").is(sessionId));
+        }
+    }
+
+    /**
+     * Decrement the booked seats of each session, never below zero.
+     */
+    private static void releaseSeats(Update update, Collection<String> sessionIds) {
+        int index = 0;
+        for (String sessionId : sessionIds) {
+            String item = "item" + index;
+            String session = "session" + index++;
+            update.inc("agenda.$[" + item + "].sessions.$[" + session + "].booked", -1)
+                    .filterArray(Criteria.where(item + ".sessions._id").is(sessionId))
+                    .filterArray(Criteria.where(session + "._id").is(sessionId).and(session + ".booked").gt(0));
+        }
+    }
+
+    @Override
+    public boolean applyUpdates(String eventId, long expectedVersion, List<Criteria> conditions, List<Update> updates) {
+        Criteria versionMatches = expectedVersion == 0
+                // Events stored before versioning have no version field and read as version 0
+                ? new Criteria().orOperator(Criteria.where("version").is(0L), Criteria.where("version").exists(false))
+                : Criteria.where("version").is(expectedVersion);
+        List<Criteria> guards = new ArrayList<>(conditions);
+        guards.add(versionMatches);
+
+        Query guarded = new Query(Criteria.where("id").is(eventId).andOperator(guards));
+        if (mongoTemplate.updateFirst(guarded, updates.get(0), Event.class).getMatchedCount() == 0) {
+            return false;
+        }
+
+        Query byId = new Query(Criteria.where("id").is(eventId));
+        updates.stream().skip(1).forEach(update -> mongoTemplate.updateFirst(byId, update, Event.class));
+        return true;
+    }
+
+    @Override
+    public Page<Event> searchPublished(String searchTerm, Pageable pageable) {
+        TextQuery query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(searchTerm)).sortByScore();
+        query.addCriteria(Criteria.where("status").is("PUBLISHED"));
+        includeSummaryFields(query);
+
+        Query countQuery = Query.of(query);
+        List<Event> events = mongoTemplate.find(query.with(pageable), Event.class);
+        return PageableExecutionUtils.getPage(events, pageable, () -> mongoTemplate.count(countQuery, Event.class));
+    }
+
+    @Override
+    public List<Event> findPublishedByPrefixes(List<String> prefixTokens, int limit) {
+        Query query = new Query(Criteria.where("status").is("PUBLISHED").and("searchPrefixes").all(prefixTokens))
+                .with(Sort.by(Sort.Direction.ASC, "startDate"))
+                .limit(limit);
+        includeSummaryFields(query);
+        return mongoTemplate.find(query, Event.class);
+    }
+
+    @Override
+    public List<Event> scrollAllSummaries(KeysetCursor after, int limit) {
+        return scrollSummaries(new Query(), after, limit);
+    }
+
+    @Override
+    public List<Event> scrollUpcomingSummaries(LocalDateTime now, KeysetCursor after, int limit) {
+        return scrollSummaries(new Query(Criteria.where("startDate").gt(now).and("status").is("PUBLISHED")), after, limit);
+    }
+
+    @Override
+    public List<Event> scrollPublishedSummariesByCategory(String category, KeysetCursor after, int limit) {
+        return scrollSummaries(new Query(Criteria.where("category").is(category).and("status").is("PUBLISHED")), after, limit);
+    }
+
+    /**
+     * Run a keyset-paginated summary query ordered by (startDate, id).
+     * Continues strictly after the cursor with a range predicate instead of skipping documents,
+     * so every slice costs the same regardless of depth.
+     *
+     * @param query The filter of the listing
+     * @param after The position to continue after, or null for the first slice
+     * @param limit The maximum number of events to return
+     * @return Event summaries following the cursor
+     */
+    private List<Event> scrollSummaries(Query query, KeysetCursor after, int limit) {
+        if (after != null) {
+            // The $gte bound lets the (startDate, _id) index seek straight to the cursor position
+            query.addCriteria(new Criteria().andOperator(
+                    Criteria.where("startDate").gte(after.getSortValue()),
+                    new Criteria().orOperator(
+                            Criteria.where("startDate").gt(after.getSortValue()),
+                            Criteria.where("id").gt(after.getId()))));
+        }
+
+        query.with(Sort.by(Sort.Direction.ASC, "startDate", "id")).limit(limit);
+        includeSummaryFields(query);
+        return mongoTemplate.find(query, Event.class);
+    }
+
+    /**
+     * Restrict a query to the fields of {@link EventRepository#SUMMARY_FIELDS}.
+     *
+     * @param query The query to project
+     */
+    private static void includeSummaryFields(Query query) {
+        SUMMARY_FIELDS.keySet().forEach(field -> query.fields().include(field));
+    }
+
+    /**
+     * Build an expression that holds while every ticket type still has enough seats that are neither
+     * sold nor held, and every session has a free seat. $elemMatch cannot compare two fields of the
+     * same element, so the checks are expressed as $filter-s evaluated inside $expr. Sessions with a
+     * capacity of 0 or less are unlimited.
+     *
+     * @param seatsByTicketType The number of seats needed, by ticket type ID
+     * @param sessionIds The IDs of the sessions to book
+     * @return The seat availability expression
+     */
+    private static MongoExpression hasSeatsLeft(Map<String, Integer> seatsByTicketType, Collection<String> sessionIds) {
+        List<Document> checks = new ArrayList<>();
+        seatsByTicketType.forEach((ticketTypeId, seats) -> checks.add(isNotEmpty(new Document("$filter",
+                new Document("input", "$ticketTypes")
+                        .append("as", "ticketType")
+                        .append("cond", new Document("$and", List.of(
+                                new Document("$eq", List.of("$$ticketType._id", ticketTypeId)),
+                                // Events stored before holds have no held field
+                                new Document("$lte", List.of(
+                                        new Document("$add", List.of("$$ticketType.sold",
+                                                new Document("$ifNull", List.of("$$ticketType.held", 0)), seats)),
+                                        "$$ticketType.quantity")))))))));
+
+        if (!sessionIds.isEmpty()) {
+            Document allSessions = new Document("$reduce", new Document("input", "$agenda")
+                    .append("initialValue", List.of())
+                    .append("in", new Document("$concatArrays", List.of(
+                            "$$value", new Document("$ifNull", List.of("$$this.sessions", List.of()))))));
+            for (String sessionId : sessionIds) {
+                checks.add(isNotEmpty(new Document("$filter", new Document("input", allSessions)
+                        .append("as", "session")
+                        .append("cond", new Document("$and", List.of(
+                                new Document("$eq", List.of("$$session._id", sessionId)),
+                                new Document("$or", List.of(
+                                        new Document("$lte", List.of("$$session.capacity", 0)),
+                                        new Document("$lt", List.of(
+                                                new Document("$ifNull", List.of("$$session.booked", 0)),
+                                                "$$session.capacity"))))))))));
+            }
+        }
+
+        return () -> new Document("$and", checks);
+    }
+
+    private static Document isNotEmpty(Document array) {
+        return new Document("$gt", List.of(new Document("$size", array), 0));
+    }
+}
@@ -0,0 +1,41 @@
+package com.eventmanagement.api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Custom idempotency key operations, conditional on the owner token of the request holding the key
+ * so a request whose lock expired cannot overwrite the request that took the key over.
+ */
+public interface IdempotencyRecordRepositoryCustom {
+
+    /**
+     * Atomically take over an in-progress key whose lock has expired, e.g. because its owner crashed.
+     *
+     * @param id The ID of the key
+     * @param requestHash The fingerprint of the request; only the same request may take the key over
+     * @param owner The owner token of the request taking the key over
+     * @param now The current date and time
+     * @param lockedUntil Until when the new owner holds the key
+     * @return true if the key was taken over
+     */
+    boolean takeOver(String id, String requestHash, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+    /**
+     * Store the response of a request and mark its key completed.
+     *
+     * @param id The ID of the key
+     * @param owner The owner token of the request
+     * @param response The JSON response body
+     * @param expiresAt When the key expires
+     * @return true if the request still owned the key
+     */
+    boolean complete(String id, String owner, String response, LocalDateTime expiresAt);
+
+    /**
+     * Delete an in-progress key after its request failed, so the client can retry with the same key.
+     *
+     * @param id The ID of the key
+     * @param owner The owner token of the request
+     */
+    void release(String id, String owner);
+}
@@ -0,0 +1,50 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+
+/**
+ * MongoTemplate-backed implementation of {@link IdempotencyRecordRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryCustomImpl implements IdempotencyRecordRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean takeOver(String id, String requestHash, String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+        Query query = new Query(Criteria.where("id").is(id)
+                .and("status").is(IdempotencyRecord.IN_PROGRESS)
+                .and("requestHash").is(requestHash)
+                .and("lockedUntil").lt(now));
+        Update update = new Update().set("owner", owner).set("lockedUntil", lockedUntil);
+
+        return mongoTemplate.updateFirst(query, update, IdempotencyRecord.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean complete(String id, String owner, String response, LocalDateTime expiresAt) {
+        Query query = new Query(Criteria.where("id").is(id).and("owner").is(owner));
+        Update update = new Update()
+                .set("status", IdempotencyRecord.COMPLETED)
+                .set("response", response)
+                .set("expiresAt", expiresAt)
+                .unset("owner")
+                .unset("lockedUntil");
+
+        return mongoTemplate.updateFirst(query, update, IdempotencyRecord.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void release(String id, String owner) {
+        mongoTemplate.remove(new Query(Criteria.where("id").is(id)
+                .and("owner").is(owner)
+                .and("status").is(IdempotencyRecord.IN_PROGRESS)), IdempotencyRecord.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.InventoryBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MongoDB repository for the inventory buckets of events with sharded inventory.
+ * Buckets are found through the (eventId, ticketTypeId) index.
+ */
+@Repository
+public interface InventoryBucketRepository extends MongoRepository<InventoryBucket, String>, InventoryBucketRepositoryCustom {
+
+    /**
+     * Find the buckets of an event.
+     *
+     * @param eventId The ID of the event
+     * @return The buckets of all ticket types of the event
+     */
+    List<InventoryBucket> findByEventId(String eventId);
+
+    /**
+     * Find the buckets of a ticket type.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @return The buckets of the ticket type
+     */
+    List<InventoryBucket> findByEventIdAndTicketTypeId(String eventId, String ticketTypeId);
+
+    /**
+     * Check if an event has buckets.
+     *
+     * @param eventId The ID of the event
+     * @return true if the event's buckets have been created, false otherwise
+     */
+    boolean existsByEventId(String eventId);
+
+    /**
+     * Delete the buckets of an event.
+     *
+     * @param eventId The ID of the event
+     */
+    void deleteByEventId(String eventId);
+
+    /**
+     * Delete the buckets of a ticket type.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     */
+    void deleteByEventIdAndTicketTypeId(String eventId, String ticketTypeId);
+}
@@ -0,0 +1,79 @@
+package com.eventmanagement.api.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Custom inventory bucket operations implemented as single atomic updates,
+ * so a bucket never sells more tickets than its quantity.
+ */
+public interface InventoryBucketRepositoryCustom {
+
+    /**
+     * Atomically reserve a ticket from a bucket if it is open and has a ticket left.
+     *
+     * @param bucketId The ID of the bucket
+     * @return true if a ticket was reserved, false if the bucket is closed or sold out
+     */
+    boolean reserve(String bucketId);
+
+    /**
+     * Atomically reserve several tickets from a bucket if it is open and has all of them left.
+     *
+     * @param bucketId The ID of the bucket
+     * @param seats The number of tickets to reserve
+     * @return true if the tickets were reserved, false if the bucket is closed or has fewer left
+     */
+    boolean reserve(String bucketId, int seats);
+
+    /**
+     * Atomically return a ticket to any bucket of a ticket type that has sold one.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @return true if a ticket was returned, false if no bucket has sold a ticket
+     */
+    boolean release(String eventId, String ticketTypeId);
+
+    /**
+     * Atomically return several tickets to the bucket they were reserved from.
+     *
+     * @param bucketId The ID of the bucket
+     * @param seats The number of tickets to return
+     * @return true if the tickets were returned, false if the bucket has sold fewer
+     */
+    boolean releaseSeats(String bucketId, int seats);
+
+    /**
+     * Add seats to a bucket.
+     *
+     * @param bucketId The ID of the bucket
+     * @param seats The number of seats to add
+     */
+    void addSeats(String bucketId, int seats);
+
+    /**
+     * Open or close all buckets of an event for reservations.
+     *
+     * @param eventId The ID of the event
+     * @param open true to open the buckets, false to close them
+     */
+    void setOpen(String eventId, boolean open);
+
+    /**
+     * Open or close the buckets of some ticket types of an event for reservations.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeIds The IDs of the ticket types
+     * @param open true to open the buckets, false to close them
+     */
+    void setOpen(String eventId, Collection<String> ticketTypeIds, boolean open);
+
+    /**
+     * Sum the tickets sold over the buckets of events.
+     *
+     * @param eventIds The IDs of the events
+     * @return The tickets sold by event ID and ticket type ID
+     */
+    Map<String, Map<String, Integer>> sumSold(Collection<String> eventIds);
+}
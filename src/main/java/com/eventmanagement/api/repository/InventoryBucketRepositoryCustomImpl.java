@@ -0,0 +1,81 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.InventoryBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MongoTemplate-backed implementation of {@link InventoryBucketRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class InventoryBucketRepositoryCustomImpl implements InventoryBucketRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean reserve(String bucketId) {
+        return reserve(bucketId, 1);
+    }
+
+    @Override
+    public boolean reserve(String bucketId, int seats) {
+        Query query = new Query(Criteria.where("id").is(bucketId).and("open").is(true).and("available").gte(seats));
+        Update update = new Update().inc("available", -seats).inc("sold", seats);
+        return mongoTemplate.updateFirst(query, update, InventoryBucket.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean release(String eventId, String ticketTypeId) {
+        Query query = new Query(Criteria.where("eventId").is(eventId).and("ticketTypeId").is(ticketTypeId).and("sold").gt(0));
+        Update update = new Update().inc("available", 1).inc("sold", -1);
+        return mongoTemplate.updateFirst(query, update, InventoryBucket.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean releaseSeats(String bucketId, int seats) {
+        Query query = new Query(Criteria.where("id").is(bucketId).and("sold").gte(seats));
+        Update update = new Update().inc("available", seats).inc("sold", -seats);
+        return mongoTemplate.updateFirst(query, update, InventoryBucket.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void addSeats(String bucketId, int seats) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(bucketId)),
+                new Update().inc("quantity", seats).inc("available", seats),
+                InventoryBucket.class);
+    }
+
+    @Override
+    public void setOpen(String eventId, boolean open) {
+        mongoTemplate.updateMulti(new Query(Criteria.where("eventId").is(eventId)),
+                new Update().set("open", open),
+                InventoryBucket.class);
+    }
+
+    @Override
+    public void setOpen(String eventId, Collection<String> ticketTypeIds, boolean open) {
+        mongoTemplate.updateMulti(new Query(Criteria.where("eventId").is(eventId).and("ticketTypeId").in(ticketTypeIds)),
+                new Update().set("open", open),
+                InventoryBucket.class);
+    }
+
+    @Override
+    public Map<String, Map<String, Integer>> sumSold(Collection<String> eventIds) {
+        // An event has only a few buckets per ticket type, so they are summed here rather than in an aggregation
+        Query query = new Query(Criteria.where("eventId").in(eventIds));
+        query.fields().include("eventId", "ticketTypeId", "sold");
+
+        Map<String, Map<String, Integer>> sold = new LinkedHashMap<>();
+        mongoTemplate.find(query, InventoryBucket.class).forEach(bucket -> sold
+                .computeIfAbsent(bucket.getEventId(), eventId -> new LinkedHashMap<>())
+                .merge(bucket.getTicketTypeId(), bucket.getSold(), Integer::sum));
+        return sold;
+    }
+}
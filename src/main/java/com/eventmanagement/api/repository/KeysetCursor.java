@@ -0,0 +1,59 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated listing: the sort value and ID of the last document returned.
+ * The next page starts strictly after this position, so no documents are skipped or counted.
+ * Clients receive it as an opaque URL-safe token.
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime sortValue;
+    private final String id;
+
+    /**
+     * Encode the cursor as an opaque token.
+     *
+     * @return The URL-safe cursor token
+     */
+    public String encode() {
+        String raw = sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token.
+     *
+     * @param token The cursor token, or null for the first page
+     * @return The decoded cursor, or null if no token was given
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return of(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor", ex);
+        }
+    }
+}
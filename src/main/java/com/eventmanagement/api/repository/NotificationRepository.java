@@ -0,0 +1,51 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for Notification document operations.
+ * Inbox reads are served by the (userId, read, createdAt) and (userId, createdAt) indexes.
+ */
+@Repository
+public interface NotificationRepository extends MongoRepository<Notification, String>, NotificationRepositoryCustom {
+
+    /**
+     * Find a user's notifications, newest first.
+     *
+     * @param userId The ID of the user
+     * @param pageable Pagination information
+     * @return Page of notifications
+     */
+    Page<Notification> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
+
+    /**
+     * Find a user's notifications by read state, newest first.
+     *
+     * @param userId The ID of the user
+     * @param read The read state
+     * @param pageable Pagination information
+     * @return Page of notifications
+     */
+    Page<Notification> findByUserIdAndReadOrderByCreatedAtDesc(String userId, boolean read, Pageable pageable);
+
+    /**
+     * Delete a notification owned by a user.
+     *
+     * @param id The ID of the notification
+     * @param userId The ID of the owning user
+     * @return The number of notifications deleted
+     */
+    long deleteByIdAndUserId(String id, String userId);
+
+    /**
+     * Delete all notifications of a user.
+     *
+     * @param userId The ID of the user
+     * @return The number of notifications deleted
+     */
+    long deleteByUserId(String userId);
+}
@@ -0,0 +1,37 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Notification;
+
+import java.util.Optional;
+
+/**
+ * Custom notification repository operations implemented as single atomic updates.
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Atomically mark a notification owned by a user as read.
+     *
+     * @param id The ID of the notification
+     * @param userId The ID of the owning user
+     * @return Optional containing the updated notification, or empty if the user has no such notification
+     */
+    Optional<Notification> markAsRead(String id, String userId);
+
+    /**
+     * Mark all unread notifications of a user as read in one update.
+     *
+     * @param userId The ID of the user
+     * @return The number of notifications updated
+     */
+    long markAllAsRead(String userId);
+
+    /**
+     * Delete a user's oldest notifications beyond the given limit.
+     *
+     * @param userId The ID of the user
+     * @param limit The number of most recent notifications to keep
+     * @return The number of notifications deleted
+     */
+    long trimToLimit(String userId, int limit);
+}
@@ -0,0 +1,58 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link NotificationRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    private static final int TRIM_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Notification> markAsRead(String id, String userId) {
+        Query query = new Query(Criteria.where("id").is(id).and("userId").is(userId));
+        Update update = new Update().set("read", true);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Notification.class));
+    }
+
+    @Override
+    public long markAllAsRead(String userId) {
+        Query query = new Query(Criteria.where("userId").is(userId).and("read").is(false));
+        return mongoTemplate.updateMulti(query, new Update().set("read", true), Notification.class).getModifiedCount();
+    }
+
+    @Override
+    public long trimToLimit(String userId, int limit) {
+        // Walks the (userId, createdAt) index past the newest notifications and deletes the overflow by ID
+        Query overflow = new Query(Criteria.where("userId").is(userId))
+                .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .skip(limit)
+                .limit(TRIM_BATCH_SIZE);
+        overflow.fields().include("id");
+
+        List<String> ids = mongoTemplate.find(overflow, Notification.class).stream()
+                .map(Notification::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), Notification.class).getDeletedCount();
+    }
+}
@@ -0,0 +1,12 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for outbox messages.
+ */
+@Repository
+public interface OutboxRepository extends MongoRepository<OutboxMessage, String>, OutboxRepositoryCustom {
+}
@@ -0,0 +1,50 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.OutboxMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Custom outbox repository operations implemented as single atomic updates,
+ * so several dispatchers can drain the outbox without delivering a message twice at once.
+ */
+public interface OutboxRepositoryCustom {
+
+    /**
+     * Atomically claim the oldest due pending message.
+     * The claim pushes nextAttemptAt forward by the lease, so a message whose dispatcher
+     * dies mid-delivery becomes due again once the lease expires.
+     *
+     * @param now The current date and time
+     * @param lease How long the claim is held
+     * @return Optional containing the claimed message, or empty if none is due
+     */
+    Optional<OutboxMessage> claimNext(LocalDateTime now, Duration lease);
+
+    /**
+     * Mark a claimed message as delivered.
+     *
+     * @param id The ID of the message
+     * @param now The current date and time
+     */
+    void markDone(String id, LocalDateTime now);
+
+    /**
+     * Schedule another delivery attempt of a claimed message.
+     *
+     * @param id The ID of the message
+     * @param nextAttemptAt When to try again
+     * @param error The failure reason
+     */
+    void scheduleRetry(String id, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Give up on a claimed message after its last attempt.
+     *
+     * @param id The ID of the message
+     * @param error The failure reason
+     */
+    void markFailed(String id, String error);
+}
@@ -0,0 +1,56 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link OutboxRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class OutboxRepositoryCustomImpl implements OutboxRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<OutboxMessage> claimNext(LocalDateTime now, Duration lease) {
+        Query query = new Query(Criteria.where("status").is("PENDING").and("nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        Update update = new Update()
+                .set("nextAttemptAt", now.plus(lease))
+                .inc("attempts", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), OutboxMessage.class));
+    }
+
+    @Override
+    public void markDone(String id, LocalDateTime now) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)),
+                new Update().set("status", "DONE").set("processedAt", now).unset("lastError"),
+                OutboxMessage.class);
+    }
+
+    @Override
+    public void scheduleRetry(String id, LocalDateTime nextAttemptAt, String error) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)),
+                new Update().set("nextAttemptAt", nextAttemptAt).set("lastError", error),
+                OutboxMessage.class);
+    }
+
+    @Override
+    public void markFailed(String id, String error) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(id)),
+                new Update().set("status", "FAILED").set("lastError", error),
+                OutboxMessage.class);
+    }
+}
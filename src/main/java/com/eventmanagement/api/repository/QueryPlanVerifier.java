@@ -0,0 +1,220 @@
+package com.eventmanagement.api.repository;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Verifies on startup that every repository query is served by a selective index.
+ * Each query shape issued by the repositories is executed with explain against the connected database and
+ * startup fails if any winning plan contains a COLLSCAN stage, or examines many more documents than it returns,
+ * which means an index serves only part of the filter. The selectivity check needs data to be meaningful:
+ * run it against a populated database, or seed one as the integration test does. When adding a repository query,
+ * add its shape to {@link #queryShapes()}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-plans.verify", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier implements ApplicationRunner {
+
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.query-plans.max-docs-examined-per-returned:2}")
+    private int maxDocsExaminedPerReturned;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        verify();
+    }
+
+    /**
+     * Explain every known query shape and fail if any falls back to a collection scan or to an index that
+     * leaves most of the documents it fetches to be filtered out.
+     *
+     * @throws IllegalStateException if a query plan contains a COLLSCAN stage or is not selective
+     */
+    public void verify() {
+        List<QueryShape> shapes = queryShapes();
+        List<String> collectionScans = new ArrayList<>();
+        List<String> unselectivePlans = new ArrayList<>();
+
+        for (QueryShape shape : shapes) {
+            Document explain = mongoTemplate.getCollection(shape.collection())
+                    .find(shape.filter())
+                    .sort(shape.sort())
+                    .limit(10)
+                    .explain(ExplainVerbosity.EXECUTION_STATS);
+            Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+            Document executionStats = explain.get("executionStats", Document.class);
+            long docsExamined = executionStats.get("totalDocsExamined", Number.class).longValue();
+            long returned = executionStats.get("nReturned", Number.class).longValue();
+
+            if (containsStage(winningPlan, COLLECTION_SCAN)) {
+                collectionScans.add(shape.name());
+            } else if (docsExamined > maxDocsExaminedPerReturned * Math.max(returned, 1)) {
+                unselectivePlans.add(shape.name() + " (" + docsExamined + " documents examined for " + returned + " returned)");
+            } else {
+                log.debug("Query plan for {} examined {} documents for {} returned: {}",
+                        shape.name(), docsExamined, returned, winningPlan.toJson());
+            }
+        }
+
+        if (!collectionScans.isEmpty() || !unselectivePlans.isEmpty()) {
+            throw new IllegalStateException("Repository queries without a supporting index: " + collectionScans
+                    + ", repository queries served by an unselective index: " + unselectivePlans);
+        }
+        log.info("Verified query plans of {} repository queries", shapes.size());
+    }
+
+    /**
+     * The query shapes issued by the repositories, with representative parameter values.
+     *
+     * @return The query shapes to verify
+     */
+    private static List<QueryShape> queryShapes() {
+        Date now = new Date();
+        Bson published = Filters.eq("status", "PUBLISHED");
+        Bson byStartDate = Sorts.ascending("startDate");
+        Bson byStartDateAndId = Sorts.ascending("startDate", "_id");
+        Bson unsorted = new Document();
+        ObjectId lastId = new ObjectId();
+        Bson afterStartDate = Filters.and(Filters.gte("startDate", now),
+                Filters.or(Filters.gt("startDate", now), Filters.gt("_id", lastId)));
+
+        return List.of(
+                new QueryShape("EventRepository.findAllSummaries", "events", new Document(), byStartDate),
+                new QueryShape("EventRepository.findByOrganizerId", "events", Filters.eq("organizerId", "organizer"), unsorted),
+                new QueryShape("EventRepository.findPublishedEventsByCategory", "events",
+                        Filters.and(Filters.eq("category", "Technology"), published), byStartDate),
+                new QueryShape("EventRepository.findUpcomingEvents", "events",
+                        Filters.and(Filters.gt("startDate", now), published), byStartDate),
+                new QueryShape("EventRepository.findPublishedByLocationKey", "events",
+                        Filters.and(Filters.regex("locationKey", "^berlin"), published), byStartDate),
+                new QueryShape("EventRepository.countByStatus", "events", published, unsorted),
+                new QueryShape("EventRepository.searchPublished", "events",
+                        Filters.and(Filters.text("kotlin"), published), unsorted),
+                new QueryShape("EventRepository.findPublishedByPrefixes", "events",
+                        Filters.and(published, Filters.all("searchPrefixes", List.of("kot"))), byStartDate),
+                new QueryShape("EventRepository.reserveTicket", "events",
+                        Filters.and(Filters.eq("_id", new ObjectId()), published), unsorted),
+                new QueryShape("EventRepository.scrollAllSummaries", "events", afterStartDate, byStartDateAndId),
+                new QueryShape("EventRepository.scrollUpcomingSummaries", "events",
+                        Filters.and(Filters.gt("startDate", now), published, afterStartDate), byStartDateAndId),
+                new QueryShape("EventRepository.scrollPublishedSummariesByCategory", "events",
+                        Filters.and(Filters.eq("category", "Technology"), published, afterStartDate), byStartDateAndId),
+                new QueryShape("EventRepository.findAllById", "events", Filters.in("_id", List.of(new ObjectId())), unsorted),
+                new QueryShape("EventRepository.findPublishedWithInventoryBuckets", "events",
+                        Filters.and(Filters.gt("inventoryBuckets", 0), published, Filters.gt("endDate", now)), unsorted),
+                new QueryShape("RegistrationRepository.existsByEventIdAndUserIdAndStatus", "registrations",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("userId", "user"), Filters.eq("status", "CONFIRMED")),
+                        unsorted),
+                new QueryShape("RegistrationRepository.cancel", "registrations",
+                        Filters.and(Filters.eq("_id", new ObjectId()), Filters.eq("status", "CONFIRMED")), unsorted),
+                new QueryShape("RegistrationRepository.deleteByEventId", "registrations", Filters.eq("eventId", "event"), unsorted),
+                new QueryShape("RegistrationRepository.findByUserIdAndStatusOrderByRegistrationDateDesc", "registrations",
+                        Filters.and(Filters.eq("userId", "user"), Filters.eq("status", "CONFIRMED")),
+                        Sorts.descending("registrationDate")),
+                new QueryShape("RegistrationRepository.findByUserIdOrderByRegistrationDateDesc", "registrations",
+                        Filters.eq("userId", "user"), Sorts.descending("registrationDate")),
+                new QueryShape("RegistrationRepository.findByUserIdAndEventIdOrderByRegistrationDateDesc", "registrations",
+                        Filters.and(Filters.eq("userId", "user"), Filters.eq("eventId", "event")), Sorts.descending("registrationDate")),
+                new QueryShape("RegistrationRepository.findByEventIdOrderByRegistrationDateDesc", "registrations",
+                        Filters.eq("eventId", "event"), Sorts.descending("registrationDate")),
+                new QueryShape("NotificationRepository.findByUserIdOrderByCreatedAtDesc", "notifications",
+                        Filters.eq("userId", "user"), Sorts.descending("createdAt")),
+                new QueryShape("NotificationRepository.findByUserIdAndReadOrderByCreatedAtDesc", "notifications",
+                        Filters.and(Filters.eq("userId", "user"), Filters.eq("read", false)), Sorts.descending("createdAt")),
+                new QueryShape("NotificationRepository.markAsRead", "notifications",
+                        Filters.and(Filters.eq("_id", new ObjectId()), Filters.eq("userId", "user")), unsorted),
+                new QueryShape("NotificationRepository.deleteByUserId", "notifications", Filters.eq("userId", "user"), unsorted),
+                new QueryShape("OutboxRepository.claimNext", "outbox",
+                        Filters.and(Filters.eq("status", "PENDING"), Filters.lte("nextAttemptAt", now)),
+                        Sorts.ascending("nextAttemptAt")),
+                new QueryShape("WaitlistRepository.existsByEventIdAndTicketTypeIdAndStatus", "waitlist",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("ticketTypeId", "general"), Filters.eq("status", "WAITING")),
+                        unsorted),
+                new QueryShape("WaitlistRepository.claimNext", "waitlist",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("ticketTypeId", "general"), Filters.eq("status", "WAITING")),
+                        Sorts.ascending("joinedAt", "_id")),
+                new QueryShape("WaitlistRepository.countByEventIdAndTicketTypeIdAndStatusAndJoinedAtLessThan", "waitlist",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("ticketTypeId", "general"), Filters.eq("status", "WAITING"),
+                                Filters.lt("joinedAt", now)),
+                        unsorted),
+                new QueryShape("WaitlistRepository.findByEventIdAndUserIdAndStatus", "waitlist",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("userId", "user"), Filters.eq("status", "WAITING")),
+                        unsorted),
+                new QueryShape("WaitlistRepository.deleteByEventId", "waitlist", Filters.eq("eventId", "event"), unsorted),
+                new QueryShape("TicketHoldRepository.claimExpired", "ticket_holds",
+                        Filters.and(Filters.eq("status", "ACTIVE"), Filters.lte("expiresAt", now)),
+                        Sorts.ascending("expiresAt")),
+                new QueryShape("TicketHoldRepository.deleteByEventId", "ticket_holds", Filters.eq("eventId", "event"), unsorted),
+                new QueryShape("InventoryBucketRepository.release", "inventory_buckets",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("ticketTypeId", "general"), Filters.gt("sold", 0)),
+                        unsorted),
+                new QueryShape("InventoryBucketRepository.setOpen", "inventory_buckets",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.in("ticketTypeId", List.of("general"))), unsorted),
+                new QueryShape("InventoryBucketRepository.findByEventIdAndTicketTypeId", "inventory_buckets",
+                        Filters.and(Filters.eq("eventId", "event"), Filters.eq("ticketTypeId", "general")), unsorted),
+                new QueryShape("InventoryBucketRepository.sumSold", "inventory_buckets",
+                        Filters.in("eventId", List.of("event")), unsorted),
+                new QueryShape("UserRepository.findByEmail", "users", Filters.eq("email", "user@example.com"), unsorted),
+                new QueryShape("UserRepository.findByRolesContaining", "users", Filters.eq("roles", "ADMIN"), unsorted),
+                new QueryShape("UserRepository.findBySearchPrefixes", "users",
+                        Filters.all("searchPrefixes", List.of("jo")), unsorted),
+                new QueryShape("UserRepository.findAll", "users", new Document(), Sorts.descending("createdAt")),
+                new QueryShape("UserRepository.scrollAll", "users",
+                        Filters.and(Filters.lte("createdAt", now),
+                                Filters.or(Filters.lt("createdAt", now), Filters.lt("_id", lastId))),
+                        Sorts.descending("createdAt", "_id")));
+    }
+
+    /**
+     * Check if a plan, or any of its input stages, is of the given stage type.
+     * Walks every nested document so both classic and slot-based explain formats are covered.
+     *
+     * @param plan The plan document
+     * @param stage The stage name to look for
+     * @return true if the stage occurs anywhere in the plan, false otherwise
+     */
+    private static boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+
+    /**
+     * A repository query shape to explain.
+     *
+     * @param name The repository method issuing the query
+     * @param collection The collection queried
+     * @param filter The query filter with representative values
+     * @param sort The sort applied by the caller
+     */
+    private record QueryShape(String name, String collection, Bson filter, Bson sort) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Registration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MongoDB repository for Registration document operations.
+ * Lookups are served by the (eventId, userId) and (userId, registrationDate) indexes,
+ * an event's registration list and deletes by event by the (eventId, registrationDate) index.
+ */
+@Repository
+public interface RegistrationRepository extends MongoRepository<Registration, String>, RegistrationRepositoryCustom {
+
+    /**
+     * Check if a user has a registration with the given status for an event.
+     * Used for the duplicate-registration check.
+     *
+     * @param eventId The ID of the event
+     * @param userId The ID of the user
+     * @param status The registration status
+     * @return true if a matching registration exists, false otherwise
+     */
+    boolean existsByEventIdAndUserIdAndStatus(String eventId, String userId, String status);
+
+    /**
+     * Find a user's registrations with the given status, most recent first.
+     *
+     * @param userId The ID of the user
+     * @param status The registration status
+     * @return List of matching registrations
+     */
+    List<Registration> findByUserIdAndStatusOrderByRegistrationDateDesc(String userId, String status);
+
+    /**
+     * Find a user's registrations in any status, most recent first.
+     *
+     * @param userId The ID of the user
+     * @param pageable Pagination information
+     * @return Page of the user's registrations
+     */
+    Page<Registration> findByUserIdOrderByRegistrationDateDesc(String userId, Pageable pageable);
+
+    /**
+     * Find a user's registrations for one event in any status, most recent first.
+     *
+     * @param userId The ID of the user
+     * @param eventId The ID of the event
+     * @param pageable Pagination information
+     * @return Page of the user's registrations for the event
+     */
+    Page<Registration> findByUserIdAndEventIdOrderByRegistrationDateDesc(String userId, String eventId, Pageable pageable);
+
+    /**
+     * Find the registrations for an event in any status, most recent first.
+     *
+     * @param eventId The ID of the event
+     * @param pageable Pagination information
+     * @return Page of the event's registrations
+     */
+    Page<Registration> findByEventIdOrderByRegistrationDateDesc(String eventId, Pageable pageable);
+
+    /**
+     * Delete all registrations for an event.
+     *
+     * @param eventId The ID of the event
+     * @return The number of registrations deleted
+     */
+    long deleteByEventId(String eventId);
+}
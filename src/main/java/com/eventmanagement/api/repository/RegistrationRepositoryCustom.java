@@ -0,0 +1,23 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Registration;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Custom registration operations implemented as single atomic updates.
+ */
+public interface RegistrationRepositoryCustom {
+
+    /**
+     * Atomically cancel a confirmed registration.
+     * Only one of several concurrent cancellations of the same registration succeeds, so its seat
+     * is released exactly once.
+     *
+     * @param registrationId The ID of the registration
+     * @param now The current date and time
+     * @return Optional containing the cancelled registration, or empty if it was not confirmed
+     */
+    Optional<Registration> cancel(String registrationId, LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Registration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link RegistrationRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class RegistrationRepositoryCustomImpl implements RegistrationRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Registration> cancel(String registrationId, LocalDateTime now) {
+        Query query = new Query(Criteria.where("id").is(registrationId).and("status").is("CONFIRMED"));
+        Update update = new Update().set("status", "CANCELLED").set("cancelledAt", now);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Registration.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.TicketHold;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for ticket holds.
+ * Expired holds are found through the (status, expiresAt) index, the holds of an event through the eventId index.
+ */
+@Repository
+public interface TicketHoldRepository extends MongoRepository<TicketHold, String>, TicketHoldRepositoryCustom {
+
+    /**
+     * Delete all holds on an event's tickets, whatever their status.
+     *
+     * @param eventId The ID of the event
+     * @return The number of holds deleted
+     */
+    long deleteByEventId(String eventId);
+}
@@ -0,0 +1,41 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.TicketHold;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom ticket hold operations implemented as single atomic updates,
+ * so a hold is settled exactly once whether it is confirmed, released or expires.
+ */
+public interface TicketHoldRepositoryCustom {
+
+    /**
+     * Atomically settle a user's active, unexpired hold.
+     *
+     * @param holdId The ID of the hold
+     * @param userId The ID of the user holding the tickets
+     * @param status The new status, CONFIRMED or RELEASED
+     * @param now The current date and time
+     * @return Optional containing the settled hold, or empty if the user has no such active hold
+     */
+    Optional<TicketHold> settle(String holdId, String userId, String status, LocalDateTime now);
+
+    /**
+     * Atomically take the earliest expired active hold and mark it expired.
+     *
+     * @param now The current date and time
+     * @return Optional containing the expired hold, or empty if no active hold has expired
+     */
+    Optional<TicketHold> claimExpired(LocalDateTime now);
+
+    /**
+     * Record the registrations created when a hold was confirmed.
+     *
+     * @param holdId The ID of the hold
+     * @param registrationIds The IDs of the registrations
+     */
+    void recordRegistrations(String holdId, List<String> registrationIds);
+}
@@ -0,0 +1,55 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.TicketHold;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link TicketHoldRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class TicketHoldRepositoryCustomImpl implements TicketHoldRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<TicketHold> settle(String holdId, String userId, String status, LocalDateTime now) {
+        Query query = new Query(Criteria.where("id").is(holdId)
+                .and("userId").is(userId)
+                .and("status").is(TicketHold.ACTIVE)
+                .and("expiresAt").gt(now));
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, settled(status, now), FindAndModifyOptions.options().returnNew(true), TicketHold.class));
+    }
+
+    @Override
+    public Optional<TicketHold> claimExpired(LocalDateTime now) {
+        Query query = new Query(Criteria.where("status").is(TicketHold.ACTIVE).and("expiresAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "expiresAt"));
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, settled(TicketHold.EXPIRED, now), FindAndModifyOptions.options().returnNew(true), TicketHold.class));
+    }
+
+    @Override
+    public void recordRegistrations(String holdId, List<String> registrationIds) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(holdId)),
+                new Update().set("registrationIds", registrationIds),
+                TicketHold.class);
+    }
+
+    private static Update settled(String status, LocalDateTime now) {
+        // Setting settledAt hands the hold over to the TTL index
+        return new Update().set("status", status).set("settledAt", now);
+    }
+}
@@ -0,0 +1,90 @@
+package com.eventmanagement.api.repository;
+
+import com.mongodb.MongoException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in a MongoDB transaction.
+ * Transactions that abort with a TransientTransactionError (typically a write conflict with a
+ * concurrent transaction) are retried from the start, as the MongoDB driver documentation recommends.
+ */
+@Component
+@Slf4j
+public class TransactionRunner {
+
+    private static final String TRANSIENT_TRANSACTION_ERROR = MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_DUPLICATE_KEY_ATTEMPTS = 3;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionRunner(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Execute the work in a transaction, retrying transient transaction errors.
+     *
+     * @param work The work to run; may be invoked more than once
+     * @param <T> The result type
+     * @return The result of the work
+     */
+    public <T> T execute(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (DataAccessException ex) {
+                if (attempt >= MAX_ATTEMPTS || !isTransient(ex)) {
+                    throw ex;
+                }
+                log.debug("Retrying transaction after transient error (attempt {})", attempt, ex);
+            }
+        }
+    }
+
+    /**
+     * Execute the work in a transaction, also retrying it from the start when it fails with a duplicate key,
+     * up to a fixed number of attempts.
+     * For work that checks for an existing document before inserting one: when a concurrent insert lands between
+     * the check and the insert, the transaction rolls back and the check of the next attempt sees the document.
+     *
+     * @param work The work to run; may be invoked more than once
+     * @param <T> The result type
+     * @return The result of the work
+     * @throws DuplicateKeyException if every attempt hit a duplicate key
+     */
+    public <T> T executeRetryingDuplicateKeys(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(work);
+            } catch (DuplicateKeyException ex) {
+                if (attempt >= MAX_DUPLICATE_KEY_ATTEMPTS) {
+                    throw ex;
+                }
+                log.debug("Retrying transaction after duplicate key (attempt {})", attempt, ex);
+            }
+        }
+    }
+
+    /**
+     * Check if an exception carries MongoDB's TransientTransactionError label.
+     *
+     * @param ex The exception thrown by the transaction
+     * @return true if the whole transaction can safely be retried, false otherwise
+     */
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.hasErrorLabel(TRANSIENT_TRANSACTION_ERROR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,8 @@
 package com.eventmanagement.api.repository;
 
 import com.eventmanagement.api.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,7 +15,7 @@ import java.util.Optional;
  * Provides methods for querying and manipulating user data.
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     /**
      * Find a user by email address.
@@ -42,20 +44,22 @@ public interface UserRepository extends MongoRepository<User, String> {
     List<User> findByRolesContaining(String role);
 
     /**
-     * Custom query to find users with unread notifications.
-     * Demonstrates MongoDB's ability to query embedded documents.
+     * Find users by role with pagination.
      *
-     * @return List of users with unread notifications
+     * @param role The role to search for
+     * @param pageable Pagination information
+     * @return Page of users with the specified role
      */
-    @Query("{\"notifications.read\": false}")
-    List<User> findUsersWithUnreadNotifications();
+    Page<User> findByRolesContaining(String role, Pageable pageable);
 
     /**
-     * Custom query to find users by partial name match (case insensitive).
+     * Find users whose first or last name words start with every given token.
+     * Matches against the indexed searchPrefixes n-gram field instead of scanning names with a regex.
      *
-     * @param name The name fragment to search for
-     * @return List of matching users
+     * @param prefixTokens The normalized query tokens (see {@link com.eventmanagement.api.search.SearchTokenizer})
+     * @param pageable Pagination information
+     * @return Page of matching users
      */
-    @Query("{$or: [{\"firstName\": {$regex: ?0, $options: 'i'}}, {\"lastName\": {$regex: ?0, $options: 'i'}}]}")
-    List<User> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+    @Query("{\"searchPrefixes\": {$all: ?0}}")
+    Page<User> findBySearchPrefixes(List<String> prefixTokens, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.User;
+
+import java.util.List;
+
+/**
+ * Custom user repository operations that need MongoTemplate-level control.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Fetch the next slice of users, newest first, in (createdAt, id) descending order.
+     *
+     * @param after The position to continue after, or null for the first slice
+     * @param limit The maximum number of users to return
+     * @return Users following the cursor
+     */
+    List<User> scrollAll(KeysetCursor after, int limit);
+}
@@ -0,0 +1,35 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * MongoTemplate-backed implementation of {@link UserRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<User> scrollAll(KeysetCursor after, int limit) {
+        Query query = new Query();
+        if (after != null) {
+            // The $lte bound lets the (createdAt, _id) index seek straight to the cursor position
+            query.addCriteria(new Criteria().andOperator(
+                    Criteria.where("createdAt").lte(after.getSortValue()),
+                    new Criteria().orOperator(
+                            Criteria.where("createdAt").lt(after.getSortValue()),
+                            Criteria.where("id").lt(after.getId()))));
+        }
+
+        query.with(Sort.by(Sort.Direction.DESC, "createdAt", "id")).limit(limit);
+        return mongoTemplate.find(query, User.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.WaitlistEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MongoDB repository for waitlist entries.
+ * Queue lookups are served by the (eventId, ticketTypeId, status, joinedAt, _id) index,
+ * user lookups by the (eventId, userId) index.
+ */
+@Repository
+public interface WaitlistRepository extends MongoRepository<WaitlistEntry, String>, WaitlistRepositoryCustom {
+
+    /**
+     * Check if anyone is waiting for a ticket type.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @param status The entry status
+     * @return true if a matching entry exists, false otherwise
+     */
+    boolean existsByEventIdAndTicketTypeIdAndStatus(String eventId, String ticketTypeId, String status);
+
+    /**
+     * Find a user's entry with the given status on an event's waitlists.
+     *
+     * @param eventId The ID of the event
+     * @param userId The ID of the user
+     * @param status The entry status
+     * @return Optional containing the entry if found
+     */
+    Optional<WaitlistEntry> findByEventIdAndUserIdAndStatus(String eventId, String userId, String status);
+
+    /**
+     * Count the entries that joined a ticket type's waitlist before the given time.
+     * Used to compute a waiting user's position.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @param status The entry status
+     * @param joinedAt The join time to compare against
+     * @return The number of earlier entries
+     */
+    long countByEventIdAndTicketTypeIdAndStatusAndJoinedAtLessThan(String eventId, String ticketTypeId, String status,
+                                                                  LocalDateTime joinedAt);
+
+    /**
+     * Delete all entries on an event's waitlists.
+     *
+     * @param eventId The ID of the event
+     * @return The number of entries deleted
+     */
+    long deleteByEventId(String eventId);
+}
@@ -0,0 +1,41 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.WaitlistEntry;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Custom waitlist operations implemented as single atomic updates,
+ * so concurrent promotions never hand the same entry a seat twice.
+ */
+public interface WaitlistRepositoryCustom {
+
+    /**
+     * Atomically take the longest waiting entry of a ticket type's waitlist and mark it promoted.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @param now The current date and time
+     * @return Optional containing the promoted entry, or empty if nobody is waiting
+     */
+    Optional<WaitlistEntry> claimNext(String eventId, String ticketTypeId, LocalDateTime now);
+
+    /**
+     * Record the outcome of a promotion on a claimed entry.
+     *
+     * @param entryId The ID of the entry
+     * @param status The final status, PROMOTED or SKIPPED
+     * @param registrationId The ID of the created registration, or null if none was created
+     */
+    void recordPromotion(String entryId, String status, String registrationId);
+
+    /**
+     * Atomically remove a user from an event's waitlist.
+     *
+     * @param eventId The ID of the event
+     * @param userId The ID of the user
+     * @return true if the user was waiting, false otherwise
+     */
+    boolean leave(String eventId, String userId);
+}
@@ -0,0 +1,53 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.WaitlistEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MongoTemplate-backed implementation of {@link WaitlistRepositoryCustom}.
+ */
+@RequiredArgsConstructor
+public class WaitlistRepositoryCustomImpl implements WaitlistRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<WaitlistEntry> claimNext(String eventId, String ticketTypeId, LocalDateTime now) {
+        Query query = new Query(Criteria.where("eventId").is(eventId)
+                .and("ticketTypeId").is(ticketTypeId)
+                .and("status").is(WaitlistEntry.WAITING))
+                .with(Sort.by(Sort.Direction.ASC, "joinedAt", "id"));
+        Update update = new Update()
+                .set("status", WaitlistEntry.PROMOTED)
+                .set("promotedAt", now);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), WaitlistEntry.class));
+    }
+
+    @Override
+    public void recordPromotion(String entryId, String status, String registrationId) {
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(entryId)),
+                new Update().set("status", status).set("registrationId", registrationId),
+                WaitlistEntry.class);
+    }
+
+    @Override
+    public boolean leave(String eventId, String userId) {
+        Query query = new Query(Criteria.where("eventId").is(eventId)
+                .and("userId").is(userId)
+                .and("status").is(WaitlistEntry.WAITING));
+
+        return mongoTemplate.updateFirst(query, new Update().set("status", WaitlistEntry.LEFT), WaitlistEntry.class)
+                .getModifiedCount() > 0;
+    }
+}
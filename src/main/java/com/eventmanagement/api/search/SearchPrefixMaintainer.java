@@ -0,0 +1,48 @@
+package com.eventmanagement.api.search;
+
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.User;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the derived search fields of events and users (searchPrefixes n-grams and the
+ * normalized event locationKey) in sync on every save.
+ */
+@Component
+public class SearchPrefixMaintainer extends AbstractMongoEventListener<Object> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof Event eventDocument) {
+            eventDocument.setSearchPrefixes(eventPrefixes(eventDocument));
+            eventDocument.setLocationKey(SearchTokenizer.key(eventDocument.getLocation()));
+        } else if (source instanceof User user) {
+            user.setSearchPrefixes(userPrefixes(user));
+        }
+    }
+
+    /**
+     * Compute the search prefixes of an event.
+     *
+     * @param event The event entity
+     * @return The prefixes of the event's title, location and category
+     */
+    public static List<String> eventPrefixes(Event event) {
+        return SearchTokenizer.prefixes(event.getTitle(), event.getLocation(), event.getCategory());
+    }
+
+    /**
+     * Compute the search prefixes of a user.
+     *
+     * @param user The user entity
+     * @return The prefixes of the user's first and last name
+     */
+    public static List<String> userPrefixes(User user) {
+        return SearchTokenizer.prefixes(user.getFirstName(), user.getLastName());
+    }
+}
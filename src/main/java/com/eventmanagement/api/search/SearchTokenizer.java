@@ -0,0 +1,95 @@
+package com.eventmanagement.api.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes text into search tokens.
+ * Stored documents get edge n-grams of every word ("spring" becomes "sp", "spr", ... "spring"),
+ * so a prefix query becomes an exact, indexable match on the n-gram field.
+ */
+public final class SearchTokenizer {
+
+    public static final int MIN_PREFIX_LENGTH = 2;
+    public static final int MAX_PREFIX_LENGTH = 15;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * Build the edge n-grams stored on a document for the given field values.
+     *
+     * @param values The text values to index
+     * @return The distinct prefixes of every word in the values
+     */
+    public static List<String> prefixes(String... values) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (String word : words(values)) {
+            int maxLength = Math.min(word.length(), MAX_PREFIX_LENGTH);
+            for (int length = MIN_PREFIX_LENGTH; length <= maxLength; length++) {
+                prefixes.add(word.substring(0, length));
+            }
+        }
+        return new ArrayList<>(prefixes);
+    }
+
+    /**
+     * Build the tokens to match against stored prefixes for a user-typed query.
+     * Every token must match for a document to be returned.
+     *
+     * @param query The query text
+     * @return The query tokens, empty if the query has no word long enough to match
+     */
+    public static List<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() >= MIN_PREFIX_LENGTH) {
+                tokens.add(word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * Normalize a value into a single key of lower-case words separated by single spaces.
+     * The key contains no regex metacharacters, so it can be matched with an anchored, index-friendly prefix regex.
+     *
+     * @param value The text value
+     * @return The normalized key, empty if the value has no words
+     */
+    public static String key(String value) {
+        return String.join(" ", words(value));
+    }
+
+    /**
+     * Split values into lower-case words with diacritics removed.
+     *
+     * @param values The text values
+     * @return The normalized words
+     */
+    private static List<String> words(String... values) {
+        List<String> words = new ArrayList<>();
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String normalized = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD))
+                    .replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            for (String word : WORD_SEPARATORS.split(normalized)) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+}
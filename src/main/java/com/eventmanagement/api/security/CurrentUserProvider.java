@@ -0,0 +1,103 @@
+package com.eventmanagement.api.security;
+
+import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves the current authenticated user.
+ * Identity and role checks are answered from the JWT-backed principal; the full user
+ * document is loaded lazily, at most once per request, only when profile fields are needed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserProvider.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+
+    /**
+     * Get the principal of the current authenticated user.
+     *
+     * @return The current principal
+     */
+    public UserPrincipal getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException("No authenticated user");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal;
+        }
+        if (principal instanceof User user) {
+            return new UserPrincipal(user.getId(), user.getEmail(), user.getAuthorities());
+        }
+        return new UserPrincipal(null, authentication.getName(), authentication.getAuthorities());
+    }
+
+    /**
+     * Get the ID of the current user.
+     * Falls back to loading the user for tokens issued without a user ID claim.
+     *
+     * @return The current user ID
+     */
+    public String getUserId() {
+        String userId = getPrincipal().getId();
+        return userId != null ? userId : getUser().getId();
+    }
+
+    /**
+     * Check if the current user has a role.
+     *
+     * @param role The role name without the ROLE_ prefix
+     * @return true if the current user has the role, false otherwise
+     */
+    public boolean hasRole(String role) {
+        return getPrincipal().hasRole(role);
+    }
+
+    /**
+     * Get the full user document of the current user.
+     * The document is loaded on first use and reused for the rest of the request.
+     *
+     * @return The current user entity
+     */
+    public User getUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof User user) {
+                return user;
+            }
+        }
+
+        User user = loadUser(getPrincipal());
+        if (attributes != null) {
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    /**
+     * Load the user document for a principal.
+     *
+     * @param principal The current principal
+     * @return The user entity
+     */
+    private User loadUser(UserPrincipal principal) {
+        if (principal.getId() != null) {
+            return userRepository.findById(principal.getId())
+                    .orElseThrow(() -> new IllegalStateException("Current user not found"));
+        }
+        return userRepository.findByEmail(principal.getEmail())
+                .orElseThrow(() -> new IllegalStateException("Current user not found"));
+    }
+}
@@ -1,5 +1,7 @@
 package com.eventmanagement.api.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Extract and validate JWT token from the request.
      * If valid, set the authentication in the security context.
+     * The token is verified once and the resulting claims are reused for authentication.
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,11 +38,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // Verify once and build the authentication from the same claims
+                Claims claims = tokenProvider.parseClaims(jwt);
+                Authentication authentication = tokenProvider.getAuthentication(claims, jwt);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Set Authentication to security context for '{}'", authentication.getName());
             }
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Ignoring invalid JWT: {}", ex.getMessage());
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
         }
@@ -1,7 +1,14 @@
 package com.eventmanagement.api.security;
 
+import com.eventmanagement.api.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,12 +19,16 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.stream.Collectors;
@@ -30,18 +41,44 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    /**
+     * Claim carrying the user document ID, so requests can identify the user without a lookup.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
     @Value("${spring.security.jwt.secret}")
     private String jwtSecret;
 
     @Value("${spring.security.jwt.expiration}")
     private long jwtExpirationInMs;
 
+    @Value("${spring.security.jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    @Value("${spring.security.jwt.verified-cache.max-ttl:5m}")
+    private Duration verifiedCacheMaxTtl;
+
     private Key key;
 
+    /**
+     * Shared parser; JwtParser instances are immutable and thread-safe.
+     */
+    private JwtParser parser;
+
+    /**
+     * Claims of recently verified tokens, keyed by the SHA-256 hash of the token.
+     */
+    private Cache<String, Claims> verifiedClaims;
+
     @PostConstruct
     public void init() {
         // Use Keys.hmacShaKeyFor to create a secure key from the secret
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ClaimsExpiry(verifiedCacheMaxTtl))
+                .build();
     }
 
     /**
@@ -60,15 +97,48 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userDetails.getUsername())
-                .claim("roles", roles)
+                .claim("roles", roles);
+
+        if (userDetails instanceof User user) {
+            builder.claim(USER_ID_CLAIM, user.getId());
+        } else if (userDetails instanceof UserPrincipal principal && principal.getId() != null) {
+            builder.claim(USER_ID_CLAIM, principal.getId());
+        }
+
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verify a JWT token and return its claims.
+     * Recently verified tokens are served from a bounded cache until their exp claim,
+     * so repeat requests with the same token skip the signature check.
+     *
+     * @param token The JWT token
+     * @return The verified claims
+     * @throws JwtException if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        String tokenHash = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(tokenHash);
+        if (cached != null) {
+            if (cached.getExpiration() == null || cached.getExpiration().after(new Date())) {
+                return cached;
+            }
+            verifiedClaims.invalidate(tokenHash);
+            throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedClaims.put(tokenHash, claims);
+        return claims;
+    }
+
     /**
      * Get user email from JWT token.
      *
@@ -76,13 +146,7 @@ public class JwtTokenProvider {
      * @return The user email extracted from the token
      */
     public String getUserEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -93,7 +157,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -107,18 +171,69 @@ public class JwtTokenProvider {
      * @return The authentication object
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return getAuthentication(parseClaims(token), token);
+    }
 
+    /**
+     * Get authentication object from already verified claims.
+     *
+     * @param claims The verified claims of the token
+     * @param token The JWT token
+     * @return The authentication object
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
         String username = claims.getSubject();
         Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("roles").toString().split(","))
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        UserDetails principal = new User(username, "", authorities);
+        UserPrincipal principal = new UserPrincipal(claims.get(USER_ID_CLAIM, String.class), username, authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
+
+    /**
+     * Hash a token for use as a cache key.
+     *
+     * @param token The JWT token
+     * @return The Base64-encoded SHA-256 hash of the token
+     */
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expires cached claims at the token's exp claim, capped at a maximum time to live.
+     */
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
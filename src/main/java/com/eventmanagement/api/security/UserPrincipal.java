@@ -0,0 +1,62 @@
+package com.eventmanagement.api.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * Authenticated principal built from verified JWT claims.
+ * Carries the user ID, email and authorities so most requests never need to load the user document.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPrincipal implements UserDetails {
+
+    private final String id;
+    private final String email;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    /**
+     * Check if the principal has a role.
+     *
+     * @param role The role name without the ROLE_ prefix
+     * @return true if the principal has the role, false otherwise
+     */
+    public boolean hasRole(String role) {
+        String authority = "ROLE_" + role;
+        return authorities.stream().anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -97,8 +97,8 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalStateException("User not found after authentication"));
+        // The authenticated principal is the user document loaded by CustomUserDetailsService
+        User user = (User) authentication.getPrincipal();
 
         return AuthResponse.withBearerToken(
                 jwt,
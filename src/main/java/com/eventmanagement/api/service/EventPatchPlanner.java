@@ -0,0 +1,453 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.dto.event.EventPatchRequest;
+import com.eventmanagement.api.dto.event.EventRequest;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.search.SearchTokenizer;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Computes the targeted updates that apply a patch request to a stored event.
+ * Only changed fields and sub-documents are written: scalar fields and changed embedded documents are $set
+ * through array filters, new speakers, agenda items, sessions and ticket types are $push-ed and removed ones
+ * are $pull-ed. Ticket sold and held counts and session booked seats are never written, so concurrent
+ * registrations and holds are kept.
+ * MongoDB rejects an update that modifies a path together with one of its parents or children (for example
+ * setting a speaker field while pulling from the speakers array), so the changes are split into steps that
+ * never conflict: sets, session pulls, session pushes, pulls and finally pushes.
+ */
+final class EventPatchPlanner {
+
+    private EventPatchPlanner() {
+    }
+
+    /**
+     * The updates to apply in order, and the conditions the event must still meet when the first one runs.
+     * The first update always increments the event version.
+     *
+     * @param conditions Criteria the event must match besides its ID and version
+     * @param updates The updates, empty if the patch changes nothing
+     */
+    record Plan(List<Criteria> conditions, List<Update> updates) {
+
+        boolean isEmpty() {
+            return updates.isEmpty();
+        }
+    }
+
+    /**
+     * Plan the updates that apply a patch to an event.
+     *
+     * @param current The event as currently stored
+     * @param patch The patch request DTO
+     * @param replace true to clear scalar fields that are null in the patch, as a full update does;
+     *                false to keep them
+     * @return The update plan
+     * @throws IllegalStateException if the patch removes a ticket type or lowers its quantity below the tickets sold
+     *                               and held
+     */
+    static Plan plan(Event current, EventPatchRequest patch, boolean replace) {
+        Steps steps = new Steps();
+
+        String title = merge(current.getTitle(), patch.getTitle(), replace);
+        String location = merge(current.getLocation(), patch.getLocation(), replace);
+        String category = merge(current.getCategory(), patch.getCategory(), replace);
+        setIfChanged(steps.sets, "title", current.getTitle(), title);
+        setIfChanged(steps.sets, "description", current.getDescription(), merge(current.getDescription(), patch.getDescription(), replace));
+        setIfChanged(steps.sets, "location", current.getLocation(), location);
+        setIfChanged(steps.sets, "startDate", current.getStartDate(), merge(current.getStartDate(), patch.getStartDate(), replace));
+        setIfChanged(steps.sets, "endDate", current.getEndDate(), merge(current.getEndDate(), patch.getEndDate(), replace));
+        setIfChanged(steps.sets, "category", current.getCategory(), category);
+        setIfChanged(steps.sets, "imageUrl", current.getImageUrl(), merge(current.getImageUrl(), patch.getImageUrl(), replace));
+        setIfChanged(steps.sets, "additionalInfo", current.getAdditionalInfo(), merge(current.getAdditionalInfo(), patch.getAdditionalInfo(), replace));
+
+        // The derived search fields are otherwise only maintained on save
+        if (!Objects.equals(title, current.getTitle()) || !Objects.equals(location, current.getLocation())
+                || !Objects.equals(category, current.getCategory())) {
+            steps.sets.set("searchPrefixes", SearchTokenizer.prefixes(title, location, category));
+            steps.sets.set("locationKey", SearchTokenizer.key(location));
+        }
+
+        if (patch.getSpeakers() != null) {
+            planSpeakers(current.getSpeakers(), patch.getSpeakers(), steps);
+        }
+        if (patch.getAgenda() != null) {
+            planAgenda(current.getAgenda(), patch.getAgenda(), steps);
+        }
+        if (patch.getTicketTypes() != null) {
+            planTicketTypes(current.getTicketTypes(), patch.getTicketTypes(), steps);
+        }
+
+        return steps.toPlan();
+    }
+
+    private static void planSpeakers(List<Event.Speaker> current, List<EventRequest.SpeakerDto> requested, Steps steps) {
+        if (current == null) {
+            steps.sets.set("speakers", requested.stream().map(EventPatchPlanner::toSpeaker).toList());
+            return;
+        }
+
+        Map<String, Event.Speaker> existing = byId(current, Event.Speaker::getId);
+        Set<String> kept = new HashSet<>();
+        List<Event.Speaker> added = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            Event.Speaker speaker = toSpeaker(requested.get(i));
+            Event.Speaker previous = existing.get(speaker.getId());
+            if (previous == null) {
+                added.add(speaker);
+            } else if (kept.add(speaker.getId()) && !speaker.equals(previous)) {
+                String identifier = "s" + i;
+                steps.sets.set("speakers.$[" + identifier + "]", speaker)
+                        .filterArray(Criteria.where(identifier + "._id").is(speaker.getId()));
+            }
+        }
+
+        pullRemoved(steps.pulls, "speakers", existing.keySet(), kept);
+        if (!added.isEmpty()) {
+            steps.pushes.push("speakers").each(added.toArray());
+        }
+    }
+
+    private static void planAgenda(List<Event.AgendaItem> current, List<EventRequest.AgendaItemDto> requested, Steps steps) {
+        if (current == null) {
+            steps.sets.set("agenda", requested.stream().map(EventPatchPlanner::toAgendaItem).toList());
+            return;
+        }
+
+        Map<String, Event.AgendaItem> existing = byId(current, Event.AgendaItem::getId);
+        Set<String> kept = new HashSet<>();
+        List<Event.AgendaItem> added = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            EventRequest.AgendaItemDto agendaItemDto = requested.get(i);
+            Event.AgendaItem previous = agendaItemDto.getId() != null ? existing.get(agendaItemDto.getId()) : null;
+            if (previous == null) {
+                added.add(toAgendaItem(agendaItemDto));
+            } else if (kept.add(previous.getId())) {
+                planAgendaItem(previous, agendaItemDto, "a" + i, steps);
+            }
+        }
+
+        rejectBookedSessions(existing.values().stream()
+                .filter(agendaItem -> !kept.contains(agendaItem.getId()) && agendaItem.getSessions() != null)
+                .flatMap(agendaItem -> agendaItem.getSessions().stream())
+                .toList(), steps);
+        pullRemoved(steps.pulls, "agenda", existing.keySet(), kept);
+        if (!added.isEmpty()) {
+            steps.pushes.push("agenda").each(added.toArray());
+        }
+    }
+
+    private static void planAgendaItem(Event.AgendaItem current, EventRequest.AgendaItemDto requested, String identifier, Steps steps) {
+        String path = "agenda.$[" + identifier + "]";
+        Criteria itemFilter = Criteria.where(identifier + "._id").is(current.getId());
+        boolean setsUseItem = false;
+        setsUseItem |= setIfChanged(steps.sets, path + ".title", current.getTitle(), requested.getTitle());
+        setsUseItem |= setIfChanged(steps.sets, path + ".description", current.getDescription(), requested.getDescription());
+        setsUseItem |= setIfChanged(steps.sets, path + ".startTime", current.getStartTime(), requested.getStartTime());
+        setsUseItem |= setIfChanged(steps.sets, path + ".endTime", current.getEndTime(), requested.getEndTime());
+        setsUseItem |= setIfChanged(steps.sets, path + ".type", current.getType(), requested.getType());
+
+        if (requested.getSessions() != null) {
+            if (current.getSessions() == null) {
+                steps.sets.set(path + ".sessions", requested.getSessions().stream().map(EventPatchPlanner::toSession).toList());
+                setsUseItem = true;
+            } else {
+                Map<String, Event.Session> existing = byId(current.getSessions(), Event.Session::getId);
+                Set<String> kept = new HashSet<>();
+                List<Event.Session> added = new ArrayList<>();
+                for (int j = 0; j < requested.getSessions().size(); j++) {
+                    EventRequest.SessionDto sessionDto = requested.getSessions().get(j);
+                    Event.Session previous = sessionDto.getId() != null ? existing.get(sessionDto.getId()) : null;
+                    if (previous == null) {
+                        added.add(toSession(sessionDto));
+                    } else if (kept.add(previous.getId())) {
+                        setsUseItem |= planSession(previous, sessionDto, path, identifier + "s" + j, steps);
+                    }
+                }
+
+                rejectBookedSessions(existing.values().stream().filter(session -> !kept.contains(session.getId())).toList(), steps);
+                if (pullRemoved(steps.sessionPulls, path + ".sessions", existing.keySet(), kept)) {
+                    steps.sessionPulls.filterArray(itemFilter);
+                }
+                if (!added.isEmpty()) {
+                    steps.sessionPushes.push(path + ".sessions").each(added.toArray());
+                    steps.sessionPushes.filterArray(itemFilter);
+                }
+            }
+        }
+
+        // Every array filter must be used by the update it is sent with
+        if (setsUseItem) {
+            steps.sets.filterArray(itemFilter);
+        }
+    }
+
+    /**
+     * Set the changed fields of a session. Booked seats are never written, and its capacity may not
+     * drop below them.
+     *
+     * @return true if the session filter of the agenda item is used
+     */
+    private static boolean planSession(Event.Session current, EventRequest.SessionDto requested, String itemPath,
+                                       String identifier, Steps steps) {
+        String path = itemPath + ".sessions.$[" + identifier + "]";
+        boolean changed = false;
+        changed |= setIfChanged(steps.sets, path + ".title", current.getTitle(), requested.getTitle());
+        changed |= setIfChanged(steps.sets, path + ".description", current.getDescription(), requested.getDescription());
+        changed |= setIfChanged(steps.sets, path + ".location", current.getLocation(), requested.getLocation());
+        changed |= setIfChanged(steps.sets, path + ".startTime", current.getStartTime(), requested.getStartTime());
+        changed |= setIfChanged(steps.sets, path + ".endTime", current.getEndTime(), requested.getEndTime());
+        changed |= setIfChanged(steps.sets, path + ".speakerIds", current.getSpeakerIds(), requested.getSpeakerIds());
+        changed |= setIfChanged(steps.sets, path + ".capacity", current.getCapacity(), requested.getCapacity());
+        changed |= setIfChanged(steps.sets, path + ".sessionType", current.getSessionType(), requested.getSessionType());
+        changed |= setIfChanged(steps.sets, path + ".additionalInfo", current.getAdditionalInfo(), requested.getAdditionalInfo());
+        if (changed) {
+            steps.sets.filterArray(Criteria.where(identifier + "._id").is(current.getId()));
+        }
+
+        boolean limitLowered = requested.getCapacity() > 0
+                && (current.getCapacity() <= 0 || requested.getCapacity() < current.getCapacity());
+        if (limitLowered) {
+            if (requested.getCapacity() < current.getBooked()) {
+                throw new IllegalStateException("Session " + current.getTitle() + " already has "
+                        + current.getBooked() + " seats booked");
+            }
+            // Seats booked since the event was read must still fit in the new capacity
+            steps.conditions.add(Criteria.where("agenda.sessions").elemMatch(
+                    Criteria.where("id").is(current.getId()).and("booked").not().gt(requested.getCapacity())));
+        }
+        return changed;
+    }
+
+    /**
+     * Reject removing sessions that have booked seats, now or by the time the update is applied.
+     *
+     * @param removed The sessions being removed
+     * @param steps The updates being built
+     */
+    private static void rejectBookedSessions(List<Event.Session> removed, Steps steps) {
+        for (Event.Session session : removed) {
+            if (session.getBooked() > 0) {
+                throw new IllegalStateException("Session " + session.getTitle() + " cannot be removed, "
+                        + session.getBooked() + " seats have been booked");
+            }
+        }
+        if (!removed.isEmpty()) {
+            steps.conditions.add(Criteria.where("agenda.sessions").not().elemMatch(
+                    Criteria.where("id").in(removed.stream().map(Event.Session::getId).toList()).and("booked").gt(0)));
+        }
+    }
+
+    private static void planTicketTypes(List<Event.TicketType> current, List<EventRequest.TicketTypeDto> requested, Steps steps) {
+        if (current == null) {
+            steps.sets.set("ticketTypes", requested.stream().map(EventPatchPlanner::toTicketType).toList());
+            return;
+        }
+
+        Map<String, Event.TicketType> existing = byId(current, Event.TicketType::getId);
+        Set<String> kept = new HashSet<>();
+        List<Event.TicketType> added = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            EventRequest.TicketTypeDto ticketTypeDto = requested.get(i);
+            Event.TicketType previous = ticketTypeDto.getId() != null ? existing.get(ticketTypeDto.getId()) : null;
+            if (previous == null) {
+                added.add(toTicketType(ticketTypeDto));
+                continue;
+            }
+            if (!kept.add(previous.getId())) {
+                continue;
+            }
+
+            String identifier = "t" + i;
+            String path = "ticketTypes.$[" + identifier + "]";
+            boolean changed = false;
+            changed |= setIfChanged(steps.sets, path + ".name", previous.getName(), ticketTypeDto.getName());
+            changed |= setIfChanged(steps.sets, path + ".description", previous.getDescription(), ticketTypeDto.getDescription());
+            changed |= setIfChanged(steps.sets, path + ".price", previous.getPrice(), ticketTypeDto.getPrice());
+            changed |= setIfChanged(steps.sets, path + ".quantity", previous.getQuantity(), ticketTypeDto.getQuantity());
+            changed |= setIfChanged(steps.sets, path + ".saleStartDate", previous.getSaleStartDate(), ticketTypeDto.getSaleStartDate());
+            changed |= setIfChanged(steps.sets, path + ".saleEndDate", previous.getSaleEndDate(), ticketTypeDto.getSaleEndDate());
+            changed |= setIfChanged(steps.sets, path + ".isAvailable", previous.isAvailable(), ticketTypeDto.isAvailable());
+            if (changed) {
+                steps.sets.filterArray(Criteria.where(identifier + "._id").is(previous.getId()));
+            }
+
+            if (ticketTypeDto.getQuantity() < previous.getQuantity()) {
+                if (ticketTypeDto.getQuantity() < previous.getSold() + previous.getHeld()) {
+                    throw new IllegalStateException("Ticket type " + previous.getName() + " already has "
+                            + previous.getSold() + " tickets sold and " + previous.getHeld() + " held");
+                }
+                // Tickets sold or held since the event was read must still fit in the new quantity
+                steps.conditions.add(Criteria.expr(soldAndHeldAtMost(previous.getId(), ticketTypeDto.getQuantity())));
+            }
+        }
+
+        Set<String> removed = new HashSet<>(existing.keySet());
+        removed.removeAll(kept);
+        for (String ticketTypeId : removed) {
+            Event.TicketType ticketType = existing.get(ticketTypeId);
+            if (ticketType.getSold() > 0) {
+                throw new IllegalStateException("Ticket type " + ticketType.getName() + " cannot be removed, "
+                        + ticketType.getSold() + " tickets have been sold");
+            }
+            if (ticketType.getHeld() > 0) {
+                throw new IllegalStateException("Ticket type " + ticketType.getName() + " cannot be removed, "
+                        + ticketType.getHeld() + " tickets are held");
+            }
+        }
+        if (!removed.isEmpty()) {
+            steps.conditions.add(Criteria.where("ticketTypes").not().elemMatch(Criteria.where("id").in(removed)
+                    .orOperator(Criteria.where("sold").gt(0), Criteria.where("held").gt(0))));
+        }
+
+        pullRemoved(steps.pulls, "ticketTypes", existing.keySet(), kept);
+        if (!added.isEmpty()) {
+            steps.pushes.push("ticketTypes").each(added.toArray());
+        }
+    }
+
+    /**
+     * Build an expression that holds while the sold and held tickets of a ticket type fit in a quantity.
+     * $elemMatch cannot add two fields of the same element, so the check is a $filter evaluated inside $expr.
+     */
+    private static MongoExpression soldAndHeldAtMost(String ticketTypeId, int quantity) {
+        Document fits = new Document("$filter", new Document("input", "$ticketTypes")
+                .append("as", "ticketType")
+                .append("cond", new Document("$and", List.of(
+                        new Document("$eq", List.of("$$ticketType._id", ticketTypeId)),
+                        new Document("$lte", List.of(new Document("$add", List.of("$$ticketType.sold",
+                                new Document("$ifNull", List.of("$$ticketType.held", 0)))), quantity))))));
+        return () -> new Document("$gt", List.of(new Document("$size", fits), 0));
+    }
+
+    private static <T> T merge(T current, T requested, boolean replace) {
+        return replace || requested != null ? requested : current;
+    }
+
+    private static boolean setIfChanged(Update update, String key, Object current, Object requested) {
+        if (Objects.equals(current, requested)) {
+            return false;
+        }
+        update.set(key, requested);
+        return true;
+    }
+
+    private static boolean pullRemoved(Update update, String key, Set<String> existingIds, Set<String> keptIds) {
+        List<String> removed = existingIds.stream().filter(id -> !keptIds.contains(id)).toList();
+        if (removed.isEmpty()) {
+            return false;
+        }
+        update.pull(key, Query.query(Criteria.where("id").in(removed)));
+        return true;
+    }
+
+    private static <T> Map<String, T> byId(List<T> items, Function<T, String> idOf) {
+        Map<String, T> byId = new LinkedHashMap<>();
+        items.forEach(item -> byId.put(idOf.apply(item), item));
+        return byId;
+    }
+
+    private static String idOrNew(String id) {
+        return id != null ? id : UUID.randomUUID().toString();
+    }
+
+    private static Event.Speaker toSpeaker(EventRequest.SpeakerDto speakerDto) {
+        return Event.Speaker.builder()
+                .id(idOrNew(speakerDto.getId()))
+                .name(speakerDto.getName())
+                .bio(speakerDto.getBio())
+                .photoUrl(speakerDto.getPhotoUrl())
+                .company(speakerDto.getCompany())
+                .jobTitle(speakerDto.getJobTitle())
+                .socialLinks(speakerDto.getSocialLinks())
+                .build();
+    }
+
+    private static Event.AgendaItem toAgendaItem(EventRequest.AgendaItemDto agendaItemDto) {
+        return Event.AgendaItem.builder()
+                .id(idOrNew(agendaItemDto.getId()))
+                .title(agendaItemDto.getTitle())
+                .description(agendaItemDto.getDescription())
+                .startTime(agendaItemDto.getStartTime())
+                .endTime(agendaItemDto.getEndTime())
+                .type(agendaItemDto.getType())
+                .sessions(agendaItemDto.getSessions() != null
+                        ? agendaItemDto.getSessions().stream().map(EventPatchPlanner::toSession).toList()
+                        : null)
+                .build();
+    }
+
+    private static Event.Session toSession(EventRequest.SessionDto sessionDto) {
+        return Event.Session.builder()
+                .id(idOrNew(sessionDto.getId()))
+                .title(sessionDto.getTitle())
+                .description(sessionDto.getDescription())
+                .location(sessionDto.getLocation())
+                .startTime(sessionDto.getStartTime())
+                .endTime(sessionDto.getEndTime())
+                .speakerIds(sessionDto.getSpeakerIds())
+                .capacity(sessionDto.getCapacity())
+                .sessionType(sessionDto.getSessionType())
+                .additionalInfo(sessionDto.getAdditionalInfo())
+                .build();
+    }
+
+    private static Event.TicketType toTicketType(EventRequest.TicketTypeDto ticketTypeDto) {
+        return Event.TicketType.builder()
+                .id(idOrNew(ticketTypeDto.getId()))
+                .name(ticketTypeDto.getName())
+                .description(ticketTypeDto.getDescription())
+                .price(ticketTypeDto.getPrice())
+                .quantity(ticketTypeDto.getQuantity())
+                .sold(0)
+                .saleStartDate(ticketTypeDto.getSaleStartDate())
+                .saleEndDate(ticketTypeDto.getSaleEndDate())
+                .isAvailable(ticketTypeDto.isAvailable())
+                .build();
+    }
+
+    /**
+     * The updates being built, one per conflict-free step.
+     */
+    private static final class Steps {
+
+        private final List<Criteria> conditions = new ArrayList<>();
+        private final Update sets = new Update();
+        private final Update sessionPulls = new Update();
+        private final Update sessionPushes = new Update();
+        private final Update pulls = new Update();
+        private final Update pushes = new Update();
+
+        private Plan toPlan() {
+            List<Update> followUps = new ArrayList<>();
+            for (Update update : List.of(sessionPulls, sessionPushes, pulls, pushes)) {
+                if (!update.getUpdateObject().isEmpty()) {
+                    followUps.add(update);
+                }
+            }
+            if (sets.getUpdateObject().isEmpty() && followUps.isEmpty()) {
+                return new Plan(List.of(), List.of());
+            }
+
+            List<Update> updates = new ArrayList<>();
+            updates.add(sets.inc("version", 1).set("updatedAt", LocalDateTime.now()));
+            updates.addAll(followUps);
+            return new Plan(conditions, updates);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.dto.event.GroupRegistrationRequest;
+import com.eventmanagement.api.dto.event.GroupRegistrationResponse;
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.model.Registration;
+import com.eventmanagement.api.model.TicketHold;
+import com.eventmanagement.api.outbox.OutboxPublisher;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.RegistrationRepository;
+import com.eventmanagement.api.repository.TransactionRunner;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for registering a group of attendees in one request, e.g. a team booked by a corporate buyer.
+ * The seats of all attendees are reserved across their ticket types by a single conditional update, all or
+ * nothing, or seat by seat from the buckets of an event with sharded inventory, and the per-attendee
+ * registrations are inserted in one bulk write. Both happen in one transaction with the confirmation
+ * recorded in the outbox. A group can also confirm tickets held during checkout.
+ * Group attendees have no user account: their registrations carry the purchaser's ID instead of a user ID.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupRegistrationService {
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final TicketHoldService ticketHoldService;
+    private final IdempotencyService idempotencyService;
+    private final CurrentUserProvider currentUserProvider;
+    private final TransactionRunner transactionRunner;
+    private final OutboxPublisher outboxPublisher;
+    private final EventCache eventCache;
+    private final TicketInventory ticketInventory;
+
+    @Value("${app.registrations.max-group-size:50}")
+    private int maxGroupSize;
+
+    /**
+     * Register a group of attendees for an event.
+     *
+     * @param request The group registration request DTO
+     * @return The created registrations as a response DTO
+     * @throws IllegalStateException if the event is not published, the group is too large, not enough
+     *                               tickets are available, or the attendees do not match the held tickets
+     */
+    public GroupRegistrationResponse registerGroup(GroupRegistrationRequest request) {
+        List<GroupRegistrationRequest.Attendee> attendees = request.getAttendees();
+        if (attendees.isEmpty() || attendees.size() > maxGroupSize) {
+            throw new IllegalStateException("A group registration must have between 1 and " + maxGroupSize + " attendees");
+        }
+
+        String eventId = request.getEventId();
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        if (!"PUBLISHED".equals(event.getStatus())) {
+            throw new IllegalStateException("Cannot register for an event that is not published");
+        }
+
+        Map<String, Event.TicketType> ticketTypes = event.getTicketTypes().stream()
+                .collect(Collectors.toMap(Event.TicketType::getId, Function.identity()));
+        Map<String, Integer> seatsByTicketType = new LinkedHashMap<>();
+        for (GroupRegistrationRequest.Attendee attendee : attendees) {
+            if (!ticketTypes.containsKey(attendee.getTicketTypeId())) {
+                throw new ResourceNotFoundException("Ticket type", "id", attendee.getTicketTypeId());
+            }
+            seatsByTicketType.merge(attendee.getTicketTypeId(), 1, Integer::sum);
+        }
+
+        TicketHold hold = request.getHoldId() != null ? findMatchingHold(request, seatsByTicketType) : null;
+        if (hold == null) {
+            // Fail fast on a stale read; the reservation below re-checks every ticket type atomically
+            seatsByTicketType.forEach((ticketTypeId, seats) -> {
+                Event.TicketType ticketType = ticketTypes.get(ticketTypeId);
+                if (!ticketType.isAvailable() || ticketType.getSold() + ticketType.getHeld() + seats > ticketType.getQuantity()) {
+                    throw new IllegalStateException("Not enough tickets available for ticket type " + ticketType.getName());
+                }
+            });
+        }
+
+        String purchaserId = currentUserProvider.getUserId();
+        String groupId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<Registration> registrations = new ArrayList<>();
+        for (GroupRegistrationRequest.Attendee attendee : attendees) {
+            registrations.add(Registration.confirmed(eventId, attendee.getTicketTypeId(),
+                            ticketTypes.get(attendee.getTicketTypeId()).getName(), attendee.getAmountPaid(),
+                            attendee.getAttendeeInfo(), now)
+                    .purchaserId(purchaserId)
+                    .groupId(groupId)
+                    .userName(attendee.getName())
+                    .userEmail(attendee.getEmail())
+                    .build());
+        }
+
+        List<Registration> inserted = transactionRunner.execute(() -> {
+            List<Registration> saved;
+            if (hold != null) {
+                saved = ticketHoldService.confirm(hold, registrations, now);
+            } else {
+                ticketInventory.reserveTickets(event, seatsByTicketType)
+                        .orElseThrow(() -> new IllegalStateException("Not enough tickets available for the whole group"));
+                saved = registrationRepository.insert(registrations);
+            }
+            outboxPublisher.publish(OutboxMessage.REGISTRATION_CONFIRMED, "group-registration-confirmed:" + groupId,
+                    Map.of("userId", purchaserId,
+                            "eventId", eventId,
+                            "eventTitle", event.getTitle(),
+                            "groupId", groupId));
+            return saved;
+        });
+        eventCache.evict(eventId);
+
+        log.info("Registered a group of {} attendees for event {}", inserted.size(), eventId);
+        return GroupRegistrationResponse.builder()
+                .groupId(groupId)
+                .eventId(eventId)
+                .eventTitle(event.getTitle())
+                .registrations(inserted.stream().map(EventResponse.RegistrationDto::fromEntity).toList())
+                .build();
+    }
+
+    /**
+     * Register a group of attendees at most once per idempotency key.
+     *
+     * @param request The group registration request DTO
+     * @param idempotencyKey The client's idempotency key
+     * @return The created registrations as a response DTO, and whether they were replayed
+     */
+    public IdempotencyService.IdempotentResult<GroupRegistrationResponse> registerGroup(GroupRegistrationRequest request,
+                                                                                        String idempotencyKey) {
+        return idempotencyService.execute("event.register-group", currentUserProvider.getUserId(), idempotencyKey,
+                request, GroupRegistrationResponse.class, () -> registerGroup(request));
+    }
+
+    /**
+     * Find the current user's hold that the group confirms; it must hold exactly the attendees' tickets.
+     */
+    private TicketHold findMatchingHold(GroupRegistrationRequest request, Map<String, Integer> seatsByTicketType) {
+        TicketHold hold = ticketHoldService.findOwnHold(request.getHoldId());
+        if (!hold.getEventId().equals(request.getEventId())
+                || !seatsByTicketType.equals(Map.of(hold.getTicketTypeId(), hold.getQuantity()))) {
+            throw new IllegalStateException("The attendees must match the " + hold.getQuantity() + " held "
+                    + hold.getTicketTypeName() + " tickets");
+        }
+        return hold;
+    }
+}
@@ -0,0 +1,228 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.exception.IdempotencyKeyConflictException;
+import com.eventmanagement.api.exception.InvalidIdempotencyKeyException;
+import com.eventmanagement.api.model.IdempotencyRecord;
+import com.eventmanagement.api.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service for executing requests sent with an Idempotency-Key header at most once.
+ * The first request with a key claims it by inserting an in-progress record; the unique ID closes the race
+ * between concurrent duplicates. Duplicates wait for the claimed request to finish and are answered with its
+ * stored response, without executing the operation again. A failed request releases its key so the client
+ * can retry, and a key whose owner crashed can be taken over once its lock expires.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    static final String REQUESTS_METRIC = "idempotency.requests";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    // Requests executing on this node, so duplicates arriving here are woken as soon as they finish
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.lock-timeout:30s}") Duration lockTimeout,
+                              @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                              @Value("${app.idempotency.poll-interval:50ms}") Duration pollInterval) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * The response of an idempotent request.
+     *
+     * @param response The response body
+     * @param replayed true if the response was stored by an earlier request with the same key
+     */
+    public record IdempotentResult<T>(T response, boolean replayed) {
+    }
+
+    /**
+     * Execute an operation at most once per idempotency key.
+     *
+     * @param operation The operation name, e.g. "event.register"; keys are only compared within an operation
+     * @param scope The owner of the key, usually the current user ID; keys are only compared within a scope
+     * @param key The client's idempotency key
+     * @param request The request body, fingerprinted to detect a key reused for a different request
+     * @param responseType The response type, used to read a stored response
+     * @param action The operation to execute
+     * @param <T> The response type
+     * @return The response, either returned by the action or replayed from an earlier request
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IdempotencyKeyConflictException if the key was used for a different request, or the original request
+     *                                         is still running after the wait timeout
+     */
+    public <T> IdempotentResult<T> execute(String operation, String scope, String key, Object request,
+                                           Class<T> responseType, Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String id = operation + ":" + scope + ":" + key;
+        String requestHash = DigestUtils.md5DigestAsHex(writeJson(request).getBytes(StandardCharsets.UTF_8));
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            String owner = UUID.randomUUID().toString();
+            if (claim(id, requestHash, owner)) {
+                T response = run(id, owner, action);
+                requests(operation, "executed").increment();
+                return new IdempotentResult<>(response, false);
+            }
+
+            // The key was deleted in between, because its request failed; try to claim it again
+            Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(id);
+            if (existing.isEmpty()) {
+                continue;
+            }
+
+            IdempotencyRecord record = existing.get();
+            if (!requestHash.equals(record.getRequestHash())) {
+                throw new IdempotencyKeyConflictException("Idempotency key " + key + " was already used for a different request");
+            }
+            if (IdempotencyRecord.COMPLETED.equals(record.getStatus())) {
+                requests(operation, "replayed").increment();
+                return new IdempotentResult<>(readJson(record.getResponse(), responseType), true);
+            }
+            if (System.nanoTime() >= deadline) {
+                requests(operation, "timeout").increment();
+                throw new IdempotencyKeyConflictException("A request with idempotency key " + key + " is still in progress");
+            }
+            awaitCompletion(id, deadline);
+        }
+    }
+
+    /**
+     * Claim a key by inserting it, or by taking it over if its owner's lock has expired.
+     */
+    private boolean claim(String id, String requestHash, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .status(IdempotencyRecord.IN_PROGRESS)
+                .owner(owner)
+                .lockedUntil(now.plus(lockTimeout))
+                .createdAt(now)
+                .expiresAt(now.plus(ttl))
+                .build();
+
+        try {
+            idempotencyRecordRepository.insert(record);
+            return true;
+        } catch (DuplicateKeyException ex) {
+            if (idempotencyRecordRepository.takeOver(id, requestHash, owner, now, now.plus(lockTimeout))) {
+                log.warn("Took over idempotency key {} after its lock expired", id);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private <T> T run(String id, String owner, Supplier<T> action) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.put(id, done);
+        try {
+            T response;
+            try {
+                response = action.get();
+            } catch (RuntimeException ex) {
+                idempotencyRecordRepository.release(id, owner);
+                throw ex;
+            }
+            if (!idempotencyRecordRepository.complete(id, owner, writeJson(response), LocalDateTime.now().plus(ttl))) {
+                log.warn("Idempotency key {} was taken over before its request completed", id);
+            }
+            return response;
+        } finally {
+            inFlight.remove(id, done);
+            done.complete(null);
+        }
+    }
+
+    /**
+     * Wait until the request holding a key may have finished: immediately when it runs on this node,
+     * otherwise after the poll interval.
+     */
+    private void awaitCompletion(String id, long deadline) {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        CompletableFuture<Void> local = inFlight.get(id);
+        try {
+            if (local != null) {
+                local.get(remaining, TimeUnit.NANOSECONDS);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, pollInterval.toNanos()));
+            }
+        } catch (TimeoutException | ExecutionException ex) {
+            // Re-read the key below
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyConflictException("Interrupted while waiting for a request with the same idempotency key");
+        }
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private <T> T readJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not read stored " + type.getSimpleName(), ex);
+        }
+    }
+
+    private Counter requests(String operation, String outcome) {
+        return Counter.builder(REQUESTS_METRIC)
+                .description("Requests sent with an idempotency key, by whether they were executed or replayed")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventmanagement.api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that copies the tickets sold from inventory buckets onto their events.
+ * Writing the totals once per interval, instead of on every sale, keeps sharded reservations off the event document.
+ * Every run writes absolute totals, so several nodes can roll up concurrently.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.rollup.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InventoryRollup {
+
+    private final TicketInventory ticketInventory;
+
+    /**
+     * Roll up the sold counts of the published events with sharded inventory.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.rollup.interval:1000}")
+    public void rollUp() {
+        ticketInventory.rollUpSoldCounts();
+    }
+}
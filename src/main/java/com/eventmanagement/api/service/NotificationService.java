@@ -0,0 +1,204 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.dto.user.NotificationResponse;
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import com.eventmanagement.api.model.Notification;
+import com.eventmanagement.api.repository.NotificationRepository;
+import com.eventmanagement.api.repository.UserRepository;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service for handling user notifications.
+ * Notifications live in their own collection; every operation is a single indexed query or
+ * atomic update scoped to the owning user, and each inbox is capped at a configurable size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Value("${app.notifications.max-per-user:200}")
+    private int maxPerUser;
+
+    /**
+     * Get the current user's notifications, newest first.
+     *
+     * @param pageable Pagination information
+     * @return Page of notification response DTOs
+     */
+    public Page<NotificationResponse> getCurrentUserNotifications(Pageable pageable) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(currentUserProvider.getUserId(), pageable)
+                .map(this::mapToNotificationResponse);
+    }
+
+    /**
+     * Get the current user's unread notifications, newest first.
+     *
+     * @param pageable Pagination information
+     * @return Page of unread notification response DTOs
+     */
+    public Page<NotificationResponse> getCurrentUserUnreadNotifications(Pageable pageable) {
+        return notificationRepository.findByUserIdAndReadOrderByCreatedAtDesc(currentUserProvider.getUserId(), false, pageable)
+                .map(this::mapToNotificationResponse);
+    }
+
+    /**
+     * Mark a notification of the current user as read.
+     *
+     * @param notificationId The ID of the notification to mark as read
+     * @return The updated notification response DTO
+     */
+    public NotificationResponse markNotificationAsRead(String notificationId) {
+        return notificationRepository.markAsRead(notificationId, currentUserProvider.getUserId())
+                .map(this::mapToNotificationResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
+    }
+
+    /**
+     * Mark all notifications of the current user as read.
+     */
+    public void markAllNotificationsAsRead() {
+        notificationRepository.markAllAsRead(currentUserProvider.getUserId());
+    }
+
+    /**
+     * Create a notification for a user.
+     *
+     * @param userId The ID of the user to notify
+     * @param title The notification title
+     * @param message The notification message
+     * @param type The notification type
+     * @param relatedEntityId The ID of the related entity (optional)
+     * @return The created notification response DTO
+     */
+    public NotificationResponse createNotification(String userId, String title, String message,
+                                                   String type, String relatedEntityId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        return mapToNotificationResponse(notify(userId, title, message, type, relatedEntityId));
+    }
+
+    /**
+     * Add a notification to a user's inbox without checking that the user exists.
+     * Used by internal callers that already hold the user, such as event registration.
+     *
+     * @param userId The ID of the user to notify
+     * @param title The notification title
+     * @param message The notification message
+     * @param type The notification type
+     * @param relatedEntityId The ID of the related entity (optional)
+     * @return The created notification
+     */
+    public Notification notify(String userId, String title, String message, String type, String relatedEntityId) {
+        return insertAndTrim(Notification.builder()
+                .userId(userId)
+                .title(title)
+                .message(message)
+                .read(false)
+                .createdAt(LocalDateTime.now())
+                .type(type)
+                .relatedEntityId(relatedEntityId)
+                .build());
+    }
+
+    /**
+     * Add a notification with a caller-chosen ID to a user's inbox, at most once.
+     * Repeated calls with the same ID return the existing notification, which makes
+     * at-least-once delivery (such as from the outbox) safe.
+     *
+     * @param notificationId The ID of the notification, derived from an idempotency key
+     * @param userId The ID of the user to notify
+     * @param title The notification title
+     * @param message The notification message
+     * @param type The notification type
+     * @param relatedEntityId The ID of the related entity (optional)
+     * @return The created or existing notification
+     */
+    public Notification notifyOnce(String notificationId, String userId, String title, String message,
+                                   String type, String relatedEntityId) {
+        try {
+            return insertAndTrim(Notification.builder()
+                    .id(notificationId)
+                    .userId(userId)
+                    .title(title)
+                    .message(message)
+                    .read(false)
+                    .createdAt(LocalDateTime.now())
+                    .type(type)
+                    .relatedEntityId(relatedEntityId)
+                    .build());
+        } catch (DuplicateKeyException ex) {
+            return notificationRepository.findById(notificationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
+        }
+    }
+
+    /**
+     * Insert a notification and trim the user's inbox to the retention limit.
+     *
+     * @param notification The notification to insert
+     * @return The inserted notification
+     */
+    private Notification insertAndTrim(Notification notification) {
+        Notification inserted = notificationRepository.insert(notification);
+
+        long trimmed = notificationRepository.trimToLimit(inserted.getUserId(), maxPerUser);
+        if (trimmed > 0) {
+            log.debug("Removed {} old notifications of user {}", trimmed, inserted.getUserId());
+        }
+        return inserted;
+    }
+
+    /**
+     * Delete a notification of the current user.
+     *
+     * @param notificationId The ID of the notification to delete
+     */
+    public void deleteNotification(String notificationId) {
+        if (notificationRepository.deleteByIdAndUserId(notificationId, currentUserProvider.getUserId()) == 0) {
+            throw new ResourceNotFoundException("Notification", "id", notificationId);
+        }
+    }
+
+    /**
+     * Delete every notification of a user.
+     *
+     * @param userId The ID of the user
+     */
+    public void deleteAllForUser(String userId) {
+        notificationRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Map a notification entity to a notification response DTO.
+     *
+     * @param notification The notification entity
+     * @return The notification response DTO
+     */
+    private NotificationResponse mapToNotificationResponse(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .read(notification.isRead())
+                .createdAt(notification.getCreatedAt())
+                .type(notification.getType())
+                .relatedEntityId(notification.getRelatedEntityId())
+                .build();
+    }
+}
@@ -0,0 +1,273 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.dto.event.HoldConfirmationRequest;
+import com.eventmanagement.api.dto.event.TicketHoldRequest;
+import com.eventmanagement.api.dto.event.TicketHoldResponse;
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.model.Registration;
+import com.eventmanagement.api.model.TicketHold;
+import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.outbox.OutboxPublisher;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.RegistrationRepository;
+import com.eventmanagement.api.repository.TicketHoldRepository;
+import com.eventmanagement.api.repository.TransactionRunner;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service for time-limited ticket holds.
+ * A hold reserves tickets for the duration of a checkout: the ticket type's held count is incremented by a
+ * single conditional update, so held tickets count against availability, and the expensive confirmation
+ * no longer competes for the contended counter. Confirming a hold turns its tickets into sold ones and
+ * creates the registration; releasing it, or letting it expire, returns them to inventory. Each change
+ * to the held count is made in one transaction with the change to the hold, so tickets are never lost.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketHoldService {
+
+    private final TicketHoldRepository ticketHoldRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final TransactionRunner transactionRunner;
+    private final OutboxPublisher outboxPublisher;
+    private final WaitlistService waitlistService;
+    private final EventCache eventCache;
+
+    @Value("${app.holds.duration:10m}")
+    private Duration holdDuration;
+
+    @Value("${app.holds.max-tickets:10}")
+    private int maxTickets;
+
+    /**
+     * Hold tickets of a ticket type for the current user while they check out.
+     *
+     * @param holdRequest The hold request DTO
+     * @return The hold as a response DTO, with its expiry time
+     * @throws IllegalStateException if the event is not published or has sharded inventory, too many tickets
+     *                               are requested or not enough tickets are available
+     */
+    public TicketHoldResponse holdTickets(TicketHoldRequest holdRequest) {
+        String eventId = holdRequest.getEventId();
+        int quantity = holdRequest.getQuantity();
+        if (quantity < 1 || quantity > maxTickets) {
+            throw new IllegalStateException("Between 1 and " + maxTickets + " tickets can be held at once");
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        if (!"PUBLISHED".equals(event.getStatus())) {
+            throw new IllegalStateException("Cannot hold tickets for an event that is not published");
+        }
+        if (TicketInventory.isSharded(event)) {
+            // Held counts live on the event document, which sharded inventory keeps reservations away from
+            throw new IllegalStateException("Tickets of events with sharded inventory cannot be held, register directly instead");
+        }
+
+        Event.TicketType ticketType = event.getTicketTypes().stream()
+                .filter(t -> t.getId().equals(holdRequest.getTicketTypeId()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket type", "id", holdRequest.getTicketTypeId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        TicketHold hold = TicketHold.builder()
+                .eventId(eventId)
+                .ticketTypeId(ticketType.getId())
+                .ticketTypeName(ticketType.getName())
+                .userId(currentUserProvider.getUserId())
+                .quantity(quantity)
+                .status(TicketHold.ACTIVE)
+                .createdAt(now)
+                .expiresAt(now.plus(holdDuration))
+                .build();
+
+        // The held count and the hold are written together, so a failed insert never leaves tickets held
+        TicketHold savedHold = transactionRunner.execute(() -> {
+            eventRepository.holdTickets(eventId, ticketType.getId(), quantity)
+                    .orElseThrow(() -> new IllegalStateException("Not enough tickets available for this ticket type"));
+            return ticketHoldRepository.insert(hold);
+        });
+        eventCache.evict(eventId);
+
+        log.debug("Held {} tickets of type {} for event {} until {}", quantity, ticketType.getId(), eventId, savedHold.getExpiresAt());
+        return TicketHoldResponse.fromEntity(savedHold);
+    }
+
+    /**
+     * Get one of the current user's ticket holds.
+     *
+     * @param holdId The ID of the hold
+     * @return The hold as a response DTO
+     * @throws ResourceNotFoundException if the current user has no such hold
+     */
+    public TicketHoldResponse getHold(String holdId) {
+        return TicketHoldResponse.fromEntity(findOwnHold(holdId));
+    }
+
+    /**
+     * Find one of the current user's ticket holds.
+     *
+     * @param holdId The ID of the hold
+     * @return The hold
+     * @throws ResourceNotFoundException if the current user has no such hold
+     */
+    public TicketHold findOwnHold(String holdId) {
+        return ticketHoldRepository.findById(holdId)
+                .filter(hold -> hold.getUserId().equals(currentUserProvider.getUserId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket hold", "id", holdId));
+    }
+
+    /**
+     * Confirm the current user's hold of a single ticket, registering them for the event.
+     *
+     * @param holdId The ID of the hold
+     * @param confirmationRequest The confirmation request DTO
+     * @return The created registration as a response DTO
+     * @throws IllegalStateException if the hold is not active, has expired or holds more than one ticket,
+     *                               or the user is already registered
+     */
+    public EventResponse.RegistrationDto confirmHold(String holdId, HoldConfirmationRequest confirmationRequest) {
+        TicketHold hold = findOwnHold(holdId);
+        if (hold.getQuantity() != 1) {
+            throw new IllegalStateException("Holds of several tickets are confirmed with a group registration");
+        }
+        if (registrationRepository.existsByEventIdAndUserIdAndStatus(hold.getEventId(), hold.getUserId(), "CONFIRMED")) {
+            throw new IllegalStateException("You are already registered for this event");
+        }
+
+        User currentUser = currentUserProvider.getUser();
+        Registration registration;
+        try {
+            registration = transactionRunner.execute(() -> {
+                LocalDateTime now = LocalDateTime.now();
+                Registration inserted = confirm(hold, List.of(Registration.confirmed(hold.getEventId(),
+                                hold.getTicketTypeId(), hold.getTicketTypeName(), confirmationRequest.getAmountPaid(),
+                                confirmationRequest.getAttendeeInfo(), now)
+                        .userId(hold.getUserId())
+                        .userName(currentUser.getFirstName() + " " + currentUser.getLastName())
+                        .userEmail(currentUser.getEmail())
+                        .build()), now).get(0);
+
+                String eventTitle = eventRepository.findSummaryById(hold.getEventId()).map(Event::getTitle).orElse("the event");
+                outboxPublisher.publish(OutboxMessage.REGISTRATION_CONFIRMED, "registration-confirmed:" + inserted.getId(),
+                        Map.of("userId", inserted.getUserId(),
+                                "eventId", inserted.getEventId(),
+                                "eventTitle", eventTitle,
+                                "registrationId", inserted.getId()));
+                return inserted;
+            });
+        } catch (DuplicateKeyException ex) {
+            // Registered directly after the check; the transaction rolled back and the hold is still active
+            throw new IllegalStateException("You are already registered for this event");
+        }
+        eventCache.evict(hold.getEventId());
+        return EventResponse.RegistrationDto.fromEntity(registration);
+    }
+
+    /**
+     * Confirm an active hold: its held tickets become sold ones and one registration is inserted per held ticket,
+     * in a single bulk write. Must be called inside a transaction, so the hold, the ticket counts and the
+     * registrations change together.
+     *
+     * @param hold The hold to confirm
+     * @param registrations The registrations to create, one per held ticket
+     * @param now The current date and time
+     * @return The inserted registrations
+     * @throws IllegalStateException if the hold is no longer active or has expired
+     */
+    public List<Registration> confirm(TicketHold hold, List<Registration> registrations, LocalDateTime now) {
+        TicketHold confirmed = settle(hold, TicketHold.CONFIRMED, now);
+        if (!eventRepository.sellHeldTickets(confirmed.getEventId(), confirmed.getTicketTypeId(), confirmed.getQuantity())) {
+            throw new IllegalStateException("The held tickets are no longer held");
+        }
+
+        List<Registration> inserted = registrationRepository.insert(registrations);
+        ticketHoldRepository.recordRegistrations(confirmed.getId(), inserted.stream().map(Registration::getId).toList());
+        return inserted;
+    }
+
+    /**
+     * Release the current user's hold, returning its tickets to inventory.
+     *
+     * @param holdId The ID of the hold
+     * @throws IllegalStateException if the hold is not active or has expired
+     */
+    public void releaseHold(String holdId) {
+        TicketHold hold = findOwnHold(holdId);
+        transactionRunner.execute(() -> {
+            TicketHold released = settle(hold, TicketHold.RELEASED, LocalDateTime.now());
+            return eventRepository.releaseHeldTickets(released.getEventId(), released.getTicketTypeId(), released.getQuantity());
+        });
+        eventCache.evict(hold.getEventId());
+        waitlistService.promoteWaiting(hold.getEventId(), hold.getTicketTypeId());
+    }
+
+    /**
+     * Return the tickets of expired holds to inventory, up to a batch of holds.
+     * Each hold is marked expired and its tickets released in one transaction, so concurrent sweepers
+     * release every hold once.
+     *
+     * @param limit The maximum number of holds to expire
+     * @return The number of holds expired
+     */
+    public int releaseExpiredHolds(int limit) {
+        Map<String, Set<String>> releasedTicketTypes = new LinkedHashMap<>();
+        int expired = 0;
+        while (expired < limit) {
+            Optional<TicketHold> claimed = transactionRunner.execute(() -> {
+                Optional<TicketHold> hold = ticketHoldRepository.claimExpired(LocalDateTime.now());
+                hold.ifPresent(h -> eventRepository.releaseHeldTickets(h.getEventId(), h.getTicketTypeId(), h.getQuantity()));
+                return hold;
+            });
+            if (claimed.isEmpty()) {
+                break;
+            }
+            expired++;
+            releasedTicketTypes.computeIfAbsent(claimed.get().getEventId(), eventId -> new LinkedHashSet<>())
+                    .add(claimed.get().getTicketTypeId());
+        }
+
+        releasedTicketTypes.forEach((eventId, ticketTypeIds) -> {
+            eventCache.evict(eventId);
+            ticketTypeIds.forEach(ticketTypeId -> waitlistService.promoteWaiting(eventId, ticketTypeId));
+        });
+        if (expired > 0) {
+            log.info("Returned the tickets of {} expired holds to inventory", expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Settle an active hold, or explain why it can no longer be settled.
+     */
+    private TicketHold settle(TicketHold hold, String status, LocalDateTime now) {
+        return ticketHoldRepository.settle(hold.getId(), hold.getUserId(), status, now)
+                .orElseThrow(() -> {
+                    String current = ticketHoldRepository.findById(hold.getId()).map(TicketHold::getStatus).orElse(TicketHold.EXPIRED);
+                    return TicketHold.ACTIVE.equals(current) || TicketHold.EXPIRED.equals(current)
+                            ? new IllegalStateException("Ticket hold has expired")
+                            : new IllegalStateException("Ticket hold is already " + current.toLowerCase());
+                });
+    }
+}
@@ -0,0 +1,30 @@
+package com.eventmanagement.api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background sweeper that returns the tickets of expired holds to inventory.
+ * Holds are claimed one at a time, so several nodes can sweep concurrently.
+ */
+@Component
+@ConditionalOnProperty(name = "app.holds.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TicketHoldSweeper {
+
+    private final TicketHoldService ticketHoldService;
+
+    @Value("${app.holds.sweeper.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Expire the overdue holds, up to one batch per sweep.
+     */
+    @Scheduled(fixedDelayString = "${app.holds.sweeper.interval:5000}")
+    public void sweep() {
+        ticketHoldService.releaseExpiredHolds(batchSize);
+    }
+}
@@ -0,0 +1,356 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.InventoryBucket;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.InventoryBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service that reserves and releases tickets, whichever way an event counts them.
+ * By default the sold counts live on the event's ticket types and every reservation is a conditional update of
+ * the event document, which serializes all sales of a hot event. An event with sharded inventory instead splits
+ * each ticket type's quantity across K bucket documents: a reservation starts at a random bucket, or one chosen
+ * by key, and falls back to the sibling buckets when it has run dry, so up to K reservations proceed in parallel.
+ * The tickets sold are the sum over the buckets, which is rolled up onto the event periodically for reads.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketInventory {
+
+    private final EventRepository eventRepository;
+    private final InventoryBucketRepository inventoryBucketRepository;
+    private final EventCache eventCache;
+
+    /**
+     * Check if an event's tickets are reserved from inventory buckets.
+     *
+     * @param event The event entity
+     * @return true if the event has sharded inventory, false if tickets are counted on the event
+     */
+    public static boolean isSharded(Event event) {
+        return event.getInventoryBuckets() > 0;
+    }
+
+    /**
+     * Atomically reserve one ticket of the given type and one seat in each of the given sessions.
+     * With sharded inventory the sessions are still booked on the event document, after the ticket is reserved.
+     *
+     * @param event The event entity, as read before the reservation
+     * @param ticketTypeId The ID of the ticket type to reserve
+     * @param sessionIds The IDs of the sessions to book, without duplicates
+     * @param key The key that picks the first bucket to try, e.g. the user ID, or null to pick one at random
+     * @return Optional containing the event, updated if its counts were, or empty if the reservation was rejected
+     */
+    public Optional<Event> reserveTicket(Event event, String ticketTypeId, Collection<String> sessionIds, String key) {
+        if (!isSharded(event)) {
+            return eventRepository.reserveTicket(event.getId(), ticketTypeId, sessionIds);
+        }
+
+        if (!reserveFromBuckets(event, ticketTypeId, key)) {
+            return Optional.empty();
+        }
+        if (sessionIds.isEmpty()) {
+            return Optional.of(event);
+        }
+
+        Optional<Event> booked = eventRepository.reserveSessionSeats(event.getId(), sessionIds);
+        if (booked.isEmpty()) {
+            // A session is full; give the ticket back
+            inventoryBucketRepository.release(event.getId(), ticketTypeId);
+        }
+        return booked;
+    }
+
+    /**
+     * Reserve seats across one or more ticket types of an event, all or nothing.
+     * With sharded inventory the seats of a ticket type are taken from its buckets a share at a time, so the number
+     * of updates is bounded by the bucket count rather than the seats, and the seats already taken are returned
+     * if one runs out; call inside a transaction so concurrent readers never see a partial reservation.
+     *
+     * @param event The event entity, as read before the reservation
+     * @param seatsByTicketType The number of seats to reserve, by ticket type ID
+     * @return Optional containing the event, updated if its counts were, or empty if the reservation was rejected
+     */
+    public Optional<Event> reserveTickets(Event event, Map<String, Integer> seatsByTicketType) {
+        if (!isSharded(event)) {
+            return eventRepository.reserveTickets(event.getId(), seatsByTicketType);
+        }
+
+        Map<String, Integer> reserved = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> seats : seatsByTicketType.entrySet()) {
+            if (!reserveSeatsFromBuckets(event, seats.getKey(), seats.getValue(), reserved)) {
+                reserved.forEach(inventoryBucketRepository::releaseSeats);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(event);
+    }
+
+    /**
+     * Atomically release one previously reserved ticket of the given type and its session seats.
+     *
+     * @param event The event entity
+     * @param ticketTypeId The ID of the ticket type to release
+     * @param sessionIds The IDs of the sessions booked with the ticket, without duplicates
+     * @return true if a ticket was released, false otherwise
+     */
+    public boolean releaseTicket(Event event, String ticketTypeId, Collection<String> sessionIds) {
+        return releaseTicket(event.getId(), isSharded(event), ticketTypeId, sessionIds);
+    }
+
+    /**
+     * Atomically release one previously reserved ticket of the given type and its session seats, for callers
+     * that know the event's inventory mode without loading it. The mode cannot change once an event is published.
+     *
+     * @param eventId The ID of the event
+     * @param sharded true if the event has sharded inventory
+     * @param ticketTypeId The ID of the ticket type to release
+     * @param sessionIds The IDs of the sessions booked with the ticket, without duplicates
+     * @return true if a ticket was released, false otherwise
+     */
+    public boolean releaseTicket(String eventId, boolean sharded, String ticketTypeId, Collection<String> sessionIds) {
+        if (!sharded) {
+            return eventRepository.releaseTicket(eventId, ticketTypeId, sessionIds);
+        }
+        if (!inventoryBucketRepository.release(eventId, ticketTypeId)) {
+            return false;
+        }
+        eventRepository.releaseSessionSeats(eventId, sessionIds);
+        return true;
+    }
+
+    /**
+     * Follow a status change of an event with sharded inventory: its buckets are created when it is first
+     * published, and only take reservations while it is published and their ticket type is available.
+     * Call in the transaction that changes the status.
+     *
+     * @param event The event entity
+     * @param status The new status
+     */
+    public void changeStatus(Event event, String status) {
+        if (!isSharded(event)) {
+            return;
+        }
+
+        boolean published = "PUBLISHED".equals(status);
+        if (published && !inventoryBucketRepository.existsByEventId(event.getId())) {
+            List<InventoryBucket> buckets = new ArrayList<>();
+            event.getTicketTypes().forEach(ticketType -> buckets.addAll(createBuckets(event, ticketType, true)));
+            inventoryBucketRepository.insert(buckets);
+            log.info("Split the tickets of event {} across {} inventory buckets per ticket type", event.getId(), event.getInventoryBuckets());
+        } else if (published) {
+            Map<Boolean, List<String>> ticketTypeIdsByAvailability = event.getTicketTypes().stream()
+                    .collect(Collectors.partitioningBy(Event.TicketType::isAvailable,
+                            Collectors.mapping(Event.TicketType::getId, Collectors.toList())));
+            ticketTypeIdsByAvailability.forEach((available, ticketTypeIds) -> {
+                if (!ticketTypeIds.isEmpty()) {
+                    inventoryBucketRepository.setOpen(event.getId(), ticketTypeIds, available);
+                }
+            });
+        } else {
+            inventoryBucketRepository.setOpen(event.getId(), false);
+        }
+    }
+
+    /**
+     * Follow changes to the ticket types of an event with sharded inventory: added ticket types get buckets,
+     * added seats are spread over the buckets, the buckets of a ticket type made available or unavailable are
+     * opened or closed, and the buckets of removed ticket types are deleted.
+     * Call in the transaction that updates the event, so a rejected change is rolled back.
+     *
+     * @param before The event before the update
+     * @param after The event after the update
+     * @throws IllegalStateException if a quantity was lowered, or a ticket type with sold tickets removed
+     */
+    public void updateTicketTypes(Event before, Event after) {
+        if (!isSharded(before) || !inventoryBucketRepository.existsByEventId(before.getId())) {
+            return;
+        }
+
+        String eventId = before.getId();
+        boolean published = "PUBLISHED".equals(after.getStatus());
+        Map<String, Event.TicketType> removed = before.getTicketTypes().stream()
+                .collect(Collectors.toMap(Event.TicketType::getId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        for (Event.TicketType ticketType : after.getTicketTypes()) {
+            Event.TicketType old = removed.remove(ticketType.getId());
+            if (old == null) {
+                inventoryBucketRepository.insert(createBuckets(after, ticketType, published));
+                continue;
+            }
+            if (published && ticketType.isAvailable() != old.isAvailable()) {
+                inventoryBucketRepository.setOpen(eventId, List.of(ticketType.getId()), ticketType.isAvailable());
+            }
+            if (ticketType.getQuantity() < old.getQuantity()) {
+                // The tickets left are spread unevenly, so a lower quantity cannot be taken from the buckets atomically
+                throw new IllegalStateException("The quantity of ticket type " + ticketType.getName()
+                        + " cannot be lowered once its tickets are split across inventory buckets");
+            } else if (ticketType.getQuantity() > old.getQuantity()) {
+                int[] seats = split(ticketType.getQuantity() - old.getQuantity(), before.getInventoryBuckets());
+                for (int index = 0; index < seats.length; index++) {
+                    if (seats[index] > 0) {
+                        inventoryBucketRepository.addSeats(InventoryBucket.id(eventId, ticketType.getId(), index), seats[index]);
+                    }
+                }
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            Map<String, Integer> sold = inventoryBucketRepository.sumSold(List.of(eventId)).getOrDefault(eventId, Map.of());
+            for (Event.TicketType ticketType : removed.values()) {
+                if (sold.getOrDefault(ticketType.getId(), 0) > 0) {
+                    throw new IllegalStateException("Cannot remove ticket type " + ticketType.getName() + " with sold tickets");
+                }
+                inventoryBucketRepository.deleteByEventIdAndTicketTypeId(eventId, ticketType.getId());
+            }
+        }
+    }
+
+    /**
+     * Delete the inventory buckets of a deleted event.
+     *
+     * @param event The event entity
+     */
+    public void deleteBuckets(Event event) {
+        if (isSharded(event)) {
+            inventoryBucketRepository.deleteByEventId(event.getId());
+        }
+    }
+
+    /**
+     * Copy the tickets sold over the buckets of published events onto their ticket types, so event reads,
+     * listings and availability checks see them. Events that have ended are skipped, so the rollup only reads
+     * events that still sell tickets. Only ticket types whose total changed are written.
+     *
+     * @return The number of events updated
+     */
+    public int rollUpSoldCounts() {
+        List<Event> events = eventRepository.findPublishedWithInventoryBuckets(LocalDateTime.now());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Map<String, Integer>> sold = inventoryBucketRepository.sumSold(events.stream().map(Event::getId).toList());
+        int updated = 0;
+        for (Event event : events) {
+            Map<String, Integer> totals = sold.getOrDefault(event.getId(), Map.of());
+            Map<String, Integer> changed = new LinkedHashMap<>();
+            event.getTicketTypes().stream()
+                    .filter(ticketType -> totals.containsKey(ticketType.getId()) && totals.get(ticketType.getId()) != ticketType.getSold())
+                    .forEach(ticketType -> changed.put(ticketType.getId(), totals.get(ticketType.getId())));
+            if (!changed.isEmpty()) {
+                eventRepository.updateSoldCounts(event.getId(), changed);
+                eventCache.evict(event.getId());
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Pick the bucket a reservation tries first.
+     * Package-private so tests can tell which bucket a key starts at.
+     *
+     * @param key The key that picks the bucket, or null to pick one at random
+     * @param buckets The number of buckets
+     * @return The index of the first bucket to try
+     */
+    static int firstBucket(String key, int buckets) {
+        return key != null ? Math.floorMod(key.hashCode(), buckets) : ThreadLocalRandom.current().nextInt(buckets);
+    }
+
+    /**
+     * Split a number of seats as evenly as possible across buckets; the first buckets get the remainder.
+     *
+     * @param seats The number of seats
+     * @param buckets The number of buckets
+     * @return The seats of each bucket
+     */
+    static int[] split(int seats, int buckets) {
+        int[] split = new int[buckets];
+        for (int index = 0; index < buckets; index++) {
+            split[index] = seats / buckets + (index < seats % buckets ? 1 : 0);
+        }
+        return split;
+    }
+
+    /**
+     * Reserve a ticket from the first bucket with one left, starting at the picked bucket and wrapping around.
+     */
+    private boolean reserveFromBuckets(Event event, String ticketTypeId, String key) {
+        int buckets = event.getInventoryBuckets();
+        int first = firstBucket(key, buckets);
+        for (int attempt = 0; attempt < buckets; attempt++) {
+            if (inventoryBucketRepository.reserve(InventoryBucket.id(event.getId(), ticketTypeId, (first + attempt) % buckets))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reserve several tickets of a type: first an even share from each bucket, starting at a random one, then
+     * whatever is still missing from the buckets that have tickets left, each with a single guarded update.
+     * The seats taken are added to reserved by bucket ID, so they can be returned if a later ticket type runs out.
+     */
+    private boolean reserveSeatsFromBuckets(Event event, String ticketTypeId, int seats, Map<String, Integer> reserved) {
+        int buckets = event.getInventoryBuckets();
+        int first = firstBucket(null, buckets);
+        int[] shares = split(seats, buckets);
+        int missing = 0;
+        for (int index = 0; index < buckets && shares[index] > 0; index++) {
+            String bucketId = InventoryBucket.id(event.getId(), ticketTypeId, (first + index) % buckets);
+            if (inventoryBucketRepository.reserve(bucketId, shares[index])) {
+                reserved.merge(bucketId, shares[index], Integer::sum);
+            } else {
+                missing += shares[index];
+            }
+        }
+
+        if (missing == 0) {
+            return true;
+        }
+
+        // A bucket without its full share left may still have some; take the rest from wherever there are tickets
+        for (InventoryBucket bucket : inventoryBucketRepository.findByEventIdAndTicketTypeId(event.getId(), ticketTypeId)) {
+            int take = Math.min(bucket.getAvailable(), missing);
+            if (take > 0 && inventoryBucketRepository.reserve(bucket.getId(), take)) {
+                reserved.merge(bucket.getId(), take, Integer::sum);
+                missing -= take;
+            }
+        }
+        return missing == 0;
+    }
+
+    private static List<InventoryBucket> createBuckets(Event event, Event.TicketType ticketType, boolean open) {
+        int[] seats = split(ticketType.getQuantity(), event.getInventoryBuckets());
+        List<InventoryBucket> buckets = new ArrayList<>();
+        for (int index = 0; index < seats.length; index++) {
+            buckets.add(InventoryBucket.builder()
+                    .id(InventoryBucket.id(event.getId(), ticketType.getId(), index))
+                    .eventId(event.getId())
+                    .ticketTypeId(ticketType.getId())
+                    .index(index)
+                    .quantity(seats[index])
+                    .available(seats[index])
+                    .open(open && ticketType.isAvailable())
+                    .build());
+        }
+        return buckets;
+    }
+}
@@ -1,29 +1,28 @@
 package com.eventmanagement.api.service;
 
-import com.eventmanagement.api.dto.user.NotificationResponse;
+import com.eventmanagement.api.dto.common.CursorPage;
 import com.eventmanagement.api.dto.user.UserProfileRequest;
 import com.eventmanagement.api.dto.user.UserProfileResponse;
 import com.eventmanagement.api.exception.ResourceNotFoundException;
 import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.repository.ConflictRetryRunner;
+import com.eventmanagement.api.repository.KeysetCursor;
 import com.eventmanagement.api.repository.UserRepository;
+import com.eventmanagement.api.search.SearchTokenizer;
+import com.eventmanagement.api.security.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service for handling user operations.
- * Manages user profiles, notifications, and admin functions.
+ * Manages user profiles and admin functions; notifications are handled by {@link NotificationService}.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,16 +31,18 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CurrentUserProvider currentUserProvider;
+    private final NotificationService notificationService;
+    private final ConflictRetryRunner conflictRetryRunner;
 
     /**
      * Get the current authenticated user.
+     * The user document is loaded at most once per request.
      *
      * @return The current user entity
      */
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new IllegalStateException("Current user not found"));
+        return currentUserProvider.getUser();
     }
 
     /**
@@ -83,20 +84,24 @@ public class UserService {
      * @return The updated user profile response DTO
      */
     public UserProfileResponse updateCurrentUserProfile(UserProfileRequest profileRequest) {
-        User currentUser = getCurrentUser();
-        
-        // Update user fields
-        currentUser.setFirstName(profileRequest.getFirstName());
-        currentUser.setLastName(profileRequest.getLastName());
-        currentUser.setPhoneNumber(profileRequest.getPhoneNumber());
-        
-        // Only update password if provided
-        if (profileRequest.getPassword() != null && !profileRequest.getPassword().isEmpty()) {
-            currentUser.setPassword(passwordEncoder.encode(profileRequest.getPassword()));
-        }
-        
-        User updatedUser = userRepository.save(currentUser);
-        return mapToUserProfileResponse(updatedUser);
+        String encodedPassword = encodePassword(profileRequest);
+        return conflictRetryRunner.execute("user.update-profile", () -> {
+            // Reloaded on every attempt, as a version conflict means the copy read earlier is stale
+            User currentUser = getUserById(currentUserProvider.getUserId());
+
+            // Update user fields
+            currentUser.setFirstName(profileRequest.getFirstName());
+            currentUser.setLastName(profileRequest.getLastName());
+            currentUser.setPhoneNumber(profileRequest.getPhoneNumber());
+
+            // Only update password if provided
+            if (encodedPassword != null) {
+                currentUser.setPassword(encodedPassword);
+            }
+
+            User updatedUser = userRepository.save(currentUser);
+            return mapToUserProfileResponse(updatedUser);
+        });
     }
 
     /**
@@ -107,33 +112,34 @@ public class UserService {
      * @return The updated user profile response DTO
      */
     public UserProfileResponse updateUserProfile(String userId, UserProfileRequest profileRequest) {
-        User currentUser = getCurrentUser();
-        
         // Check if user is an admin
-        if (!currentUser.getRoles().contains("ADMIN")) {
+        if (!currentUserProvider.hasRole("ADMIN")) {
             throw new AccessDeniedException("Only admins can update other users' profiles");
         }
         
-        User userToUpdate = getUserById(userId);
+        String encodedPassword = encodePassword(profileRequest);
+        return conflictRetryRunner.execute("user.admin-update-profile", () -> {
+            User userToUpdate = getUserById(userId);
         
-        // Update user fields
-        userToUpdate.setFirstName(profileRequest.getFirstName());
-        userToUpdate.setLastName(profileRequest.getLastName());
-        userToUpdate.setPhoneNumber(profileRequest.getPhoneNumber());
-        userToUpdate.setEnabled(profileRequest.isEnabled());
+            // Update user fields
+            userToUpdate.setFirstName(profileRequest.getFirstName());
+            userToUpdate.setLastName(profileRequest.getLastName());
+            userToUpdate.setPhoneNumber(profileRequest.getPhoneNumber());
+            userToUpdate.setEnabled(profileRequest.isEnabled());
         
-        // Update roles if provided
-        if (profileRequest.getRoles() != null && !profileRequest.getRoles().isEmpty()) {
-            userToUpdate.setRoles(profileRequest.getRoles());
-        }
+            // Update roles if provided
+            if (profileRequest.getRoles() != null && !profileRequest.getRoles().isEmpty()) {
+                userToUpdate.setRoles(profileRequest.getRoles());
+            }
         
-        // Only update password if provided
-        if (profileRequest.getPassword() != null && !profileRequest.getPassword().isEmpty()) {
-            userToUpdate.setPassword(passwordEncoder.encode(profileRequest.getPassword()));
-        }
+            // Only update password if provided
+            if (encodedPassword != null) {
+                userToUpdate.setPassword(encodedPassword);
+            }
         
-        User updatedUser = userRepository.save(userToUpdate);
-        return mapToUserProfileResponse(updatedUser);
+            User updatedUser = userRepository.save(userToUpdate);
+            return mapToUserProfileResponse(updatedUser);
+        });
     }
 
     /**
@@ -142,15 +148,14 @@ public class UserService {
      * @param userId The ID of the user to delete
      */
     public void deleteUser(String userId) {
-        User currentUser = getCurrentUser();
-        
         // Check if user is an admin
-        if (!currentUser.getRoles().contains("ADMIN")) {
+        if (!currentUserProvider.hasRole("ADMIN")) {
             throw new AccessDeniedException("Only admins can delete users");
         }
         
         User userToDelete = getUserById(userId);
         userRepository.delete(userToDelete);
+        notificationService.deleteAllForUser(userId);
     }
 
     /**
@@ -160,10 +165,8 @@ public class UserService {
      * @return Page of user profile response DTOs
      */
     public Page<UserProfileResponse> getAllUsers(Pageable pageable) {
-        User currentUser = getCurrentUser();
-        
         // Check if user is an admin
-        if (!currentUser.getRoles().contains("ADMIN")) {
+        if (!currentUserProvider.hasRole("ADMIN")) {
             throw new AccessDeniedException("Only admins can view all users");
         }
         
@@ -171,22 +174,44 @@ public class UserService {
                 .map(this::mapToUserProfileResponse);
     }
 
+    /**
+     * Get the next slice of users, newest first, using keyset pagination (admin only).
+     *
+     * @param after The cursor returned with the previous slice, or null for the first slice
+     * @param size The slice size
+     * @return Cursor page of user profile response DTOs
+     */
+    public CursorPage<UserProfileResponse> scrollUsers(String after, int size) {
+        // Check if user is an admin
+        if (!currentUserProvider.hasRole("ADMIN")) {
+            throw new AccessDeniedException("Only admins can view all users");
+        }
+
+        return CursorPage.of(userRepository.scrollAll(KeysetCursor.decode(after), size + 1), size,
+                user -> KeysetCursor.of(user.getCreatedAt(), user.getId()).encode(),
+                this::mapToUserProfileResponse);
+    }
+
     /**
      * Search users by name with pagination (admin only).
+     * Every word of the name must prefix a word of the user's first or last name.
      *
      * @param name The name to search for
      * @param pageable Pagination information
      * @return Page of user profile response DTOs
      */
     public Page<UserProfileResponse> searchUsersByName(String name, Pageable pageable) {
-        User currentUser = getCurrentUser();
-        
         // Check if user is an admin
-        if (!currentUser.getRoles().contains("ADMIN")) {
+        if (!currentUserProvider.hasRole("ADMIN")) {
             throw new AccessDeniedException("Only admins can search users");
         }
         
-        return userRepository.findByNameContainingIgnoreCase(name, pageable)
+        List<String> tokens = SearchTokenizer.queryTokens(name);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return userRepository.findBySearchPrefixes(tokens, pageable)
                 .map(this::mapToUserProfileResponse);
     }
 
@@ -198,10 +223,8 @@ public class UserService {
      * @return Page of user profile response DTOs
      */
     public Page<UserProfileResponse> getUsersByRole(String role, Pageable pageable) {
-        User currentUser = getCurrentUser();
-        
         // Check if user is an admin
-        if (!currentUser.getRoles().contains("ADMIN")) {
+        if (!currentUserProvider.hasRole("ADMIN")) {
             throw new AccessDeniedException("Only admins can filter users by role");
         }
         
@@ -210,111 +233,16 @@ public class UserService {
     }
 
     /**
-     * Get the current user's notifications.
-     *
-     * @return List of notification response DTOs
-     */
-    public List<NotificationResponse> getCurrentUserNotifications() {
-        User currentUser = getCurrentUser();
-        return mapToNotificationResponses(currentUser.getNotifications());
-    }
-
-    /**
-     * Get the current user's unread notifications.
+     * Hash the new password of a profile request once, outside any retried work.
      *
-     * @return List of unread notification response DTOs
-     */
-    public List<NotificationResponse> getCurrentUserUnreadNotifications() {
-        User currentUser = getCurrentUser();
-        return currentUser.getNotifications().stream()
-                .filter(notification -> !notification.isRead())
-                .map(this::mapToNotificationResponse)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Mark a notification as read.
-     *
-     * @param notificationId The ID of the notification to mark as read
-     * @return The updated notification response DTO
-     */
-    public NotificationResponse markNotificationAsRead(String notificationId) {
-        User currentUser = getCurrentUser();
-        
-        User.Notification notification = currentUser.getNotifications().stream()
-                .filter(n -> n.getId().equals(notificationId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
-        
-        notification.setRead(true);
-        User updatedUser = userRepository.save(currentUser);
-        
-        return updatedUser.getNotifications().stream()
-                .filter(n -> n.getId().equals(notificationId))
-                .findFirst()
-                .map(this::mapToNotificationResponse)
-                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
-    }
-
-    /**
-     * Mark all notifications as read for the current user.
-     */
-    public void markAllNotificationsAsRead() {
-        User currentUser = getCurrentUser();
-        
-        currentUser.getNotifications().forEach(notification -> notification.setRead(true));
-        userRepository.save(currentUser);
-    }
-
-    /**
-     * Create a notification for a user.
-     *
-     * @param userId The ID of the user to notify
-     * @param title The notification title
-     * @param message The notification message
-     * @param type The notification type
-     * @param relatedEntityId The ID of the related entity (optional)
-     * @return The created notification response DTO
-     */
-    public NotificationResponse createNotification(String userId, String title, String message, 
-                                                  String type, String relatedEntityId) {
-        User user = getUserById(userId);
-        
-        User.Notification notification = User.Notification.builder()
-                .id(UUID.randomUUID().toString())
-                .title(title)
-                .message(message)
-                .read(false)
-                .createdAt(LocalDateTime.now())
-                .type(type)
-                .relatedEntityId(relatedEntityId)
-                .build();
-        
-        user.getNotifications().add(notification);
-        User updatedUser = userRepository.save(user);
-        
-        return updatedUser.getNotifications().stream()
-                .filter(n -> n.getId().equals(notification.getId()))
-                .findFirst()
-                .map(this::mapToNotificationResponse)
-                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notification.getId()));
-    }
-
-    /**
-     * Delete a notification.
-     *
-     * @param notificationId The ID of the notification to delete
+     * @param profileRequest The user profile request DTO
+     * @return The encoded password, or null if the password is not being changed
      */
-    public void deleteNotification(String notificationId) {
-        User currentUser = getCurrentUser();
-        
-        boolean removed = currentUser.getNotifications().removeIf(n -> n.getId().equals(notificationId));
-        
-        if (!removed) {
-            throw new ResourceNotFoundException("Notification", "id", notificationId);
+    private String encodePassword(UserProfileRequest profileRequest) {
+        if (profileRequest.getPassword() == null || profileRequest.getPassword().isEmpty()) {
+            return null;
         }
-        
-        userRepository.save(currentUser);
+        return passwordEncoder.encode(profileRequest.getPassword());
     }
 
     /**
@@ -334,36 +262,7 @@ public class UserService {
                 .enabled(user.isEnabled())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
                 .build();
     }
-
-    /**
-     * Map a list of notification entities to notification response DTOs.
-     *
-     * @param notifications The list of notification entities
-     * @return List of notification response DTOs
-     */
-    private List<NotificationResponse> mapToNotificationResponses(List<User.Notification> notifications) {
-        return notifications.stream()
-                .map(this::mapToNotificationResponse)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Map a notification entity to a notification response DTO.
-     *
-     * @param notification The notification entity
-     * @return The notification response DTO
-     */
-    private NotificationResponse mapToNotificationResponse(User.Notification notification) {
-        return NotificationResponse.builder()
-                .id(notification.getId())
-                .title(notification.getTitle())
-                .message(notification.getMessage())
-                .read(notification.isRead())
-                .createdAt(notification.getCreatedAt())
-                .type(notification.getType())
-                .relatedEntityId(notification.getRelatedEntityId())
-                .build();
-    }
-}
\ No newline at end of file
+}
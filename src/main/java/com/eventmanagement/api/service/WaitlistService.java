@@ -0,0 +1,259 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.dto.event.WaitlistEntryResponse;
+import com.eventmanagement.api.dto.event.WaitlistRequest;
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.OutboxMessage;
+import com.eventmanagement.api.model.Registration;
+import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.model.WaitlistEntry;
+import com.eventmanagement.api.outbox.OutboxPublisher;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.RegistrationRepository;
+import com.eventmanagement.api.repository.TransactionRunner;
+import com.eventmanagement.api.repository.WaitlistRepository;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service for handling ticket type waitlists.
+ * Users join the waitlist of a sold-out ticket type once instead of retrying registration. When a seat frees up,
+ * the longest waiting user is promoted: the seat is reserved, the entry claimed, the registration created and the
+ * notification recorded in the outbox, all in one transaction. The ticket of a cancelled registration is handed
+ * straight to the next waiting user, so it never becomes available to direct registrations in between.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    private final WaitlistRepository waitlistRepository;
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final TransactionRunner transactionRunner;
+    private final OutboxPublisher outboxPublisher;
+    private final EventCache eventCache;
+    private final TicketInventory ticketInventory;
+
+    /**
+     * Join the waitlist of a sold-out ticket type.
+     *
+     * @param waitlistRequest The waitlist request DTO
+     * @return The waitlist entry as a response DTO, with the user's position
+     * @throws IllegalStateException if the event is not published, tickets are still available,
+     *                               or the user is already registered or waiting
+     */
+    public WaitlistEntryResponse joinWaitlist(WaitlistRequest waitlistRequest) {
+        String eventId = waitlistRequest.getEventId();
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        String currentUserId = currentUserProvider.getUserId();
+
+        if (!"PUBLISHED".equals(event.getStatus())) {
+            throw new IllegalStateException("Cannot join the waitlist of an event that is not published");
+        }
+
+        Event.TicketType ticketType = event.getTicketTypes().stream()
+                .filter(t -> t.getId().equals(waitlistRequest.getTicketTypeId()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket type", "id", waitlistRequest.getTicketTypeId()));
+
+        if (ticketType.isAvailable() && ticketType.getSold() + ticketType.getHeld() < ticketType.getQuantity()) {
+            throw new IllegalStateException("Tickets are still available for this ticket type, register instead");
+        }
+        if (registrationRepository.existsByEventIdAndUserIdAndStatus(eventId, currentUserId, "CONFIRMED")) {
+            throw new IllegalStateException("You are already registered for this event");
+        }
+
+        User currentUser = currentUserProvider.getUser();
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .eventId(eventId)
+                .ticketTypeId(ticketType.getId())
+                .userId(currentUserId)
+                .userName(currentUser.getFirstName() + " " + currentUser.getLastName())
+                .userEmail(currentUser.getEmail())
+                .amountPaid(waitlistRequest.getAmountPaid())
+                .attendeeInfo(waitlistRequest.getAttendeeInfo())
+                .status(WaitlistEntry.WAITING)
+                .joinedAt(LocalDateTime.now())
+                .build();
+
+        // The unique (eventId, userId) index on waiting entries rejects a second entry for the same event
+        WaitlistEntry savedEntry;
+        try {
+            savedEntry = waitlistRepository.insert(entry);
+        } catch (DuplicateKeyException ex) {
+            throw new IllegalStateException("You are already on the waitlist for this event");
+        }
+
+        // A seat freed between the availability check and the insert would otherwise wait for the next release
+        promoteWaiting(eventId, ticketType.getId());
+
+        return toResponse(waitlistRepository.findById(savedEntry.getId()).orElse(savedEntry));
+    }
+
+    /**
+     * Get the current user's waitlist entry for an event.
+     *
+     * @param eventId The ID of the event
+     * @return The waitlist entry as a response DTO, with the user's position
+     * @throws ResourceNotFoundException if the user is not waiting for the event
+     */
+    public WaitlistEntryResponse getWaitlistEntry(String eventId) {
+        WaitlistEntry entry = waitlistRepository.findByEventIdAndUserIdAndStatus(eventId, currentUserProvider.getUserId(), WaitlistEntry.WAITING)
+                .orElseThrow(() -> new ResourceNotFoundException("Waitlist entry", "eventId", eventId));
+        return toResponse(entry);
+    }
+
+    /**
+     * Leave the waitlist of an event.
+     *
+     * @param eventId The ID of the event
+     * @throws ResourceNotFoundException if the user is not waiting for the event
+     */
+    public void leaveWaitlist(String eventId) {
+        if (!waitlistRepository.leave(eventId, currentUserProvider.getUserId())) {
+            throw new ResourceNotFoundException("Waitlist entry", "eventId", eventId);
+        }
+    }
+
+    /**
+     * Promote waiting users of a ticket type while it has free seats.
+     * Call whenever seats may have been freed.
+     *
+     * @param eventId The ID of the event
+     * @param ticketTypeId The ID of the ticket type
+     * @return The number of users promoted
+     */
+    public int promoteWaiting(String eventId, String ticketTypeId) {
+        int promoted = 0;
+        Event event = null;
+        // Checking the queue first keeps releases on events without a waitlist to a single indexed read
+        while (waitlistRepository.existsByEventIdAndTicketTypeIdAndStatus(eventId, ticketTypeId, WaitlistEntry.WAITING)) {
+            if (event == null) {
+                // Read once, for how the event counts its tickets and for the notifications
+                event = eventRepository.findById(eventId).orElse(null);
+            }
+            if (event == null || !promoteNext(event, ticketTypeId)) {
+                break;
+            }
+            promoted++;
+        }
+        if (promoted > 0) {
+            eventCache.evict(eventId);
+            log.info("Promoted {} waitlisted users for ticket type {} of event {}", promoted, ticketTypeId, eventId);
+        }
+        return promoted;
+    }
+
+    /**
+     * Reserve a free seat and hand it to the longest waiting user, in one transaction.
+     *
+     * @return true if a user was promoted, false if there was no free seat or nobody left waiting
+     */
+    private boolean promoteNext(Event event, String ticketTypeId) {
+        // A user who registered directly after the check rolls the promotion back and is skipped on the next attempt
+        return transactionRunner.executeRetryingDuplicateKeys(() -> promoteNextInTransaction(event, ticketTypeId));
+    }
+
+    private boolean promoteNextInTransaction(Event event, String ticketTypeId) {
+        if (ticketInventory.reserveTicket(event, ticketTypeId, List.of(), null).isEmpty()) {
+            return false;
+        }
+
+        String eventId = event.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Optional<WaitlistEntry> next = claimNextUnregistered(eventId, ticketTypeId, now);
+        if (next.isEmpty()) {
+            // Nobody is waiting after all; give the seat back
+            ticketInventory.releaseTicket(event, ticketTypeId, List.of());
+            return false;
+        }
+
+        String ticketTypeName = event.getTicketTypes().stream()
+                .filter(t -> t.getId().equals(ticketTypeId))
+                .map(Event.TicketType::getName)
+                .findFirst()
+                .orElse(null);
+        register(next.get(), event.getTitle(), ticketTypeName, now);
+        return true;
+    }
+
+    /**
+     * Hand the ticket of a cancelled registration to the longest waiting user, without returning it to inventory.
+     * Must be called in the transaction that cancels the registration, so the seat is either handed over or
+     * released together with the cancellation.
+     *
+     * @param cancelled The cancelled registration
+     * @param now The current date and time
+     * @return true if the ticket was handed over, false if nobody is waiting
+     */
+    public boolean handOver(Registration cancelled, LocalDateTime now) {
+        String eventId = cancelled.getEventId();
+        if (!waitlistRepository.existsByEventIdAndTicketTypeIdAndStatus(eventId, cancelled.getTicketTypeId(), WaitlistEntry.WAITING)) {
+            return false;
+        }
+
+        Optional<WaitlistEntry> next = claimNextUnregistered(eventId, cancelled.getTicketTypeId(), now);
+        if (next.isEmpty()) {
+            return false;
+        }
+
+        String eventTitle = eventRepository.findSummaryById(eventId).map(Event::getTitle).orElse(null);
+        register(next.get(), eventTitle, cancelled.getTicketTypeName(), now);
+        log.info("Handed cancelled registration {} to waitlisted user {}", cancelled.getId(), next.get().getUserId());
+        return true;
+    }
+
+    /**
+     * Claim the longest waiting entry whose user has not registered directly in the meantime.
+     */
+    private Optional<WaitlistEntry> claimNextUnregistered(String eventId, String ticketTypeId, LocalDateTime now) {
+        Optional<WaitlistEntry> next;
+        while ((next = waitlistRepository.claimNext(eventId, ticketTypeId, now)).isPresent()) {
+            WaitlistEntry entry = next.get();
+            if (!registrationRepository.existsByEventIdAndUserIdAndStatus(eventId, entry.getUserId(), "CONFIRMED")) {
+                return next;
+            }
+            waitlistRepository.recordPromotion(entry.getId(), WaitlistEntry.SKIPPED, null);
+        }
+        return Optional.empty();
+    }
+
+    private void register(WaitlistEntry entry, String eventTitle, String ticketTypeName, LocalDateTime now) {
+        Registration registration = registrationRepository.insert(Registration.confirmed(entry.getEventId(),
+                        entry.getTicketTypeId(), ticketTypeName, entry.getAmountPaid(), entry.getAttendeeInfo(), now)
+                .userId(entry.getUserId())
+                .userName(entry.getUserName())
+                .userEmail(entry.getUserEmail())
+                .build());
+        waitlistRepository.recordPromotion(entry.getId(), WaitlistEntry.PROMOTED, registration.getId());
+
+        outboxPublisher.publish(OutboxMessage.WAITLIST_PROMOTED, "waitlist-promoted:" + entry.getId(),
+                Map.of("userId", entry.getUserId(),
+                        "eventId", entry.getEventId(),
+                        "eventTitle", Objects.requireNonNullElse(eventTitle, "the event"),
+                        "registrationId", registration.getId()));
+    }
+
+    private WaitlistEntryResponse toResponse(WaitlistEntry entry) {
+        Long position = null;
+        if (WaitlistEntry.WAITING.equals(entry.getStatus())) {
+            position = waitlistRepository.countByEventIdAndTicketTypeIdAndStatusAndJoinedAtLessThan(
+                    entry.getEventId(), entry.getTicketTypeId(), WaitlistEntry.WAITING, entry.getJoinedAt()) + 1;
+        }
+        return WaitlistEntryResponse.fromEntity(entry, position);
+    }
+}
@@ -0,0 +1,122 @@
+package com.eventmanagement.api.cache;
+
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.UserRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Integration tests for change-stream cache invalidation against a single-node replica set.
+ */
+@DataMongoTest
+@Testcontainers
+@Import({ChangeStreamCacheInvalidator.class, ChangeStreamCacheInvalidatorIntegrationTest.RecordingListener.class})
+public class ChangeStreamCacheInvalidatorIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private ChangeStreamCacheInvalidator invalidator;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        // Give the stream time to open before producing changes
+        Thread.sleep(1500);
+        listener.changes.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+        if (!invalidator.isRunning()) {
+            invalidator.start();
+        }
+    }
+
+    @Test
+    void publishesChangesOfWatchedCollections() throws InterruptedException {
+        // When
+        Event event = eventRepository.save(Event.builder()
+                .title("Kotlin Workshop")
+                .status("DRAFT")
+                .startDate(LocalDateTime.now().plusDays(7))
+                .build());
+        mongoTemplate.getCollection("registrations").insertOne(new Document("eventId", event.getId()));
+
+        // Then
+        assertEquals(new EntityChangedEvent("events", event.getId()), listener.changes.poll(10, TimeUnit.SECONDS));
+        assertNull(listener.changes.poll(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void resumesAfterRestartWithoutMissingChanges() throws InterruptedException {
+        // Given
+        Event event = eventRepository.save(Event.builder()
+                .title("Kotlin Workshop")
+                .status("DRAFT")
+                .startDate(LocalDateTime.now().plusDays(7))
+                .build());
+        assertEquals(new EntityChangedEvent("events", event.getId()), listener.changes.poll(10, TimeUnit.SECONDS));
+
+        // When
+        invalidator.stop();
+        User user = userRepository.save(User.builder().email("jordan@example.com").firstName("Jordan").lastName("Example").build());
+        invalidator.start();
+
+        // Then
+        assertEquals(new EntityChangedEvent("users", user.getId()), listener.changes.poll(10, TimeUnit.SECONDS));
+    }
+
+    @TestConfiguration
+    static class RecordingListener {
+
+        private final BlockingQueue<EntityChangedEvent> changes = new LinkedBlockingQueue<>();
+
+        @EventListener
+        public void onEntityChanged(EntityChangedEvent change) {
+            changes.add(change);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eventmanagement.api.cache;
+
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the event detail cache.
+ */
+public class EventCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventCache eventCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventCache = new EventCache(meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void get_CoalescesConcurrentMissesIntoOneLoad() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<EventResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> eventCache.get("event-1", id -> {
+                loads.incrementAndGet();
+                await(release);
+                return EventResponse.builder().id(id).title("Kotlin Workshop").build();
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        EventResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<EventResponse> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void evict_ReloadsOnNextGet() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        eventCache.get("event-1", id -> EventResponse.builder().id(id).title("Draft " + loads.incrementAndGet()).build());
+
+        // When
+        eventCache.evict("event-1");
+        EventResponse reloaded = eventCache.get("event-1",
+                id -> EventResponse.builder().id(id).title("Draft " + loads.incrementAndGet()).build());
+
+        // Then
+        assertEquals("Draft 2", reloaded.getTitle());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", EventCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void get_DoesNotCacheFailedLoads() {
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> eventCache.get("missing", id -> {
+            throw new ResourceNotFoundException("Event", "id", id);
+        }));
+        EventResponse loaded = eventCache.get("missing", id -> EventResponse.builder().id(id).build());
+        assertEquals("missing", loaded.getId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.eventmanagement.api.controller;
+
+import com.eventmanagement.api.dto.event.EventResponse;
+import com.eventmanagement.api.dto.event.EventSummaryResponse;
+import com.eventmanagement.api.service.EventService;
+import com.eventmanagement.api.service.GroupRegistrationService;
+import com.eventmanagement.api.service.TicketHoldService;
+import com.eventmanagement.api.service.WaitlistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for conditional GET support on event endpoints.
+ */
+public class EventControllerConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2030, 6, 1, 12, 0);
+
+    private EventService eventService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        eventService = Mockito.mock(EventService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EventController(eventService, Mockito.mock(WaitlistService.class),
+                        Mockito.mock(TicketHoldService.class), Mockito.mock(GroupRegistrationService.class)))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void getEventById_AnswersNotModifiedForMatchingETag() throws Exception {
+        // Given
+        when(eventService.getEventById("event-1")).thenReturn(event(1L, 0));
+        String etag = mockMvc.perform(get("/api/events/event-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/api/events/event-1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getEventById_ReturnsBodyAfterUpdateInSameMillisecond() throws Exception {
+        // Given: an edit that leaves the modification time unchanged
+        when(eventService.getEventById("event-1")).thenReturn(event(1L, 0));
+        String etag = mockMvc.perform(get("/api/events/event-1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        when(eventService.getEventById("event-1")).thenReturn(event(2L, 0));
+
+        // When / Then
+        String updatedEtag = mockMvc.perform(get("/api/events/event-1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, updatedEtag);
+    }
+
+    @Test
+    void getEventById_ReturnsBodyAfterTicketSale() throws Exception {
+        // Given
+        when(eventService.getEventById("event-1")).thenReturn(event(1L, 0));
+        String etag = mockMvc.perform(get("/api/events/event-1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        when(eventService.getEventById("event-1")).thenReturn(event(1L, 1));
+
+        // When / Then
+        mockMvc.perform(get("/api/events/event-1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllEvents_ETagCoversEveryItemOfThePage() throws Exception {
+        // Given
+        when(eventService.getAllEvents(any(Pageable.class))).thenReturn(page(1L));
+        String etag = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(eventService.getAllEvents(any(Pageable.class))).thenReturn(page(2L));
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getEventById_OmitsETagWithoutVersion() throws Exception {
+        when(eventService.getEventById("event-1")).thenReturn(event(null, 0));
+
+        String etag = mockMvc.perform(get("/api/events/event-1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNull(etag);
+    }
+
+    private static EventResponse event(Long version, long inventoryVersion) {
+        return EventResponse.builder().id("event-1").title("Kotlin Workshop").updatedAt(UPDATED_AT)
+                .version(version).inventoryVersion(inventoryVersion).build();
+    }
+
+    private static PageImpl<EventSummaryResponse> page(long secondVersion) {
+        return new PageImpl<>(List.of(
+                EventSummaryResponse.builder().id("event-1").title("Kotlin Workshop").updatedAt(UPDATED_AT).version(1L).build(),
+                EventSummaryResponse.builder().id("event-2").title("Spring Meetup").updatedAt(UPDATED_AT).version(secondVersion).build()),
+                PageRequest.of(0, 10), 2);
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventmanagement.api.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for recording MongoDB command document counts.
+ */
+public class MongoDocumentCountListenerTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SimpleMeterRegistry meterRegistry;
+    private MongoDocumentCountListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new MongoDocumentCountListener(meterRegistry);
+    }
+
+    @Test
+    void commandSucceeded_RecordsCursorBatchSizePerCollection() {
+        // When
+        execute(1, "find", "{find: 'events', filter: {status: 'PUBLISHED'}}",
+                "{cursor: {firstBatch: [{}, {}, {}], id: 7, ns: 'db.events'}, ok: 1}");
+        execute(2, "getMore", "{getMore: 7, collection: 'events'}",
+                "{cursor: {nextBatch: [{}, {}], id: 0, ns: 'db.events'}, ok: 1}");
+
+        // Then
+        assertEquals(3, summary("find", "events").totalAmount());
+        assertEquals(2, summary("getMore", "events").totalAmount());
+    }
+
+    @Test
+    void commandSucceeded_RecordsWrittenAndModifiedDocuments() {
+        // When
+        execute(1, "update", "{update: 'notifications', updates: []}", "{n: 12, nModified: 12, ok: 1}");
+        execute(2, "findAndModify", "{findAndModify: 'events', query: {}}", "{value: null, ok: 1}");
+
+        // Then
+        assertEquals(12, summary("update", "notifications").totalAmount());
+        assertEquals(0, summary("findAndModify", "events").totalAmount());
+    }
+
+    @Test
+    void commandFailed_RecordsNothing() {
+        // When
+        listener.commandStarted(new CommandStartedEvent(null, 1, 1, CONNECTION, "db", "find",
+                BsonDocument.parse("{find: 'events'}")));
+        listener.commandFailed(new CommandFailedEvent(null, 1, 1, CONNECTION, "db", "find", 5,
+                new IllegalStateException("boom")));
+        execute(2, "hello", "{hello: 1}", "{isWritablePrimary: true, ok: 1}");
+
+        // Then
+        assertNull(meterRegistry.find(MongoDocumentCountListener.METRIC_NAME).summary());
+    }
+
+    private void execute(int requestId, String commandName, String command, String response) {
+        listener.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "db", commandName,
+                BsonDocument.parse(command)));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "db", commandName,
+                BsonDocument.parse(response), 5));
+    }
+
+    private DistributionSummary summary(String command, String collection) {
+        return meterRegistry.get(MongoDocumentCountListener.METRIC_NAME)
+                .tag("command", command)
+                .tag("collection", collection)
+                .summary();
+    }
+}
@@ -0,0 +1,114 @@
+package com.eventmanagement.api.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for per-request MongoDB accounting.
+ */
+public class MongoRequestStatsFilterTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    private static final BsonDocument FIND_REPLY =
+            BsonDocument.parse("{cursor: {firstBatch: [{title: 'Kotlin Workshop'}], id: 0, ns: 'db.events'}, ok: 1}");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MongoRequestStatsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new MongoRequestStatsListener();
+    }
+
+    @Test
+    void doFilter_AccountsCommandsOfRequestAsMetricsAndHeaders() throws Exception {
+        // Given
+        MongoRequestStatsFilter filter = new MongoRequestStatsFilter(meterRegistry, 5, List.of(), true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events/{id}");
+                execute(1, "find", "{find: 'events', filter: {_id: 42}}", FIND_REPLY);
+                execute(2, "find", "{find: 'users', filter: {email: 'a@example.com'}}", FIND_REPLY);
+            }
+        });
+
+        // Then
+        long replySize = MongoRequestStatsListener.sizeInBytes(FIND_REPLY);
+        assertEquals("2", response.getHeader(MongoRequestStatsFilter.ROUND_TRIPS_HEADER));
+        assertEquals(String.valueOf(2 * replySize), response.getHeader(MongoRequestStatsFilter.BYTES_HEADER));
+        assertEquals(2, meterRegistry.get("http.server.requests.mongo.round.trips")
+                .tag("uri", "/api/events/{id}").summary().totalAmount());
+        assertEquals(10, meterRegistry.get("http.server.requests.mongo.time")
+                .tag("uri", "/api/events/{id}").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void doFilter_OmitsHeadersUnlessEnabled() throws Exception {
+        // Given
+        MongoRequestStatsFilter filter = new MongoRequestStatsFilter(meterRegistry, 5, List.of(), false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), response, new MockFilterChain());
+
+        // Then
+        assertNull(response.getHeader(MongoRequestStatsFilter.ROUND_TRIPS_HEADER));
+        assertEquals(0, meterRegistry.get("http.server.requests.mongo.round.trips").summary().totalAmount());
+    }
+
+    @Test
+    void budgetFor_RouteWithOwnBudget_OverridesDefault() {
+        // Given
+        MongoRequestStatsFilter filter = new MongoRequestStatsFilter(meterRegistry, 5,
+                List.of("POST /api/events/register=12", "PUT /api/events/holds/{holdId}/confirm = 10"), false);
+
+        // When / Then
+        assertEquals(12, filter.budgetFor("POST", "/api/events/register"));
+        assertEquals(10, filter.budgetFor("PUT", "/api/events/holds/{holdId}/confirm"));
+        assertEquals(5, filter.budgetFor("GET", "/api/events/register"));
+    }
+
+    @Test
+    void sizeInBytes_MatchesEncodedSize() {
+        RawBsonDocument raw = new RawBsonDocument(FIND_REPLY, new BsonDocumentCodec());
+
+        assertEquals(raw.getByteBuffer().remaining(), MongoRequestStatsListener.sizeInBytes(FIND_REPLY));
+        assertEquals(raw.getByteBuffer().remaining(), MongoRequestStatsListener.sizeInBytes(raw));
+    }
+
+    private void execute(int requestId, String commandName, String command, BsonDocument reply) {
+        listener.commandStarted(new CommandStartedEvent(null, 1, requestId, CONNECTION, "db", commandName,
+                BsonDocument.parse(command)));
+        listener.commandSucceeded(new CommandSucceededEvent(null, 1, requestId, CONNECTION, "db", commandName,
+                reply, TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+}
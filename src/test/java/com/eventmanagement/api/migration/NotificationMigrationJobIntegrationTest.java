@@ -0,0 +1,123 @@
+package com.eventmanagement.api.migration;
+
+import com.eventmanagement.api.model.Notification;
+import com.eventmanagement.api.model.User;
+import com.eventmanagement.api.repository.NotificationRepository;
+import com.eventmanagement.api.repository.UserRepository;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for moving notifications embedded in user documents into the notifications collection.
+ */
+@DataMongoTest(properties = "app.migration.notifications.enabled=true")
+@Testcontainers
+@Import(NotificationMigrationJob.class)
+public class NotificationMigrationJobIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private NotificationMigrationJob notificationMigrationJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private ObjectId userId;
+
+    @BeforeEach
+    void setUp() {
+        // A user saved before notifications had their own collection
+        userId = new ObjectId();
+        mongoTemplate.getCollection("users").insertOne(new Document("_id", userId)
+                .append("email", "legacy@example.com")
+                .append("firstName", "Legacy")
+                .append("version", 0L)
+                .append("notifications", List.of(
+                        new Document("id", "notification-1").append("title", "Welcome").append("read", true)
+                                .append("createdAt", new Date()),
+                        new Document("id", "notification-2").append("title", "Reminder").append("read", false)
+                                .append("createdAt", new Date()))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        notificationRepository.deleteAll();
+    }
+
+    @Test
+    void run_EmbeddedNotifications_MovedToCollectionAndUnset() {
+        // When
+        notificationMigrationJob.run(new DefaultApplicationArguments());
+
+        // Then
+        List<Notification> migrated = notificationRepository
+                .findByUserIdOrderByCreatedAtDesc(userId.toHexString(), PageRequest.of(0, 10)).getContent();
+        assertEquals(2, migrated.size());
+        assertTrue(notificationRepository.findById("notification-1").orElseThrow().isRead());
+        assertFalse(rawUser().containsKey("notifications"));
+    }
+
+    @Test
+    void run_Rerun_DoesNotDuplicateNotifications() {
+        // When
+        notificationMigrationJob.run(new DefaultApplicationArguments());
+        notificationMigrationJob.run(new DefaultApplicationArguments());
+
+        // Then
+        assertEquals(2, notificationRepository.count());
+    }
+
+    @Test
+    void save_BeforeMigration_KeepsEmbeddedNotifications() {
+        // Given
+        User user = userRepository.findById(userId.toHexString()).orElseThrow();
+        user.setFirstName("Renamed");
+
+        // When
+        userRepository.save(user);
+        notificationMigrationJob.run(new DefaultApplicationArguments());
+
+        // Then
+        assertEquals(2, notificationRepository.count());
+        assertEquals("Renamed", rawUser().getString("firstName"));
+    }
+
+    private Document rawUser() {
+        return mongoTemplate.getCollection("users").find(new Document("_id", userId)).first();
+    }
+}
@@ -0,0 +1,99 @@
+package com.eventmanagement.api.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for retrying read-modify-write operations on version conflicts.
+ */
+public class ConflictRetryRunnerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConflictRetryRunner conflictRetryRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        conflictRetryRunner = new ConflictRetryRunner(meterRegistry, 3, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    @Test
+    void execute_ConflictThenSuccess_RetriesAndCountsConflict() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = conflictRetryRunner.execute("event.publish", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("Event was modified concurrently");
+            }
+            return "published";
+        });
+
+        // Then
+        assertEquals("published", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, conflicts("event.publish"));
+        assertEquals(1.0, operations("event.publish", "success"));
+    }
+
+    @Test
+    void execute_ConflictOnEveryAttempt_GivesUpAfterMaxAttempts() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThrows(OptimisticLockingFailureException.class, () -> conflictRetryRunner.execute("user.update-profile", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("User was modified concurrently");
+        }));
+        assertEquals(3, attempts.get());
+        assertEquals(3.0, conflicts("user.update-profile"));
+        assertEquals(1.0, operations("user.update-profile", "conflict"));
+    }
+
+    @Test
+    void execute_SingleAttempt_DoesNotRetry() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThrows(OptimisticLockingFailureException.class, () -> conflictRetryRunner.execute("event.patch", 1, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("Event has been modified since version 3");
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, conflicts("event.patch"));
+    }
+
+    @Test
+    void execute_OtherFailure_NotRetried() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> conflictRetryRunner.execute("event.update", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Ticket type already has tickets sold");
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, operations("event.update", "error"));
+    }
+
+    private double conflicts(String operation) {
+        return meterRegistry.get(ConflictRetryRunner.CONFLICTS_METRIC).tag("operation", operation).counter().count();
+    }
+
+    private double operations(String operation, String outcome) {
+        return meterRegistry.get(ConflictRetryRunner.OPERATIONS_METRIC)
+                .tag("operation", operation).tag("outcome", outcome).counter().count();
+    }
+}
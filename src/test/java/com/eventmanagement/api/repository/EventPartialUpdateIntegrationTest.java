@@ -0,0 +1,152 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for versioned partial event updates.
+ * Uses Testcontainers to spin up a MongoDB instance for testing.
+ */
+@DataMongoTest
+@Testcontainers
+public class EventPartialUpdateIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void applyUpdates_DuringTicketSales_KeepsSoldCount() throws Exception {
+        // Given
+        Event event = eventRepository.save(createPublishedEvent());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<Boolean>> reservations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            reservations.add(executor.submit(() -> eventRepository.reserveTicket(event.getId(), "general", List.of()).isPresent()));
+        }
+        boolean applied = eventRepository.applyUpdates(event.getId(), 0, List.of(), List.of(
+                new Update().set("title", "Renamed Event")
+                        .set("ticketTypes.$[t0].description", "Standing room")
+                        .filterArray(Criteria.where("t0._id").is("general"))
+                        .inc("version", 1)));
+        for (Future<Boolean> reservation : reservations) {
+            assertTrue(reservation.get(1, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertTrue(applied);
+        assertEquals("Renamed Event", reloaded.getTitle());
+        assertEquals("Standing room", reloaded.getTicketTypes().get(0).getDescription());
+        assertEquals(200, reloaded.getTicketTypes().get(0).getSold());
+        assertEquals(1, reloaded.getVersion());
+    }
+
+    @Test
+    void applyUpdates_StaleVersion_Rejected() {
+        // Given
+        Event event = createPublishedEvent();
+        event.setVersion(4);
+        Event saved = eventRepository.save(event);
+
+        // When
+        boolean applied = eventRepository.applyUpdates(saved.getId(), 3, List.of(), List.of(
+                new Update().set("title", "Lost Update").inc("version", 1),
+                new Update().push("speakers", Event.Speaker.builder().id("speaker-1").name("Ada Lovelace").build())));
+
+        // Then
+        Event reloaded = eventRepository.findById(saved.getId()).orElseThrow();
+        assertFalse(applied);
+        assertEquals("Flash Sale Event", reloaded.getTitle());
+        assertTrue(reloaded.getSpeakers().isEmpty());
+        assertEquals(4, reloaded.getVersion());
+    }
+
+    @Test
+    void applyUpdates_EventWithoutVersionField_TreatedAsVersionZero() {
+        // Given
+        Event saved = eventRepository.save(createPublishedEvent());
+        mongoTemplate.getCollection("events").updateOne(new Document("_id", saved.getId()),
+                new Document("$unset", new Document("version", "")));
+
+        // When
+        boolean applied = eventRepository.applyUpdates(saved.getId(), 0, List.of(), List.of(
+                new Update().set("location", "Lisbon").inc("version", 1)));
+
+        // Then
+        Event reloaded = eventRepository.findById(saved.getId()).orElseThrow();
+        assertTrue(applied);
+        assertEquals("Lisbon", reloaded.getLocation());
+        assertEquals(1, reloaded.getVersion());
+    }
+
+    private Event createPublishedEvent() {
+        Event.TicketType ticketType = Event.TicketType.builder()
+                .id("general")
+                .name("General Admission")
+                .price(50.0)
+                .quantity(500)
+                .sold(0)
+                .isAvailable(true)
+                .build();
+
+        return Event.builder()
+                .title("Flash Sale Event")
+                .description("Event used for partial update tests")
+                .location("Test Location")
+                .startDate(LocalDateTime.now().plusDays(7))
+                .endDate(LocalDateTime.now().plusDays(8))
+                .organizerId("organizer-1")
+                .status("PUBLISHED")
+                .ticketTypes(new ArrayList<>(List.of(ticketType)))
+                .build();
+    }
+}
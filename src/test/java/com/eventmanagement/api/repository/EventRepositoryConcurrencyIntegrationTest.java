@@ -0,0 +1,393 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.Registration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrency tests for the atomic ticket reservation and hold paths.
+ * Uses Testcontainers to spin up a MongoDB instance for testing.
+ */
+@DataMongoTest
+@Testcontainers
+public class EventRepositoryConcurrencyIntegrationTest {
+
+    private static final int THREADS = 64;
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        registrationRepository.deleteAll();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        eventRepository.deleteAll();
+        registrationRepository.deleteAll();
+    }
+
+    @Test
+    void reserveTicket_ThousandsOfParallelRegistrations_NeverOversells() throws Exception {
+        // Given
+        int quantity = 500;
+        int attempts = 5000;
+        Event event = eventRepository.save(createPublishedEvent("general", quantity));
+
+        // When
+        List<Boolean> results = runConcurrently(attempts, i ->
+                eventRepository.reserveTicket(event.getId(), "general", List.of()).isPresent());
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        long accepted = results.stream().filter(Boolean::booleanValue).count();
+        assertEquals(quantity, accepted);
+        assertEquals(quantity, reloaded.getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void releaseTicket_InterleavedWithReservations_KeepsCountConsistent() throws Exception {
+        // Given
+        int quantity = 200;
+        Event event = eventRepository.save(createPublishedEvent("general", quantity));
+
+        // When
+        List<Boolean> reserved = runConcurrently(1000, i ->
+                eventRepository.reserveTicket(event.getId(), "general", List.of()).isPresent());
+        List<Boolean> released = runConcurrently(300, i ->
+                eventRepository.releaseTicket(event.getId(), "general", List.of()));
+
+        // Then
+        long reservedCount = reserved.stream().filter(Boolean::booleanValue).count();
+        long releasedCount = released.stream().filter(Boolean::booleanValue).count();
+        assertEquals(quantity, reservedCount);
+        assertEquals(quantity, releasedCount);
+        assertEquals(0, eventRepository.findById(event.getId()).orElseThrow().getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void insertRegistration_SameUserInParallel_RegistersOnce() throws Exception {
+        // Given
+        Event event = eventRepository.save(createPublishedEvent("general", 100));
+
+        // When
+        List<Boolean> results = runConcurrently(1000, i -> {
+            try {
+                registrationRepository.insert(createRegistration(event.getId(), "same-user"));
+                return true;
+            } catch (DuplicateKeyException ex) {
+                return false;
+            }
+        });
+
+        // Then
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(1, registrationRepository.findByUserIdAndStatusOrderByRegistrationDateDesc("same-user", "CONFIRMED").size());
+    }
+
+    @Test
+    void cancel_SameRegistrationInParallel_ReleasesSeatOnce() throws Exception {
+        // Given
+        Event event = eventRepository.save(createPublishedEvent("general", 100));
+        eventRepository.reserveTicket(event.getId(), "general", List.of()).orElseThrow();
+        eventRepository.reserveTicket(event.getId(), "general", List.of()).orElseThrow();
+        Registration registration = registrationRepository.insert(createRegistration(event.getId(), "cancelling-user"));
+
+        // When
+        List<Boolean> results = runConcurrently(200, i -> registrationRepository.cancel(registration.getId(), LocalDateTime.now())
+                .map(cancelled -> eventRepository.releaseTicket(event.getId(), cancelled.getTicketTypeId(), List.of()))
+                .orElse(false));
+
+        // Then
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals("CANCELLED", registrationRepository.findById(registration.getId()).orElseThrow().getStatus());
+        assertEquals(1, eventRepository.findById(event.getId()).orElseThrow().getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void reserveTicket_UnpublishedEvent_Rejected() {
+        // Given
+        Event event = createPublishedEvent("general", 10);
+        event.setStatus("DRAFT");
+        Event saved = eventRepository.save(event);
+
+        // When
+        boolean reserved = eventRepository.reserveTicket(saved.getId(), "general", List.of()).isPresent();
+
+        // Then
+        assertFalse(reserved);
+        assertEquals(0, eventRepository.findById(saved.getId()).orElseThrow().getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void reserveTicket_ParallelRegistrationsForSession_NeverOverfillsSession() throws Exception {
+        // Given
+        int capacity = 40;
+        Event event = eventRepository.save(withSessions(createPublishedEvent("general", 500), capacity, 0));
+
+        // When
+        List<Boolean> results = runConcurrently(1000, i ->
+                eventRepository.reserveTicket(event.getId(), "general", List.of("workshop")).isPresent());
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(capacity, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(capacity, reloaded.getAgenda().get(0).getSessions().get(0).getBooked());
+        assertEquals(capacity, reloaded.getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void reserveTicket_OneSessionFull_RejectsWithoutTouchingOtherSessions() {
+        // Given
+        Event event = eventRepository.save(withSessions(createPublishedEvent("general", 500), 10, 10));
+
+        // When
+        boolean reserved = eventRepository.reserveTicket(event.getId(), "general", List.of("keynote", "workshop")).isPresent();
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertFalse(reserved);
+        assertEquals(0, reloaded.getAgenda().get(0).getSessions().get(1).getBooked());
+        assertEquals(0, reloaded.getTicketTypes().get(0).getSold());
+    }
+
+    @Test
+    void holdTickets_InterleavedWithReservations_NeverOversells() throws Exception {
+        // Given
+        int quantity = 300;
+        Event event = eventRepository.save(createPublishedEvent("general", quantity));
+
+        // When
+        List<Boolean> results = runConcurrently(2000, i -> i % 2 == 0
+                ? eventRepository.holdTickets(event.getId(), "general", 3).isPresent()
+                : eventRepository.reserveTicket(event.getId(), "general", List.of()).isPresent());
+
+        // Then
+        Event.TicketType ticketType = eventRepository.findById(event.getId()).orElseThrow().getTicketTypes().get(0);
+        long holds = 0;
+        long reservations = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i)) {
+                if (i % 2 == 0) {
+                    holds++;
+                } else {
+                    reservations++;
+                }
+            }
+        }
+        assertEquals(holds * 3, ticketType.getHeld());
+        assertEquals(reservations, ticketType.getSold());
+        assertTrue(ticketType.getSold() + ticketType.getHeld() <= quantity);
+        assertTrue(ticketType.getSold() + ticketType.getHeld() > quantity - 3);
+    }
+
+    @Test
+    void sellHeldTickets_MoreThanHeld_Rejected() {
+        // Given
+        Event event = eventRepository.save(createPublishedEvent("general", 10));
+        eventRepository.holdTickets(event.getId(), "general", 2).orElseThrow();
+
+        // When
+        boolean oversold = eventRepository.sellHeldTickets(event.getId(), "general", 3);
+        boolean sold = eventRepository.sellHeldTickets(event.getId(), "general", 2);
+
+        // Then
+        Event.TicketType ticketType = eventRepository.findById(event.getId()).orElseThrow().getTicketTypes().get(0);
+        assertFalse(oversold);
+        assertTrue(sold);
+        assertEquals(2, ticketType.getSold());
+        assertEquals(0, ticketType.getHeld());
+        assertFalse(eventRepository.releaseHeldTickets(event.getId(), "general", 1));
+    }
+
+    @Test
+    void reserveTickets_ParallelGroups_NeverOversellAnyTicketType() throws Exception {
+        // Given
+        Event event = eventRepository.save(withVipTickets(createPublishedEvent("general", 300), 50));
+
+        // When
+        List<Boolean> results = runConcurrently(500, i ->
+                eventRepository.reserveTickets(event.getId(), Map.of("general", 5, "vip", 1)).isPresent());
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(50, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(250, reloaded.getTicketTypes().get(0).getSold());
+        assertEquals(50, reloaded.getTicketTypes().get(1).getSold());
+    }
+
+    @Test
+    void reserveTickets_OneTicketTypeShort_ReservesNothing() {
+        // Given
+        Event event = eventRepository.save(withVipTickets(createPublishedEvent("general", 100), 2));
+
+        // When
+        boolean reserved = eventRepository.reserveTickets(event.getId(), Map.of("general", 10, "vip", 3)).isPresent();
+
+        // Then
+        Event reloaded = eventRepository.findById(event.getId()).orElseThrow();
+        assertFalse(reserved);
+        assertEquals(0, reloaded.getTicketTypes().get(0).getSold());
+        assertEquals(0, reloaded.getTicketTypes().get(1).getSold());
+    }
+
+    @Test
+    void insertRegistrations_GroupAttendeesWithoutUser_AllInsertedInOneWrite() {
+        // Given
+        Event event = eventRepository.save(createPublishedEvent("general", 100));
+        List<Registration> group = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Registration attendee = createRegistration(event.getId(), null);
+            attendee.setPurchaserId("purchaser");
+            attendee.setGroupId("group-1");
+            group.add(attendee);
+        }
+
+        // When
+        List<Registration> inserted = registrationRepository.insert(group);
+
+        // Then
+        assertEquals(20, inserted.size());
+        assertEquals(20, registrationRepository.count());
+        // Registrations of user accounts are still unique per event
+        registrationRepository.insert(createRegistration(event.getId(), "purchaser"));
+        assertThrows(DuplicateKeyException.class, () -> registrationRepository.insert(createRegistration(event.getId(), "purchaser")));
+    }
+
+    private List<Boolean> runConcurrently(int attempts, IndexedTask task) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                return task.run(index);
+            }));
+        }
+        startGate.countDown();
+
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> future : futures) {
+            results.add(future.get(2, TimeUnit.MINUTES));
+        }
+        return results;
+    }
+
+    private Event createPublishedEvent(String ticketTypeId, int quantity) {
+        Event.TicketType ticketType = Event.TicketType.builder()
+                .id(ticketTypeId)
+                .name("General Admission")
+                .price(50.0)
+                .quantity(quantity)
+                .sold(0)
+                .isAvailable(true)
+                .build();
+
+        return Event.builder()
+                .title("Flash Sale Event")
+                .description("Event used for reservation stress tests")
+                .location("Test Location")
+                .startDate(LocalDateTime.now().plusDays(7))
+                .endDate(LocalDateTime.now().plusDays(8))
+                .organizerId("organizer-1")
+                .status("PUBLISHED")
+                .ticketTypes(new ArrayList<>(Collections.singletonList(ticketType)))
+                .build();
+    }
+
+    private Event withVipTickets(Event event, int quantity) {
+        event.getTicketTypes().add(Event.TicketType.builder()
+                .id("vip")
+                .name("VIP")
+                .price(250.0)
+                .quantity(quantity)
+                .sold(0)
+                .isAvailable(true)
+                .build());
+        return event;
+    }
+
+    private Event withSessions(Event event, int workshopCapacity, int workshopBooked) {
+        Event.Session keynote = Event.Session.builder()
+                .id("keynote")
+                .title("Keynote")
+                .startTime(event.getStartDate())
+                .endTime(event.getStartDate().plusHours(1))
+                .build();
+        Event.Session workshop = Event.Session.builder()
+                .id("workshop")
+                .title("Hands-on Workshop")
+                .startTime(event.getStartDate().plusHours(1))
+                .endTime(event.getStartDate().plusHours(3))
+                .capacity(workshopCapacity)
+                .booked(workshopBooked)
+                .build();
+        event.setAgenda(new ArrayList<>(List.of(Event.AgendaItem.builder()
+                .id("day-1")
+                .title("Day 1")
+                .startTime(event.getStartDate())
+                .endTime(event.getStartDate().plusHours(8))
+                .sessions(new ArrayList<>(List.of(workshop, keynote)))
+                .build())));
+        return event;
+    }
+
+    private Registration createRegistration(String eventId, String userId) {
+        return Registration.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .ticketTypeId("general")
+                .status("CONFIRMED")
+                .registrationDate(LocalDateTime.now())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        boolean run(int index);
+    }
+}
@@ -0,0 +1,92 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for keyset pagination of event listings.
+ * Uses Testcontainers to spin up a MongoDB instance for testing.
+ */
+@DataMongoTest
+@Testcontainers
+public class EventRepositoryScrollIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void scrollUpcomingSummaries_WithTiedStartDates_ReturnsEveryEventOnceInOrder() {
+        // Given: 250 published events sharing only five distinct start dates
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            events.add(Event.builder()
+                    .title("Event " + i)
+                    .status("PUBLISHED")
+                    .startDate(base.plusHours(i % 5))
+                    .build());
+        }
+        eventRepository.saveAll(events);
+
+        // When: scrolling in slices of 10
+        Set<String> seen = new HashSet<>();
+        List<Event> ordered = new ArrayList<>();
+        KeysetCursor after = null;
+        List<Event> slice;
+        do {
+            slice = eventRepository.scrollUpcomingSummaries(LocalDateTime.now(), after, 10);
+            for (Event event : slice) {
+                assertTrue(seen.add(event.getId()), "Event returned twice: " + event.getId());
+                ordered.add(event);
+            }
+            if (!slice.isEmpty()) {
+                Event last = slice.get(slice.size() - 1);
+                after = KeysetCursor.decode(KeysetCursor.of(last.getStartDate(), last.getId()).encode());
+            }
+        } while (slice.size() == 10);
+
+        // Then
+        assertEquals(250, ordered.size());
+        for (int i = 1; i < ordered.size(); i++) {
+            assertFalse(ordered.get(i).getStartDate().isBefore(ordered.get(i - 1).getStartDate()));
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.search.SearchPrefixMaintainer;
+import com.eventmanagement.api.search.SearchTokenizer;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for ranked text search and prefix autocomplete over events.
+ * The benchmark compares both against the previous regex scan and only runs with -Dbenchmark.search=true;
+ * the dataset size defaults to one million events and can be changed with -Dbenchmark.search.events.
+ */
+@DataMongoTest
+@Testcontainers
+@Import(SearchPrefixMaintainer.class)
+@Slf4j
+public class EventSearchIntegrationTest {
+
+    private static final String[] TOPICS = {"kotlin", "spring", "mongodb", "kubernetes", "react", "rust", "python",
+            "security", "design", "data", "cloud", "mobile", "startup", "marketing", "photography", "jazz"};
+    private static final String[] FORMATS = {"workshop", "conference", "meetup", "summit", "bootcamp", "hackathon",
+            "festival", "masterclass"};
+    private static final String[] LEVELS = {"beginner", "advanced", "annual", "community", "international", "weekend"};
+    private static final String[] CITIES = {"Berlin", "Lisbon", "Montréal", "Zürich", "Austin", "Nairobi", "Osaka",
+            "São Paulo", "Kraków", "Dublin"};
+    private static final String[] CATEGORIES = {"Technology", "Business", "Music", "Art", "Education", "Sports"};
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+    }
+
+    @Test
+    void searchPublished_RanksTitleMatchesFirst() {
+        // Given
+        eventRepository.save(createEvent("Cloud Architecture Meetup", "Talks about kubernetes in production", "Berlin", "PUBLISHED"));
+        eventRepository.save(createEvent("Kubernetes Summit", "Everything about clusters", "Lisbon", "PUBLISHED"));
+        eventRepository.save(createEvent("Kubernetes Draft", "Not yet announced", "Lisbon", "DRAFT"));
+        eventRepository.save(createEvent("Jazz Night", "Live music", "Dublin", "PUBLISHED"));
+
+        // When
+        Page<Event> results = eventRepository.searchPublished("kubernetes", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, results.getTotalElements());
+        assertEquals("Kubernetes Summit", results.getContent().get(0).getTitle());
+        assertEquals("Cloud Architecture Meetup", results.getContent().get(1).getTitle());
+    }
+
+    @Test
+    void findPublishedByPrefixes_MatchesWordPrefixesAndFollowsUpdates() {
+        // Given
+        Event event = eventRepository.save(createEvent("Advanced Kotlin Workshop", "Coroutines deep dive", "Zürich", "PUBLISHED"));
+        eventRepository.save(createEvent("Kotlin for Beginners", "First steps", "Berlin", "PUBLISHED"));
+
+        // When / Then
+        assertEquals(2, eventRepository.findPublishedByPrefixes(SearchTokenizer.queryTokens("kot"), 10).size());
+        assertEquals(1, eventRepository.findPublishedByPrefixes(SearchTokenizer.queryTokens("Kotl zur"), 10).size());
+
+        event.setTitle("Advanced Scala Workshop");
+        eventRepository.save(event);
+
+        assertEquals(1, eventRepository.findPublishedByPrefixes(SearchTokenizer.queryTokens("kot"), 10).size());
+        assertEquals(1, eventRepository.findPublishedByPrefixes(SearchTokenizer.queryTokens("scal"), 10).size());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.search", matches = "true")
+    void benchmark_TextAndPrefixSearchAgainstRegexScan() {
+        int eventCount = Integer.getInteger("benchmark.search.events", 1_000_000);
+        seedEvents(eventCount);
+
+        MongoCollection<Document> events = mongoTemplate.getCollection("events");
+        PageRequest firstPage = PageRequest.of(0, 10);
+        List<String> terms = List.of("kotlin", "hackathon", "photography", "masterclass", "kubernetes");
+        List<String> prefixes = List.of("kot", "hack", "photo", "mast", "kube");
+
+        long regexExamined = docsExamined(events, regexFilter(terms.get(0)));
+        long textExamined = docsExamined(events, Filters.and(Filters.text(terms.get(0)), Filters.eq("status", "PUBLISHED")));
+        long prefixExamined = docsExamined(events, Filters.and(Filters.eq("status", "PUBLISHED"),
+                Filters.all("searchPrefixes", SearchTokenizer.queryTokens(prefixes.get(0)))));
+
+        double[] regex = measure(terms, term -> {
+            events.find(regexFilter(term)).limit(firstPage.getPageSize()).into(new ArrayList<>());
+            return events.countDocuments(regexFilter(term));
+        });
+        double[] text = measure(terms, term -> eventRepository.searchPublished(term, firstPage).getTotalElements());
+        double[] regexPrefix = measure(prefixes, prefix -> (long) events.find(Filters.and(Filters.eq("status", "PUBLISHED"),
+                Filters.regex("title", "^" + Pattern.quote(prefix), "i"))).limit(10).into(new ArrayList<>()).size());
+        double[] prefix = measure(prefixes, term ->
+                (long) eventRepository.findPublishedByPrefixes(SearchTokenizer.queryTokens(term), 10).size());
+
+        log.info("Search benchmark over {} events (p50 / p95 ms, docs examined)", eventCount);
+        log.info("  regex search   {} / {} ms, {} docs", regex[0], regex[1], regexExamined);
+        log.info("  text search    {} / {} ms, {} docs", text[0], text[1], textExamined);
+        log.info("  regex prefix   {} / {} ms", regexPrefix[0], regexPrefix[1]);
+        log.info("  n-gram prefix  {} / {} ms, {} docs", prefix[0], prefix[1], prefixExamined);
+
+        assertTrue(textExamined < regexExamined);
+        assertTrue(prefixExamined < regexExamined);
+    }
+
+    private Event createEvent(String title, String description, String location, String status) {
+        return Event.builder()
+                .title(title)
+                .description(description)
+                .location(location)
+                .category("Technology")
+                .status(status)
+                .startDate(LocalDateTime.now().plusDays(7))
+                .endDate(LocalDateTime.now().plusDays(8))
+                .build();
+    }
+
+    /**
+     * Bulk insert synthetic published events directly through the driver, prefixes included.
+     */
+    private void seedEvents(int eventCount) {
+        MongoCollection<Document> events = mongoTemplate.getCollection("events");
+        Random random = new Random(42);
+        List<Document> batch = new ArrayList<>();
+
+        for (int i = 0; i < eventCount; i++) {
+            String title = capitalize(pick(random, LEVELS)) + " " + capitalize(pick(random, TOPICS)) + " "
+                    + capitalize(pick(random, FORMATS));
+            String description = "A " + pick(random, LEVELS) + " " + pick(random, FORMATS) + " for people into "
+                    + pick(random, TOPICS) + " and " + pick(random, TOPICS) + ".";
+            String location = pick(random, CITIES);
+            String category = pick(random, CATEGORIES);
+            LocalDateTime startDate = LocalDateTime.now().plusDays(random.nextInt(365));
+
+            batch.add(new Document("_id", new ObjectId())
+                    .append("title", title)
+                    .append("description", description)
+                    .append("location", location)
+                    .append("category", category)
+                    .append("status", random.nextInt(10) == 0 ? "DRAFT" : "PUBLISHED")
+                    .append("startDate", Date.from(startDate.toInstant(ZoneOffset.UTC)))
+                    .append("searchPrefixes", SearchTokenizer.prefixes(title, location, category))
+                    .append("_class", Event.class.getName()));
+
+            if (batch.size() == 10_000) {
+                events.insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            events.insertMany(batch);
+        }
+    }
+
+    /**
+     * The filter of the regex-based search that text search replaces.
+     */
+    private static Bson regexFilter(String term) {
+        return Filters.and(Filters.or(Filters.regex("title", term, "i"), Filters.regex("description", term, "i")),
+                Filters.eq("status", "PUBLISHED"));
+    }
+
+    private static long docsExamined(MongoCollection<Document> events, Bson filter) {
+        Document explain = events.find(filter).limit(10).explain(ExplainVerbosity.EXECUTION_STATS);
+        return explain.get("executionStats", Document.class).get("totalDocsExamined", Number.class).longValue();
+    }
+
+    /**
+     * Run each query after a warm-up round and return the p50 and p95 latencies in milliseconds.
+     */
+    private static double[] measure(List<String> inputs, Function<String, Long> query) {
+        inputs.forEach(query::apply);
+
+        List<Double> timings = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            for (String input : inputs) {
+                long start = System.nanoTime();
+                query.apply(input);
+                timings.add((System.nanoTime() - start) / 1_000_000.0);
+            }
+        }
+
+        double[] sorted = timings.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        return new double[]{sorted[sorted.length / 2], sorted[(int) Math.ceil(sorted.length * 0.95) - 1]};
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,169 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.InventoryBucket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for reserving tickets from inventory buckets without overselling.
+ */
+@DataMongoTest
+@Testcontainers
+public class InventoryBucketRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private InventoryBucketRepository inventoryBucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        inventoryBucketRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryBucketRepository.deleteAll();
+    }
+
+    @Test
+    void reserve_ConcurrentReservationsFallingBackAcrossBuckets_NeverOversell() throws Exception {
+        // Given
+        for (int index = 0; index < 4; index++) {
+            inventoryBucketRepository.insert(createBucket(index, 25));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When: each reservation starts at its own bucket and tries the siblings when it is sold out
+        List<Future<Boolean>> reservations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int first = i % 4;
+            reservations.add(executor.submit(() -> {
+                for (int attempt = 0; attempt < 4; attempt++) {
+                    if (inventoryBucketRepository.reserve(InventoryBucket.id("event-1", "general", (first + attempt) % 4))) {
+                        return true;
+                    }
+                }
+                return false;
+            }));
+        }
+        int reserved = 0;
+        for (Future<Boolean> reservation : reservations) {
+            if (reservation.get(1, TimeUnit.MINUTES)) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(100, reserved);
+        assertEquals(Map.of("event-1", Map.of("general", 100)), inventoryBucketRepository.sumSold(List.of("event-1")));
+        inventoryBucketRepository.findByEventId("event-1").forEach(bucket -> assertEquals(0, bucket.getAvailable()));
+    }
+
+    @Test
+    void reserve_ClosedBucket_Rejected() {
+        // Given
+        inventoryBucketRepository.insert(createBucket(0, 10));
+        String bucketId = InventoryBucket.id("event-1", "general", 0);
+        inventoryBucketRepository.setOpen("event-1", false);
+
+        // When / Then
+        assertFalse(inventoryBucketRepository.reserve(bucketId));
+
+        // Once the event is published again, the bucket takes reservations
+        inventoryBucketRepository.setOpen("event-1", true);
+        assertTrue(inventoryBucketRepository.reserve(bucketId));
+    }
+
+    @Test
+    void reserve_MoreSeatsThanLeft_TakesNone() {
+        // Given
+        inventoryBucketRepository.insert(createBucket(0, 3));
+        String bucketId = InventoryBucket.id("event-1", "general", 0);
+
+        // When
+        boolean tooMany = inventoryBucketRepository.reserve(bucketId, 4);
+        boolean all = inventoryBucketRepository.reserve(bucketId, 3);
+
+        // Then
+        assertFalse(tooMany);
+        assertTrue(all);
+        assertEquals(0, inventoryBucketRepository.findById(bucketId).orElseThrow().getAvailable());
+    }
+
+    @Test
+    void releaseSeats_MoreSeatsThanSold_ReturnsNone() {
+        // Given
+        inventoryBucketRepository.insert(createBucket(0, 10));
+        String bucketId = InventoryBucket.id("event-1", "general", 0);
+        assertTrue(inventoryBucketRepository.reserve(bucketId, 2));
+
+        // When
+        boolean tooMany = inventoryBucketRepository.releaseSeats(bucketId, 3);
+        boolean taken = inventoryBucketRepository.releaseSeats(bucketId, 2);
+
+        // Then
+        assertFalse(tooMany);
+        assertTrue(taken);
+        InventoryBucket bucket = inventoryBucketRepository.findById(bucketId).orElseThrow();
+        assertEquals(0, bucket.getSold());
+        assertEquals(10, bucket.getAvailable());
+    }
+
+    @Test
+    void release_NoTicketSold_NeverGoesNegative() {
+        // Given
+        inventoryBucketRepository.insert(createBucket(0, 10));
+        assertTrue(inventoryBucketRepository.reserve(InventoryBucket.id("event-1", "general", 0)));
+
+        // When
+        boolean first = inventoryBucketRepository.release("event-1", "general");
+        boolean second = inventoryBucketRepository.release("event-1", "general");
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        InventoryBucket bucket = inventoryBucketRepository.findById(InventoryBucket.id("event-1", "general", 0)).orElseThrow();
+        assertEquals(0, bucket.getSold());
+        assertEquals(10, bucket.getAvailable());
+    }
+
+    private InventoryBucket createBucket(int index, int quantity) {
+        return InventoryBucket.builder()
+                .id(InventoryBucket.id("event-1", "general", index))
+                .eventId("event-1")
+                .ticketTypeId("general")
+                .index(index)
+                .quantity(quantity)
+                .available(quantity)
+                .open(true)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for per-user notification inboxes: retention and ownership checks.
+ */
+@DataMongoTest
+@Testcontainers
+public class NotificationRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationRepository.deleteAll();
+    }
+
+    @Test
+    void trimToLimit_InboxOverLimit_KeepsNewestNotifications() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 8; i++) {
+            notificationRepository.insert(createNotification("user-1", "Notification " + i, now.minusMinutes(i)));
+        }
+        notificationRepository.insert(createNotification("user-2", "Other inbox", now.minusDays(1)));
+
+        // When
+        long trimmed = notificationRepository.trimToLimit("user-1", 5);
+
+        // Then
+        assertEquals(3, trimmed);
+        List<Notification> kept = notificationRepository.findByUserIdOrderByCreatedAtDesc("user-1", PageRequest.of(0, 10)).getContent();
+        assertEquals(List.of("Notification 0", "Notification 1", "Notification 2", "Notification 3", "Notification 4"),
+                kept.stream().map(Notification::getTitle).toList());
+        assertEquals(1, notificationRepository.findByUserIdOrderByCreatedAtDesc("user-2", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void trimToLimit_InboxWithinLimit_DeletesNothing() {
+        // Given
+        notificationRepository.insert(createNotification("user-1", "Welcome", LocalDateTime.now()));
+
+        // When / Then
+        assertEquals(0, notificationRepository.trimToLimit("user-1", 5));
+        assertEquals(1, notificationRepository.count());
+    }
+
+    @Test
+    void markAsRead_NotificationOfAnotherUser_LeftUnread() {
+        // Given
+        Notification notification = notificationRepository.insert(createNotification("user-1", "Welcome", LocalDateTime.now()));
+
+        // When
+        Optional<Notification> byOtherUser = notificationRepository.markAsRead(notification.getId(), "user-2");
+        Optional<Notification> byOwner = notificationRepository.markAsRead(notification.getId(), "user-1");
+
+        // Then
+        assertFalse(byOtherUser.isPresent());
+        assertTrue(byOwner.orElseThrow().isRead());
+    }
+
+    @Test
+    void deleteByIdAndUserId_NotificationOfAnotherUser_NotDeleted() {
+        // Given
+        Notification notification = notificationRepository.insert(createNotification("user-1", "Welcome", LocalDateTime.now()));
+
+        // When
+        long byOtherUser = notificationRepository.deleteByIdAndUserId(notification.getId(), "user-2");
+        long byOwner = notificationRepository.deleteByIdAndUserId(notification.getId(), "user-1");
+
+        // Then
+        assertEquals(0, byOtherUser);
+        assertEquals(1, byOwner);
+        assertFalse(notificationRepository.existsById(notification.getId()));
+    }
+
+    private Notification createNotification(String userId, String title, LocalDateTime createdAt) {
+        return Notification.builder()
+                .userId(userId)
+                .title(title)
+                .message(title)
+                .read(false)
+                .createdAt(createdAt)
+                .type("EVENT_REMINDER")
+                .build();
+    }
+}
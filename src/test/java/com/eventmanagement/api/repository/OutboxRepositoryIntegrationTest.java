@@ -0,0 +1,107 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.OutboxMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for claiming and completing outbox messages.
+ */
+@DataMongoTest
+@Testcontainers
+public class OutboxRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    void claimNext_LeasesDueMessageUntilRetry() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.insert(createMessage("registration-confirmed:1", now.minusSeconds(1)));
+        outboxRepository.insert(createMessage("registration-confirmed:2", now.plusMinutes(5)));
+
+        // When
+        Optional<OutboxMessage> claimed = outboxRepository.claimNext(now, Duration.ofSeconds(30));
+
+        // Then
+        assertTrue(claimed.isPresent());
+        assertEquals("registration-confirmed:1", claimed.get().getIdempotencyKey());
+        assertEquals(1, claimed.get().getAttempts());
+        assertTrue(outboxRepository.claimNext(now, Duration.ofSeconds(30)).isEmpty());
+
+        // The lease expires, so a message whose dispatcher died is picked up again
+        assertTrue(outboxRepository.claimNext(now.plusSeconds(31), Duration.ofSeconds(30)).isPresent());
+    }
+
+    @Test
+    void markDone_RemovesMessageFromClaims() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessage message = outboxRepository.insert(createMessage("registration-confirmed:1", now));
+
+        // When
+        outboxRepository.markDone(message.getId(), now);
+
+        // Then
+        assertEquals("DONE", outboxRepository.findById(message.getId()).orElseThrow().getStatus());
+        assertTrue(outboxRepository.claimNext(now.plusHours(1), Duration.ofSeconds(30)).isEmpty());
+    }
+
+    @Test
+    void insert_RejectsDuplicateIdempotencyKey() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.insert(createMessage("registration-confirmed:1", now));
+
+        assertThrows(DuplicateKeyException.class,
+                () -> outboxRepository.insert(createMessage("registration-confirmed:1", now)));
+    }
+
+    private OutboxMessage createMessage(String idempotencyKey, LocalDateTime nextAttemptAt) {
+        return OutboxMessage.builder()
+                .type(OutboxMessage.REGISTRATION_CONFIRMED)
+                .idempotencyKey(idempotencyKey)
+                .payload(Map.of("userId", "user", "eventId", "event", "eventTitle", "Kotlin Workshop"))
+                .status("PENDING")
+                .attempts(0)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
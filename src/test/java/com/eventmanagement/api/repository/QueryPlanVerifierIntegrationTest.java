@@ -0,0 +1,171 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Event;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every repository query is served by a declared, selective index.
+ * Every collection is seeded so that each query shape matches a small fraction of its documents; a query served
+ * by a collection scan, or by an index covering only part of its filter, examines far more documents than it returns.
+ */
+@DataMongoTest(properties = "app.query-plans.verify=true")
+@Testcontainers
+@Import(QueryPlanVerifier.class)
+public class QueryPlanVerifierIntegrationTest {
+
+    private static final int DOCUMENTS = 200;
+    private static final List<String> COLLECTIONS = List.of("events", "registrations", "notifications", "outbox",
+            "waitlist", "ticket_holds", "inventory_buckets", "users");
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private QueryPlanVerifier queryPlanVerifier;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        COLLECTIONS.forEach(collection -> mongoTemplate.getCollection(collection).deleteMany(new Document()));
+    }
+
+    @Test
+    void verify_NoRepositoryQueryFallsBackToCollectionScanOrUnselectiveIndex() {
+        assertDoesNotThrow(queryPlanVerifier::verify);
+    }
+
+    @Test
+    void verify_CategoryIndexDropped_RejectsQueryServedByStatusIndex() {
+        // Given: published events by category can only be found through the (status, startDate) index
+        mongoTemplate.indexOps(Event.class).dropIndex("status_category_start_date_id_idx");
+
+        try {
+            // When
+            IllegalStateException exception = assertThrows(IllegalStateException.class, queryPlanVerifier::verify);
+
+            // Then
+            assertTrue(exception.getMessage().contains("EventRepository.findPublishedEventsByCategory"));
+        } finally {
+            mongoTemplate.indexOps(Event.class).ensureIndex(new Index()
+                    .on("status", Sort.Direction.ASC)
+                    .on("category", Sort.Direction.ASC)
+                    .on("startDate", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC)
+                    .named("status_category_start_date_id_idx"));
+        }
+    }
+
+    /**
+     * Seed every collection with documents matching the representative values of the query shapes
+     * (event "event", user "user", category "Technology", ...) mixed among documents that do not.
+     */
+    private void seed() {
+        Instant now = Instant.now();
+        List<Document> events = new ArrayList<>();
+        List<Document> registrations = new ArrayList<>();
+        List<Document> notifications = new ArrayList<>();
+        List<Document> outbox = new ArrayList<>();
+        List<Document> waitlist = new ArrayList<>();
+        List<Document> holds = new ArrayList<>();
+        List<Document> buckets = new ArrayList<>();
+        List<Document> users = new ArrayList<>();
+
+        for (int i = 0; i < DOCUMENTS; i++) {
+            boolean match = i % 20 == 0;
+            Date startDate = Date.from(now.plus(i % 4 == 0 ? i + 1 : -i - 1, ChronoUnit.DAYS));
+            events.add(new Document("_id", new ObjectId())
+                    .append("title", match ? "Kotlin Conf" : "Jazz Night")
+                    .append("status", i % 2 == 0 ? "PUBLISHED" : "DRAFT")
+                    .append("category", i % 10 == 0 ? "Technology" : "Music")
+                    .append("organizerId", match ? "organizer" : "organizer-" + i)
+                    .append("locationKey", match ? "berlin" : "paris")
+                    .append("searchPrefixes", match ? List.of("kot", "kotl") : List.of("jaz", "jazz"))
+                    .append("startDate", startDate)
+                    .append("endDate", Date.from(startDate.toInstant().plus(1, ChronoUnit.DAYS)))
+                    .append("inventoryBuckets", i % 10 == 0 ? 4 : 0));
+
+            String eventId = match ? "event" : "event-" + i;
+            String userId = i == 0 ? "user" : "user-" + i;
+            registrations.add(new Document("_id", new ObjectId())
+                    .append("eventId", eventId)
+                    .append("userId", userId)
+                    .append("status", "CONFIRMED")
+                    .append("registrationDate", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+            notifications.add(new Document("_id", new ObjectId())
+                    .append("userId", match ? "user" : "user-" + i)
+                    .append("read", i % 40 != 0)
+                    .append("createdAt", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+            outbox.add(new Document("_id", new ObjectId())
+                    .append("idempotencyKey", "message-" + i)
+                    .append("status", match ? "PENDING" : "DONE")
+                    .append("nextAttemptAt", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+            waitlist.add(new Document("_id", new ObjectId())
+                    .append("eventId", eventId)
+                    .append("ticketTypeId", "general")
+                    .append("userId", userId)
+                    .append("status", "WAITING")
+                    .append("joinedAt", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+            holds.add(new Document("_id", new ObjectId())
+                    .append("eventId", eventId)
+                    .append("status", match ? "ACTIVE" : "CONFIRMED")
+                    .append("expiresAt", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+            buckets.add(new Document("_id", eventId + ":general:" + i)
+                    .append("eventId", eventId)
+                    .append("ticketTypeId", "general")
+                    .append("index", i)
+                    .append("sold", 1)
+                    .append("available", 1));
+            users.add(new Document("_id", new ObjectId())
+                    .append("email", i == 0 ? "user@example.com" : "user-" + i + "@example.com")
+                    .append("roles", match ? List.of("ADMIN") : List.of("USER"))
+                    .append("searchPrefixes", match ? List.of("jo", "joh") : List.of("an", "ann"))
+                    .append("createdAt", Date.from(now.minus(i, ChronoUnit.MINUTES))));
+        }
+
+        mongoTemplate.getCollection("events").insertMany(events);
+        mongoTemplate.getCollection("registrations").insertMany(registrations);
+        mongoTemplate.getCollection("notifications").insertMany(notifications);
+        mongoTemplate.getCollection("outbox").insertMany(outbox);
+        mongoTemplate.getCollection("waitlist").insertMany(waitlist);
+        mongoTemplate.getCollection("ticket_holds").insertMany(holds);
+        mongoTemplate.getCollection("inventory_buckets").insertMany(buckets);
+        mongoTemplate.getCollection("users").insertMany(users);
+    }
+}
@@ -0,0 +1,94 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.Registration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for listing the registrations of an event and of a user.
+ */
+@DataMongoTest
+@Testcontainers
+public class RegistrationRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registrationRepository.deleteAll();
+    }
+
+    @Test
+    void findByEventIdOrderByRegistrationDateDesc_SeveralPages_NewestFirst() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            registrationRepository.insert(createRegistration("event-1", "user-" + i, now.minusMinutes(i)));
+        }
+        registrationRepository.insert(createRegistration("event-2", "user-0", now));
+
+        // When
+        Page<Registration> first = registrationRepository.findByEventIdOrderByRegistrationDateDesc("event-1", PageRequest.of(0, 3));
+        Page<Registration> second = registrationRepository.findByEventIdOrderByRegistrationDateDesc("event-1", PageRequest.of(1, 3));
+
+        // Then
+        assertEquals(5, first.getTotalElements());
+        assertEquals(List.of("user-0", "user-1", "user-2"), first.getContent().stream().map(Registration::getUserId).toList());
+        assertEquals(List.of("user-3", "user-4"), second.getContent().stream().map(Registration::getUserId).toList());
+    }
+
+    @Test
+    void findByUserIdAndEventIdOrderByRegistrationDateDesc_OtherEventsAndUsers_Excluded() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Registration registration = registrationRepository.insert(createRegistration("event-1", "user-1", now));
+        registrationRepository.insert(createRegistration("event-2", "user-1", now));
+        registrationRepository.insert(createRegistration("event-1", "user-2", now));
+
+        // When
+        Page<Registration> registrations = registrationRepository
+                .findByUserIdAndEventIdOrderByRegistrationDateDesc("user-1", "event-1", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(registration.getId()), registrations.getContent().stream().map(Registration::getId).toList());
+        assertEquals(2, registrationRepository.findByUserIdOrderByRegistrationDateDesc("user-1", PageRequest.of(0, 10))
+                .getTotalElements());
+    }
+
+    private Registration createRegistration(String eventId, String userId, LocalDateTime registrationDate) {
+        return Registration.confirmed(eventId, "general", "General Admission", 50.0, null, registrationDate)
+                .userId(userId)
+                .userName("Attendee")
+                .userEmail(userId + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.TicketHold;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for settling ticket holds exactly once.
+ */
+@DataMongoTest
+@Testcontainers
+public class TicketHoldRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private TicketHoldRepository ticketHoldRepository;
+
+    @BeforeEach
+    void setUp() {
+        ticketHoldRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketHoldRepository.deleteAll();
+    }
+
+    @Test
+    void claimExpired_ConcurrentSweepers_ExpireEachHoldOnce() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            ticketHoldRepository.insert(createHold("user-" + i, now.minusSeconds(i + 1)));
+        }
+        ticketHoldRepository.insert(createHold("still-checking-out", now.plusMinutes(5)));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<Optional<TicketHold>>> claims = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            claims.add(executor.submit(() -> ticketHoldRepository.claimExpired(now)));
+        }
+        Set<String> expiredUsers = new HashSet<>();
+        int expired = 0;
+        for (Future<Optional<TicketHold>> claim : claims) {
+            Optional<TicketHold> hold = claim.get(1, TimeUnit.MINUTES);
+            if (hold.isPresent()) {
+                expired++;
+                expiredUsers.add(hold.get().getUserId());
+                assertNotNull(hold.get().getSettledAt());
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(50, expired);
+        assertEquals(50, expiredUsers.size());
+        assertEquals(TicketHold.ACTIVE, ticketHoldRepository.findAll().stream()
+                .filter(hold -> hold.getUserId().equals("still-checking-out"))
+                .findFirst().orElseThrow().getStatus());
+    }
+
+    @Test
+    void settle_ExpiredOrSettledHold_Rejected() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        TicketHold expired = ticketHoldRepository.insert(createHold("user-1", now.minusSeconds(1)));
+        TicketHold active = ticketHoldRepository.insert(createHold("user-2", now.plusMinutes(5)));
+
+        // When
+        Optional<TicketHold> lateConfirmation = ticketHoldRepository.settle(expired.getId(), "user-1", TicketHold.CONFIRMED, now);
+        Optional<TicketHold> otherUser = ticketHoldRepository.settle(active.getId(), "user-1", TicketHold.CONFIRMED, now);
+        Optional<TicketHold> confirmed = ticketHoldRepository.settle(active.getId(), "user-2", TicketHold.CONFIRMED, now);
+        Optional<TicketHold> releasedAfterConfirmation = ticketHoldRepository.settle(active.getId(), "user-2", TicketHold.RELEASED, now);
+
+        // Then
+        assertTrue(lateConfirmation.isEmpty());
+        assertTrue(otherUser.isEmpty());
+        assertEquals(TicketHold.CONFIRMED, confirmed.orElseThrow().getStatus());
+        assertTrue(releasedAfterConfirmation.isEmpty());
+        assertTrue(ticketHoldRepository.claimExpired(now).map(hold -> hold.getId().equals(expired.getId())).orElse(false));
+    }
+
+    private TicketHold createHold(String userId, LocalDateTime expiresAt) {
+        return TicketHold.builder()
+                .eventId("event-1")
+                .ticketTypeId("general")
+                .ticketTypeName("General Admission")
+                .userId(userId)
+                .quantity(1)
+                .status(TicketHold.ACTIVE)
+                .createdAt(expiresAt.minusMinutes(10))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.eventmanagement.api.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for retrying transactions that hit a duplicate key.
+ */
+public class TransactionRunnerTest {
+
+    private TransactionRunner transactionRunner;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        transactionRunner = new TransactionRunner(transactionManager);
+    }
+
+    @Test
+    void executeRetryingDuplicateKeys_DuplicateThenSuccess_Retries() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = transactionRunner.executeRetryingDuplicateKeys(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DuplicateKeyException("Waitlisted user registered concurrently");
+            }
+            return "promoted";
+        });
+
+        // Then
+        assertEquals("promoted", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeRetryingDuplicateKeys_DuplicateOnEveryAttempt_GivesUp() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThrows(DuplicateKeyException.class, () -> transactionRunner.executeRetryingDuplicateKeys(() -> {
+            attempts.incrementAndGet();
+            throw new DuplicateKeyException("Waitlisted user registered concurrently");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_DuplicateKey_NotRetried() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When / Then
+        assertThrows(DuplicateKeyException.class, () -> transactionRunner.execute(() -> {
+            attempts.incrementAndGet();
+            throw new DuplicateKeyException("Already registered");
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,137 @@
+package com.eventmanagement.api.repository;
+
+import com.eventmanagement.api.model.WaitlistEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the first-in, first-out ticket type waitlist.
+ */
+@DataMongoTest
+@Testcontainers
+public class WaitlistRepositoryIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @BeforeEach
+    void setUp() {
+        waitlistRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        waitlistRepository.deleteAll();
+    }
+
+    @Test
+    void claimNext_PromotesInJoinOrder() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        waitlistRepository.insert(createEntry("user-2", now.minusMinutes(1)));
+        waitlistRepository.insert(createEntry("user-1", now.minusMinutes(2)));
+        waitlistRepository.insert(createEntry("user-3", now));
+
+        // When
+        Optional<WaitlistEntry> first = waitlistRepository.claimNext("event-1", "general", now);
+        Optional<WaitlistEntry> second = waitlistRepository.claimNext("event-1", "general", now);
+
+        // Then
+        assertEquals("user-1", first.orElseThrow().getUserId());
+        assertEquals(WaitlistEntry.PROMOTED, first.get().getStatus());
+        assertEquals("user-2", second.orElseThrow().getUserId());
+        assertEquals(0, waitlistRepository.countByEventIdAndTicketTypeIdAndStatusAndJoinedAtLessThan(
+                "event-1", "general", WaitlistEntry.WAITING, now));
+    }
+
+    @Test
+    void claimNext_ConcurrentPromotions_ClaimEachEntryOnce() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            waitlistRepository.insert(createEntry("user-" + i, now.minusSeconds(i)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<Optional<WaitlistEntry>>> claims = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            claims.add(executor.submit(() -> waitlistRepository.claimNext("event-1", "general", now)));
+        }
+        Set<String> claimedUsers = new HashSet<>();
+        int claimed = 0;
+        for (Future<Optional<WaitlistEntry>> claim : claims) {
+            Optional<WaitlistEntry> entry = claim.get(1, TimeUnit.MINUTES);
+            if (entry.isPresent()) {
+                claimed++;
+                claimedUsers.add(entry.get().getUserId());
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(50, claimed);
+        assertEquals(50, claimedUsers.size());
+        assertFalse(waitlistRepository.existsByEventIdAndTicketTypeIdAndStatus("event-1", "general", WaitlistEntry.WAITING));
+    }
+
+    @Test
+    void insert_SameUserWaitingTwice_Rejected() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        waitlistRepository.insert(createEntry("user-1", now));
+
+        // When / Then
+        assertThrows(DuplicateKeyException.class, () -> waitlistRepository.insert(createEntry("user-1", now)));
+
+        // Once the user has left, they can join again
+        assertTrue(waitlistRepository.leave("event-1", "user-1"));
+        waitlistRepository.insert(createEntry("user-1", now));
+        assertTrue(waitlistRepository.findByEventIdAndUserIdAndStatus("event-1", "user-1", WaitlistEntry.WAITING).isPresent());
+    }
+
+    private WaitlistEntry createEntry(String userId, LocalDateTime joinedAt) {
+        return WaitlistEntry.builder()
+                .eventId("event-1")
+                .ticketTypeId("general")
+                .userId(userId)
+                .userName("Waiting User")
+                .userEmail(userId + "@example.com")
+                .status(WaitlistEntry.WAITING)
+                .joinedAt(joinedAt)
+                .build();
+    }
+}
@@ -0,0 +1,265 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.dto.event.EventPatchRequest;
+import com.eventmanagement.api.dto.event.EventRequest;
+import com.eventmanagement.api.model.Event;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for computing targeted event updates from patch requests.
+ */
+public class EventPatchPlannerTest {
+
+    @Test
+    void plan_TitleOnly_SetsTitleAndSearchFields() {
+        // Given
+        Event event = createEvent();
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).title("Spring Summit").build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        assertEquals(1, plan.updates().size());
+        Document set = plan.updates().get(0).getUpdateObject().get("$set", Document.class);
+        assertEquals(List.of("title", "searchPrefixes", "locationKey", "updatedAt"), new ArrayList<>(set.keySet()));
+        assertEquals("Spring Summit", set.get("title"));
+        assertEquals(new Document("version", 1), plan.updates().get(0).getUpdateObject().get("$inc"));
+    }
+
+    @Test
+    void plan_NothingChanged_IsEmpty() {
+        // Given
+        Event event = createEvent();
+        EventPatchRequest patch = EventPatchRequest.builder()
+                .version(3L)
+                .title(event.getTitle())
+                .ticketTypes(List.of(toDto(event.getTicketTypes().get(0))))
+                .build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        assertTrue(plan.isEmpty());
+    }
+
+    @Test
+    void plan_TicketTypePriceChanged_SetsOnlyThatFieldAndNeverSold() {
+        // Given
+        Event event = createEvent();
+        EventRequest.TicketTypeDto ticketType = toDto(event.getTicketTypes().get(0));
+        ticketType.setPrice(79.0);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).ticketTypes(List.of(ticketType)).build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        Update update = plan.updates().get(0);
+        Document set = update.getUpdateObject().get("$set", Document.class);
+        assertEquals(79.0, set.get("ticketTypes.$[t0].price"));
+        assertFalse(set.keySet().stream().anyMatch(key -> key.endsWith(".sold")));
+        assertEquals(new Document("t0._id", "general"), update.getArrayFilters().get(0).asDocument());
+    }
+
+    @Test
+    void plan_SpeakersAddedAndRemoved_SplitsPullAndPush() {
+        // Given
+        Event event = createEvent();
+        EventPatchRequest patch = EventPatchRequest.builder()
+                .version(3L)
+                .speakers(List.of(EventRequest.SpeakerDto.builder().name("Grace Hopper").build()))
+                .build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        assertEquals(3, plan.updates().size());
+        assertTrue(plan.updates().get(1).getUpdateObject().containsKey("$pull"));
+        assertTrue(plan.updates().get(2).getUpdateObject().containsKey("$push"));
+    }
+
+    @Test
+    void plan_RemovesTicketTypeWithSoldTickets_Throws() {
+        // Given
+        Event event = createEvent();
+        event.getTicketTypes().get(0).setSold(5);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).ticketTypes(List.of()).build();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> EventPatchPlanner.plan(event, patch, false));
+    }
+
+    @Test
+    void plan_QuantityLowered_AddsSoldCondition() {
+        // Given
+        Event event = createEvent();
+        event.getTicketTypes().get(0).setSold(5);
+        EventRequest.TicketTypeDto ticketType = toDto(event.getTicketTypes().get(0));
+        ticketType.setQuantity(50);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).ticketTypes(List.of(ticketType)).build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        assertEquals(1, plan.conditions().size());
+    }
+
+    @Test
+    void plan_QuantityBelowSoldAndHeld_Throws() {
+        // Given
+        Event event = createEvent();
+        event.getTicketTypes().get(0).setSold(40);
+        event.getTicketTypes().get(0).setHeld(15);
+        EventRequest.TicketTypeDto ticketType = toDto(event.getTicketTypes().get(0));
+        ticketType.setQuantity(50);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).ticketTypes(List.of(ticketType)).build();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> EventPatchPlanner.plan(event, patch, false));
+    }
+
+    @Test
+    void plan_RemovesTicketTypeWithHeldTickets_Throws() {
+        // Given
+        Event event = createEvent();
+        event.getTicketTypes().get(0).setHeld(2);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).ticketTypes(List.of()).build();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> EventPatchPlanner.plan(event, patch, false));
+    }
+
+    @Test
+    void plan_SessionCapacityLowered_SetsCapacityNeverBookedAndAddsBookedCondition() {
+        // Given
+        Event event = createEventWithSession(30, 12);
+        EventPatchRequest patch = EventPatchRequest.builder()
+                .version(3L)
+                .agenda(List.of(toDto(event.getAgenda().get(0), 20)))
+                .build();
+
+        // When
+        EventPatchPlanner.Plan plan = EventPatchPlanner.plan(event, patch, false);
+
+        // Then
+        Update update = plan.updates().get(0);
+        Document set = update.getUpdateObject().get("$set", Document.class);
+        assertEquals(20, set.get("agenda.$[a0].sessions.$[a0s0].capacity"));
+        assertFalse(set.keySet().stream().anyMatch(key -> key.endsWith(".booked")));
+        assertEquals(2, update.getArrayFilters().size());
+        assertEquals(1, plan.conditions().size());
+    }
+
+    @Test
+    void plan_SessionCapacityBelowBooked_Throws() {
+        // Given
+        Event event = createEventWithSession(30, 12);
+        EventPatchRequest patch = EventPatchRequest.builder()
+                .version(3L)
+                .agenda(List.of(toDto(event.getAgenda().get(0), 10)))
+                .build();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> EventPatchPlanner.plan(event, patch, false));
+    }
+
+    @Test
+    void plan_RemovesAgendaItemWithBookedSession_Throws() {
+        // Given
+        Event event = createEventWithSession(30, 1);
+        EventPatchRequest patch = EventPatchRequest.builder().version(3L).agenda(List.of()).build();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> EventPatchPlanner.plan(event, patch, false));
+    }
+
+    private Event createEvent() {
+        Event.TicketType ticketType = Event.TicketType.builder()
+                .id("general")
+                .name("General Admission")
+                .price(50.0)
+                .quantity(100)
+                .sold(0)
+                .isAvailable(true)
+                .build();
+        Event.Speaker speaker = Event.Speaker.builder().id("speaker-1").name("Ada Lovelace").build();
+
+        return Event.builder()
+                .id("event-1")
+                .title("Kotlin Workshop")
+                .description("Hands-on Kotlin workshop")
+                .location("Berlin")
+                .category("Technology")
+                .startDate(LocalDateTime.of(2030, 6, 10, 9, 0))
+                .endDate(LocalDateTime.of(2030, 6, 10, 17, 0))
+                .status("PUBLISHED")
+                .version(3)
+                .speakers(new ArrayList<>(List.of(speaker)))
+                .ticketTypes(new ArrayList<>(List.of(ticketType)))
+                .build();
+    }
+
+    private Event createEventWithSession(int capacity, int booked) {
+        Event.Session session = Event.Session.builder()
+                .id("session-1")
+                .title("Coroutines Deep Dive")
+                .startTime(LocalDateTime.of(2030, 6, 10, 10, 0))
+                .endTime(LocalDateTime.of(2030, 6, 10, 11, 0))
+                .capacity(capacity)
+                .booked(booked)
+                .build();
+        Event.AgendaItem agendaItem = Event.AgendaItem.builder()
+                .id("morning")
+                .title("Morning Track")
+                .startTime(LocalDateTime.of(2030, 6, 10, 9, 0))
+                .endTime(LocalDateTime.of(2030, 6, 10, 12, 0))
+                .sessions(new ArrayList<>(List.of(session)))
+                .build();
+
+        Event event = createEvent();
+        event.setAgenda(new ArrayList<>(List.of(agendaItem)));
+        return event;
+    }
+
+    private EventRequest.AgendaItemDto toDto(Event.AgendaItem agendaItem, int sessionCapacity) {
+        Event.Session session = agendaItem.getSessions().get(0);
+        return EventRequest.AgendaItemDto.builder()
+                .id(agendaItem.getId())
+                .title(agendaItem.getTitle())
+                .startTime(agendaItem.getStartTime())
+                .endTime(agendaItem.getEndTime())
+                .sessions(List.of(EventRequest.SessionDto.builder()
+                        .id(session.getId())
+                        .title(session.getTitle())
+                        .startTime(session.getStartTime())
+                        .endTime(session.getEndTime())
+                        .capacity(sessionCapacity)
+                        .build()))
+                .build();
+    }
+
+    private EventRequest.TicketTypeDto toDto(Event.TicketType ticketType) {
+        return EventRequest.TicketTypeDto.builder()
+                .id(ticketType.getId())
+                .name(ticketType.getName())
+                .price(ticketType.getPrice())
+                .quantity(ticketType.getQuantity())
+                .isAvailable(ticketType.isAvailable())
+                .build();
+    }
+}
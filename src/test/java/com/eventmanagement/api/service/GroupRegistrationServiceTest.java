@@ -0,0 +1,131 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.dto.event.GroupRegistrationRequest;
+import com.eventmanagement.api.dto.event.GroupRegistrationResponse;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.TicketHold;
+import com.eventmanagement.api.outbox.OutboxPublisher;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.InventoryBucketRepository;
+import com.eventmanagement.api.repository.RegistrationRepository;
+import com.eventmanagement.api.repository.TransactionRunner;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for registering a group of attendees all or nothing.
+ */
+public class GroupRegistrationServiceTest {
+
+    private EventRepository eventRepository;
+    private RegistrationRepository registrationRepository;
+    private TicketHoldService ticketHoldService;
+    private GroupRegistrationService groupRegistrationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        registrationRepository = mock(RegistrationRepository.class);
+        ticketHoldService = mock(TicketHoldService.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        TransactionRunner transactionRunner = mock(TransactionRunner.class);
+        when(currentUserProvider.getUserId()).thenReturn("purchaser");
+        when(transactionRunner.execute(any())).thenAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(0)).get());
+        when(registrationRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        groupRegistrationService = new GroupRegistrationService(eventRepository, registrationRepository, ticketHoldService,
+                mock(IdempotencyService.class), currentUserProvider, transactionRunner, mock(OutboxPublisher.class),
+                mock(EventCache.class), new TicketInventory(eventRepository, mock(InventoryBucketRepository.class), mock(EventCache.class)));
+        ReflectionTestUtils.setField(groupRegistrationService, "maxGroupSize", 50);
+        when(eventRepository.findById("event-1")).thenReturn(Optional.of(createEvent()));
+    }
+
+    @Test
+    void registerGroup_SeatsAcrossTicketTypes_ReservesAllInOneUpdate() {
+        // Given
+        GroupRegistrationRequest request = createRequest(null, "general", "general", "vip");
+        when(eventRepository.reserveTickets("event-1", Map.of("general", 2, "vip", 1))).thenReturn(Optional.of(createEvent()));
+
+        // When
+        GroupRegistrationResponse response = groupRegistrationService.registerGroup(request);
+
+        // Then
+        assertEquals(3, response.getRegistrations().size());
+        assertNull(response.getRegistrations().get(0).getUserId());
+        assertEquals("purchaser", response.getRegistrations().get(0).getPurchaserId());
+        assertEquals(response.getGroupId(), response.getRegistrations().get(2).getGroupId());
+    }
+
+    @Test
+    void registerGroup_ReservationRejected_InsertsNothing() {
+        // Given
+        GroupRegistrationRequest request = createRequest(null, "general", "vip");
+        when(eventRepository.reserveTickets(anyString(), any())).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> groupRegistrationService.registerGroup(request));
+        verify(registrationRepository, never()).insert(anyList());
+    }
+
+    @Test
+    void registerGroup_AttendeesDoNotMatchHold_Throws() {
+        // Given
+        GroupRegistrationRequest request = createRequest("hold-1", "general", "vip");
+        when(ticketHoldService.findOwnHold("hold-1")).thenReturn(TicketHold.builder()
+                .id("hold-1")
+                .eventId("event-1")
+                .ticketTypeId("general")
+                .ticketTypeName("General Admission")
+                .quantity(2)
+                .status(TicketHold.ACTIVE)
+                .build());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> groupRegistrationService.registerGroup(request));
+        verify(ticketHoldService, never()).confirm(any(TicketHold.class), anyList(), any());
+    }
+
+    private GroupRegistrationRequest createRequest(String holdId, String... ticketTypeIds) {
+        List<GroupRegistrationRequest.Attendee> attendees = new ArrayList<>();
+        for (int i = 0; i < ticketTypeIds.length; i++) {
+            attendees.add(GroupRegistrationRequest.Attendee.builder()
+                    .ticketTypeId(ticketTypeIds[i])
+                    .name("Attendee " + i)
+                    .email("attendee" + i + "@example.com")
+                    .build());
+        }
+        return GroupRegistrationRequest.builder().eventId("event-1").holdId(holdId).attendees(attendees).build();
+    }
+
+    private Event createEvent() {
+        return Event.builder()
+                .id("event-1")
+                .title("Team Offsite")
+                .status("PUBLISHED")
+                .ticketTypes(List.of(
+                        Event.TicketType.builder().id("general").name("General Admission").quantity(100).isAvailable(true).build(),
+                        Event.TicketType.builder().id("vip").name("VIP").quantity(10).isAvailable(true).build()))
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.exception.IdempotencyKeyConflictException;
+import com.eventmanagement.api.exception.InvalidIdempotencyKeyException;
+import com.eventmanagement.api.model.IdempotencyRecord;
+import com.eventmanagement.api.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for executing requests at most once per idempotency key.
+ */
+public class IdempotencyServiceTest {
+
+    private static final String KEY_ID = "event.register:user-1:retry-1";
+    private static final Map<String, String> REQUEST = Map.of("eventId", "event-1");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyRecordRepository repository;
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyRecordRepository.class);
+        idempotencyService = new IdempotencyService(repository, objectMapper, new SimpleMeterRegistry(),
+                Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofMillis(5));
+    }
+
+    @Test
+    void execute_NewKey_ExecutesAndStoresResponse() {
+        // Given
+        when(repository.complete(eq(KEY_ID), anyString(), anyString(), any())).thenReturn(true);
+
+        // When
+        IdempotencyService.IdempotentResult<String> result = execute(() -> "registered");
+
+        // Then
+        assertEquals("registered", result.response());
+        assertFalse(result.replayed());
+        verify(repository).complete(eq(KEY_ID), anyString(), eq("\"registered\""), any());
+    }
+
+    @Test
+    void execute_CompletedKey_ReplaysWithoutExecuting() {
+        // Given
+        keyAlreadyClaimed(IdempotencyRecord.COMPLETED, hash(REQUEST));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        IdempotencyService.IdempotentResult<String> result = execute(() -> {
+            executions.incrementAndGet();
+            return "registered again";
+        });
+
+        // Then
+        assertEquals("registered", result.response());
+        assertTrue(result.replayed());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    void execute_InProgressKey_WaitsForStoredResponse() {
+        // Given
+        IdempotencyRecord inProgress = record(IdempotencyRecord.IN_PROGRESS, hash(REQUEST));
+        IdempotencyRecord completed = record(IdempotencyRecord.COMPLETED, hash(REQUEST));
+        when(repository.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("duplicate key"));
+        when(repository.findById(KEY_ID))
+                .thenReturn(Optional.of(inProgress))
+                .thenReturn(Optional.of(inProgress))
+                .thenReturn(Optional.of(completed));
+
+        // When
+        IdempotencyService.IdempotentResult<String> result = execute(() -> "registered again");
+
+        // Then
+        assertEquals("registered", result.response());
+        assertTrue(result.replayed());
+    }
+
+    @Test
+    void execute_KeyUsedForDifferentRequest_Throws() {
+        // Given
+        keyAlreadyClaimed(IdempotencyRecord.COMPLETED, hash(Map.of("eventId", "event-2")));
+
+        // When / Then
+        assertThrows(IdempotencyKeyConflictException.class, () -> execute(() -> "registered"));
+    }
+
+    @Test
+    void execute_BlankOrOverlongKey_RejectedAsInvalid() {
+        // When / Then
+        assertThrows(InvalidIdempotencyKeyException.class, () -> idempotencyService.execute(
+                "event.register", "user-1", " ", REQUEST, String.class, () -> "registered"));
+        assertThrows(InvalidIdempotencyKeyException.class, () -> idempotencyService.execute(
+                "event.register", "user-1", "k".repeat(1000), REQUEST, String.class, () -> "registered"));
+        verify(repository, never()).insert(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_ActionFails_ReleasesKey() {
+        // When
+        assertThrows(IllegalStateException.class, () -> execute(() -> {
+            throw new IllegalStateException("No tickets available for this ticket type");
+        }));
+
+        // Then
+        verify(repository).release(eq(KEY_ID), anyString());
+    }
+
+    private IdempotencyService.IdempotentResult<String> execute(Supplier<String> action) {
+        return idempotencyService.execute("event.register", "user-1", "retry-1", REQUEST, String.class, action);
+    }
+
+    private void keyAlreadyClaimed(String status, String requestHash) {
+        when(repository.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("duplicate key"));
+        when(repository.findById(KEY_ID)).thenReturn(Optional.of(record(status, requestHash)));
+    }
+
+    private IdempotencyRecord record(String status, String requestHash) {
+        return IdempotencyRecord.builder()
+                .id(KEY_ID)
+                .requestHash(requestHash)
+                .status(status)
+                .response(IdempotencyRecord.COMPLETED.equals(status) ? "\"registered\"" : null)
+                .build();
+    }
+
+    private String hash(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
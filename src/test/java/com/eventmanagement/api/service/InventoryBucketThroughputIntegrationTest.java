@@ -0,0 +1,120 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.InventoryBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Throughput of concurrent ticket reservations against real bucket documents as the inventory is split across
+ * more buckets. With one bucket every reservation updates the same document, like the sold count on the event;
+ * throughput should grow with the number of buckets until the threads no longer collide.
+ * Every run also checks that the buckets sell exactly their quantity. The number of reservations per run
+ * defaults to 2000 and can be changed with -Dbenchmark.inventory.reservations.
+ */
+@DataMongoTest
+@Testcontainers
+@Slf4j
+public class InventoryBucketThroughputIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:5.0.9");
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private InventoryBucketRepository inventoryBucketRepository;
+
+    private TicketInventory ticketInventory;
+
+    @BeforeEach
+    void setUp() {
+        inventoryBucketRepository.deleteAll();
+        ticketInventory = new TicketInventory(eventRepository, inventoryBucketRepository, mock(EventCache.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryBucketRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16, 64})
+    void reserveTicket_ConcurrentReservations_SellExactlyTheQuantity(int buckets) throws Exception {
+        // Given: the event's buckets, created as when it is published
+        int reservations = Integer.getInteger("benchmark.inventory.reservations", 2_000);
+        Event event = createEvent(buckets, reservations);
+        ticketInventory.changeStatus(event, "PUBLISHED");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When: as many reservations as there are tickets, each starting at a random bucket
+        long start = System.nanoTime();
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < reservations; i++) {
+            results.add(executor.submit(() -> ticketInventory.reserveTicket(event, "general", List.of(), null).isPresent()));
+        }
+        int reserved = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(1, TimeUnit.MINUTES)) {
+                reserved++;
+            }
+        }
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), 1);
+        executor.shutdown();
+
+        log.info("Reserved {} tickets across {} buckets with {} threads in {} ms ({} reservations/s)",
+                reserved, buckets, THREADS, elapsedMillis, reserved * 1000L / elapsedMillis);
+
+        // Then: every reservation found a ticket, and once sold out the next one is rejected
+        assertEquals(reservations, reserved);
+        assertFalse(ticketInventory.reserveTicket(event, "general", List.of(), null).isPresent());
+        assertEquals(Map.of("event-1", Map.of("general", reservations)), inventoryBucketRepository.sumSold(List.of("event-1")));
+        inventoryBucketRepository.findByEventId("event-1").forEach(bucket -> {
+            assertEquals(0, bucket.getAvailable());
+            assertEquals(bucket.getQuantity(), bucket.getSold());
+        });
+    }
+
+    private Event createEvent(int buckets, int quantity) {
+        return Event.builder()
+                .id("event-1")
+                .title("Stadium Concert")
+                .status("DRAFT")
+                .inventoryBuckets(buckets)
+                .ticketTypes(List.of(
+                        Event.TicketType.builder().id("general").name("General Admission").quantity(quantity).isAvailable(true).build()))
+                .build();
+    }
+}
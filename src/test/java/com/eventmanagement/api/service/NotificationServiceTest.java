@@ -0,0 +1,66 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.exception.ResourceNotFoundException;
+import com.eventmanagement.api.model.Notification;
+import com.eventmanagement.api.repository.NotificationRepository;
+import com.eventmanagement.api.repository.UserRepository;
+import com.eventmanagement.api.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for scoping notification operations to the current user and capping inboxes.
+ */
+public class NotificationServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        when(currentUserProvider.getUserId()).thenReturn("user-1");
+        notificationService = new NotificationService(notificationRepository, mock(UserRepository.class), currentUserProvider);
+        ReflectionTestUtils.setField(notificationService, "maxPerUser", 5);
+    }
+
+    @Test
+    void markNotificationAsRead_NotificationOfAnotherUser_NotFound() {
+        // Given
+        when(notificationRepository.markAsRead("notification-1", "user-1")).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> notificationService.markNotificationAsRead("notification-1"));
+    }
+
+    @Test
+    void deleteNotification_NotificationOfAnotherUser_NotFound() {
+        // Given
+        when(notificationRepository.deleteByIdAndUserId("notification-1", "user-1")).thenReturn(0L);
+
+        // When / Then
+        assertThrows(ResourceNotFoundException.class, () -> notificationService.deleteNotification("notification-1"));
+    }
+
+    @Test
+    void notify_NewNotification_TrimsInboxToLimit() {
+        // Given
+        when(notificationRepository.insert(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        notificationService.notify("user-2", "Reminder", "Starts tomorrow", "EVENT_REMINDER", "event-1");
+
+        // Then
+        verify(notificationRepository).trimToLimit("user-2", 5);
+    }
+}
@@ -0,0 +1,180 @@
+package com.eventmanagement.api.service;
+
+import com.eventmanagement.api.cache.EventCache;
+import com.eventmanagement.api.model.Event;
+import com.eventmanagement.api.model.InventoryBucket;
+import com.eventmanagement.api.repository.EventRepository;
+import com.eventmanagement.api.repository.InventoryBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for reserving tickets from the inventory buckets of events with sharded inventory.
+ */
+public class TicketInventoryTest {
+
+    private EventRepository eventRepository;
+    private InventoryBucketRepository inventoryBucketRepository;
+    private TicketInventory ticketInventory;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        inventoryBucketRepository = mock(InventoryBucketRepository.class);
+        ticketInventory = new TicketInventory(eventRepository, inventoryBucketRepository, mock(EventCache.class));
+    }
+
+    @Test
+    void reserveTicket_KeyedBucketSoldOut_FallsBackToSiblings() {
+        // Given
+        Event event = createEvent(4);
+        int first = TicketInventory.firstBucket("user-1", 4);
+        String keyedBucket = InventoryBucket.id("event-1", "general", first);
+        String nextBucket = InventoryBucket.id("event-1", "general", (first + 1) % 4);
+        when(inventoryBucketRepository.reserve(keyedBucket)).thenReturn(false);
+        when(inventoryBucketRepository.reserve(nextBucket)).thenReturn(true);
+
+        // When
+        Optional<Event> reserved = ticketInventory.reserveTicket(event, "general", List.of(), "user-1");
+
+        // Then
+        assertTrue(reserved.isPresent());
+        verify(inventoryBucketRepository, times(2)).reserve(anyString());
+        verify(eventRepository, never()).reserveTicket(anyString(), anyString(), any());
+    }
+
+    @Test
+    void reserveTicket_AllBucketsSoldOut_RejectedWithoutBookingSessions() {
+        // Given
+        Event event = createEvent(4);
+        when(inventoryBucketRepository.reserve(anyString())).thenReturn(false);
+
+        // When
+        Optional<Event> reserved = ticketInventory.reserveTicket(event, "general", List.of("session-1"), null);
+
+        // Then
+        assertFalse(reserved.isPresent());
+        verify(inventoryBucketRepository, times(4)).reserve(anyString());
+        verify(eventRepository, never()).reserveSessionSeats(anyString(), any());
+    }
+
+    @Test
+    void reserveTickets_SecondTicketTypeSoldOut_ReturnsSeatsAlreadyTaken() {
+        // Given
+        Event event = createEvent(2);
+        Map<String, Integer> seatsByTicketType = new LinkedHashMap<>();
+        seatsByTicketType.put("general", 2);
+        seatsByTicketType.put("vip", 1);
+        when(inventoryBucketRepository.reserve(anyString(), anyInt()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).contains(":general:"));
+
+        // When
+        Optional<Event> reserved = ticketInventory.reserveTickets(event, seatsByTicketType);
+
+        // Then
+        assertFalse(reserved.isPresent());
+        verify(inventoryBucketRepository).releaseSeats(InventoryBucket.id("event-1", "general", 0), 1);
+        verify(inventoryBucketRepository).releaseSeats(InventoryBucket.id("event-1", "general", 1), 1);
+    }
+
+    @Test
+    void reserveTickets_BucketShortOfItsShare_TakesRestFromBucketsWithTicketsLeft() {
+        // Given: bucket 0 is sold out, bucket 1 has tickets left
+        Event event = createEvent(4);
+        String soldOutBucket = InventoryBucket.id("event-1", "general", 0);
+        when(inventoryBucketRepository.reserve(anyString(), anyInt()))
+                .thenAnswer(invocation -> !soldOutBucket.equals(invocation.getArgument(0)));
+        when(inventoryBucketRepository.findByEventIdAndTicketTypeId("event-1", "general")).thenReturn(List.of(
+                InventoryBucket.builder().id(soldOutBucket).available(0).build(),
+                InventoryBucket.builder().id(InventoryBucket.id("event-1", "general", 1)).available(20).build()));
+
+        // When
+        Optional<Event> reserved = ticketInventory.reserveTickets(event, Map.of("general", 9));
+
+        // Then: one update per bucket for the even shares, and one for the share bucket 0 could not take
+        assertTrue(reserved.isPresent());
+        verify(inventoryBucketRepository, times(5)).reserve(anyString(), anyInt());
+        verify(inventoryBucketRepository, times(2)).reserve(eq(InventoryBucket.id("event-1", "general", 1)), anyInt());
+        verify(inventoryBucketRepository, never()).releaseSeats(anyString(), anyInt());
+    }
+
+    @Test
+    void updateTicketTypes_QuantityLowered_Throws() {
+        // Given
+        Event before = createEvent(4);
+        Event after = createEvent(4);
+        after.getTicketTypes().get(0).setQuantity(50);
+        when(inventoryBucketRepository.existsByEventId("event-1")).thenReturn(true);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> ticketInventory.updateTicketTypes(before, after));
+    }
+
+    @Test
+    void updateTicketTypes_TicketTypeMadeUnavailable_ClosesItsBuckets() {
+        // Given
+        Event before = createEvent(4);
+        Event after = createEvent(4);
+        after.getTicketTypes().get(1).setAvailable(false);
+        when(inventoryBucketRepository.existsByEventId("event-1")).thenReturn(true);
+
+        // When
+        ticketInventory.updateTicketTypes(before, after);
+
+        // Then
+        verify(inventoryBucketRepository).setOpen("event-1", List.of("vip"), false);
+        verify(inventoryBucketRepository, never()).setOpen(eq("event-1"), eq(List.of("general")), anyBoolean());
+    }
+
+    @Test
+    void releaseTicket_NotSharded_ReleasesOnEventWithoutQueryingBuckets() {
+        // Given
+        Event event = createEvent(0);
+        when(eventRepository.releaseTicket("event-1", "general", List.of())).thenReturn(true);
+
+        // When
+        boolean released = ticketInventory.releaseTicket(event, "general", List.of());
+
+        // Then
+        assertTrue(released);
+        verify(inventoryBucketRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void split_UnevenQuantity_SpreadsRemainderOverFirstBuckets() {
+        // When / Then
+        assertArrayEquals(new int[] {3, 3, 2, 2}, TicketInventory.split(10, 4));
+    }
+
+    private Event createEvent(int inventoryBuckets) {
+        return Event.builder()
+                .id("event-1")
+                .title("Stadium Concert")
+                .status("PUBLISHED")
+                .inventoryBuckets(inventoryBuckets)
+                .ticketTypes(List.of(
+                        Event.TicketType.builder().id("general").name("General Admission").quantity(100).isAvailable(true).build(),
+                        Event.TicketType.builder().id("vip").name("VIP").quantity(10).isAvailable(true).build()))
+                .build();
+    }
+}